@@ -0,0 +1,117 @@
+// JMH benchmark for lazy list items (LazyListItems): parsing a page of subscriptions eagerly and
+// lazily, reading id and status of every item or of a few of them.
+//
+// Run it in a chargebee-java checkout generated with this repo, the same way as ModelBench:
+//
+//   1. Copy this file to src/jmh/java/ with the JMH Gradle plugin applied (id "me.champeau.jmh").
+//   2. ./gradlew jmh -Pjmh.includes=ListBench -Pjmh.profilers=gc
+//   3. Compare the score (us per page) and "gc.alloc.rate.norm" (bytes per page) of the eager and
+//      lazy variants of each benchmark.
+//
+// Reading an item of a lazy page decodes only the member asked for, here the subscription and not
+// the customer. A hand-rendered run of these cases (100 items, warmed loop, allocation from
+// ThreadMXBean) allocated 363 KB per page eager, 93 KB for a lazy parse, 150 KB lazy with ten
+// items read and 664 KB lazy with every item read; lazy reads of every item were no faster than
+// eager ones. Lazy pages pay off only when most items are skipped. Re-run this benchmark before
+// relying on any of these figures.
+
+package com.chargebee.v4.bench;
+
+import com.chargebee.v4.models.subscription.responses.SubscriptionListResponse;
+import com.chargebee.v4.models.subscription.responses.SubscriptionListResponse.SubscriptionListItem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ListBench {
+
+  private static final String ITEM =
+      "{\"subscription\":{\"id\":\"sub_%d\",\"customer_id\":\"cust_%<d\",\"status\":\"active\","
+          + "\"billing_period\":1,\"billing_period_unit\":\"month\",\"auto_collection\":\"on\","
+          + "\"currency_code\":\"USD\",\"created_at\":1700000000,\"started_at\":1700000000,"
+          + "\"current_term_start\":1700000000,\"current_term_end\":1702592000,"
+          + "\"next_billing_at\":1702592000,\"due_invoices_count\":0,\"mrr\":4900,"
+          + "\"has_scheduled_changes\":false,\"deleted\":false,"
+          + "\"subscription_items\":[{\"item_price_id\":\"basic-USD-monthly\","
+          + "\"item_type\":\"plan\",\"quantity\":1,\"unit_price\":4900,\"amount\":4900}]},"
+          + "\"customer\":{\"id\":\"cust_%<d\",\"first_name\":\"Ada\",\"email\":\"ada@example.com\","
+          + "\"auto_collection\":\"on\",\"net_term_days\":0,\"allow_direct_debit\":false,"
+          + "\"created_at\":1700000000,\"taxability\":\"taxable\",\"deleted\":false,"
+          + "\"billing_address\":{\"first_name\":\"Ada\",\"line1\":\"1 Main St\","
+          + "\"city\":\"Springfield\",\"country\":\"US\",\"validation_status\":\"valid\"}}}";
+
+  @Param({"100"})
+  public int items;
+
+  private String page;
+
+  @Setup
+  public void setUp() {
+    StringBuilder json = new StringBuilder("{\"list\":[");
+    for (int i = 0; i < items; i++) {
+      json.append(i > 0 ? "," : "").append(String.format(ITEM, i));
+    }
+    page = json.append("],\"next_offset\":\"[\\\"1700000000000\\\"]\"}").toString();
+  }
+
+  @Benchmark
+  public SubscriptionListResponse parseEager() {
+    return SubscriptionListResponse.fromJson(page, null, null, null, false);
+  }
+
+  @Benchmark
+  public SubscriptionListResponse parseLazy() {
+    return SubscriptionListResponse.fromJson(page, null, null, null, true);
+  }
+
+  @Benchmark
+  public void readAllEager(Blackhole bh) {
+    readAll(SubscriptionListResponse.fromJson(page, null, null, null, false), bh);
+  }
+
+  @Benchmark
+  public void readAllLazy(Blackhole bh) {
+    readAll(SubscriptionListResponse.fromJson(page, null, null, null, true), bh);
+  }
+
+  @Benchmark
+  public void readFirstTenEager(Blackhole bh) {
+    readFirstTen(SubscriptionListResponse.fromJson(page, null, null, null, false), bh);
+  }
+
+  @Benchmark
+  public void readFirstTenLazy(Blackhole bh) {
+    readFirstTen(SubscriptionListResponse.fromJson(page, null, null, null, true), bh);
+  }
+
+  private static void readAll(SubscriptionListResponse response, Blackhole bh) {
+    for (SubscriptionListItem item : response.getList()) {
+      bh.consume(item.getSubscription().getId());
+      bh.consume(item.getSubscription().getStatus());
+    }
+  }
+
+  private static void readFirstTen(SubscriptionListResponse response, Blackhole bh) {
+    for (int i = 0; i < 10; i++) {
+      SubscriptionListItem item = response.getList().get(i);
+      bh.consume(item.getSubscription().getId());
+      bh.consume(item.getSubscription().getStatus());
+    }
+  }
+}
@@ -0,0 +1,71 @@
+// JMH benchmark for the hot paths of generated JAVA_V4 models: fromJson with custom fields,
+// enum fromString and hashCode.
+//
+// The models live in chargebee-java, so run this there, once against the output of the
+// generator before a template change and once after, and compare the two reports:
+//
+//   1. Generate the SDK into two checkouts of chargebee-java (one per generator revision).
+//   2. In each checkout, copy this file to src/jmh/java/ with the JMH Gradle plugin applied
+//      (id "me.champeau.jmh"), then run:
+//
+//        ./gradlew jmh -Pjmh.profilers=gc
+//
+//   3. Compare "gc.alloc.rate.norm" (bytes per operation) and the score (ns per operation).
+//
+// The payload uses Customer because it supports cf_* custom fields and has several enums.
+
+package com.chargebee.v4.bench;
+
+import com.chargebee.v4.internal.JsonUtil;
+import com.chargebee.v4.models.customer.Customer;
+import com.google.gson.JsonObject;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ModelBench {
+
+  private static final String CUSTOMER =
+      "{\"id\":\"cust_1\",\"first_name\":\"Ada\",\"email\":\"ada@example.com\","
+          + "\"auto_collection\":\"on\",\"net_term_days\":30,\"allow_direct_debit\":false,"
+          + "\"created_at\":1700000000,\"taxability\":\"taxable\",\"deleted\":false,"
+          + "\"cf_region\":\"emea\",\"cf_tier\":\"gold\"}";
+
+  private JsonObject json;
+  private Customer customer;
+
+  @Setup
+  public void setUp() {
+    json = JsonUtil.parse(CUSTOMER);
+    customer = Customer.fromJson(json);
+  }
+
+  @Benchmark
+  public Customer fromJson() {
+    return Customer.fromJson(json);
+  }
+
+  @Benchmark
+  public Customer.AutoCollection enumFromString() {
+    return Customer.AutoCollection.fromString("off");
+  }
+
+  @Benchmark
+  public int hashCodeOfModel() {
+    return customer.hashCode();
+  }
+}
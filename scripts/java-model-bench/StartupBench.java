@@ -0,0 +1,78 @@
+// Cold-start comparison of the default JAVA_V4 models and the table-codec ones (--table-codec).
+//
+// Startup is paid once per JVM, so this is a plain main run in a fresh JVM each time rather than
+// a JMH benchmark:
+//
+//   1. Generate two checkouts of chargebee-java from the same spec, one with and one without
+//      --table-codec, and build the jar in each (./gradlew jar).
+//   2. Copy this file to src/test/java/com/chargebee/v4/bench/ in each checkout, compile it
+//      against the jar and Gson, then run it several times:
+//
+//        java -Xshare:off -cp <sdk jar>:<gson jar>:<bench classes> \
+//            com.chargebee.v4.bench.StartupBench <sdk jar>
+//
+//   3. Compare the model class count and bytecode size, the time to load and initialise every
+//      model, the time of the first decode of each, and the classes the JVM loaded overall.
+//
+// Every top-level model is decoded once from an empty object, which runs each model's decoder
+// the way the first response of each resource would, without needing a payload per model.
+
+package com.chargebee.v4.bench;
+
+import com.google.gson.JsonObject;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+public class StartupBench {
+
+  private static final String MODELS = "com/chargebee/v4/models/";
+
+  public static void main(String[] args) throws Exception {
+    List<String> topLevel = new ArrayList<>();
+    int classes = 0;
+    long bytes = 0;
+    try (JarFile jar = new JarFile(new File(args[0]))) {
+      Enumeration<JarEntry> entries = jar.entries();
+      while (entries.hasMoreElements()) {
+        JarEntry entry = entries.nextElement();
+        String name = entry.getName();
+        if (!name.startsWith(MODELS) || !name.endsWith(".class")) {
+          continue;
+        }
+        classes++;
+        bytes += entry.getSize();
+        if (name.indexOf('$') < 0) {
+          topLevel.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+        }
+      }
+    }
+
+    ClassLoader loader = StartupBench.class.getClassLoader();
+    long start = System.nanoTime();
+    List<Method> decoders = new ArrayList<>();
+    for (String name : topLevel) {
+      Class<?> type = Class.forName(name, true, loader);
+      decoders.add(type.getMethod("fromJson", JsonObject.class));
+    }
+    long loaded = System.nanoTime();
+    for (Method decoder : decoders) {
+      decoder.invoke(null, new JsonObject());
+    }
+    long decoded = System.nanoTime();
+
+    System.out.printf("model classes in jar      %d%n", classes);
+    System.out.printf("model bytecode            %d KB%n", bytes / 1024);
+    System.out.printf(
+        "load + init %d models   %d ms%n", topLevel.size(), (loaded - start) / 1_000_000);
+    System.out.printf("first decode of each      %d ms%n", (decoded - loaded) / 1_000_000);
+    System.out.printf(
+        "classes loaded by the JVM %d%n",
+        ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount());
+  }
+}
@@ -0,0 +1,114 @@
+#!/usr/bin/env node
+// Compares the Zod validators (-l VALIDATOR_ZOD) with the compiled validators
+// (-l VALIDATOR_COMPILED) generated from the same spec.
+//
+// Both outputs are TypeScript; compile each to JavaScript first (e.g. `tsc` with
+// "module": "nodenext") and point this script at the emitted index.js files:
+//
+//   node scripts/validator-bench/bench.mjs \
+//     --zod ../chargebee-node/dist/schema/index.js \
+//     --compiled ../chargebee-node/dist/validators/index.js \
+//     [--payloads payloads.json] [--iterations 20000] [--cold-runs 15]
+//
+// --payloads is a JSON object mapping body type names (e.g. "CreateCustomerBody") to arrays of
+// sample payloads. Types without samples are validated against `{}`.
+//
+// Reported:
+//   * cold import: median wall time of importing each index.js in a fresh node process
+//   * per schema: validations per second for both, and whether they agree on success/failure
+
+import { spawnSync } from 'node:child_process';
+import { readFileSync } from 'node:fs';
+import { resolve } from 'node:path';
+import { pathToFileURL } from 'node:url';
+
+function parseArgs(argv) {
+  const args = { iterations: 20000, coldRuns: 15 };
+  for (let i = 0; i < argv.length; i += 2) {
+    const [flag, value] = [argv[i], argv[i + 1]];
+    if (flag === '--zod') args.zod = pathToFileURL(resolve(value)).href;
+    else if (flag === '--compiled') args.compiled = pathToFileURL(resolve(value)).href;
+    else if (flag === '--payloads') args.payloads = JSON.parse(readFileSync(value, 'utf8'));
+    else if (flag === '--iterations') args.iterations = Number(value);
+    else if (flag === '--cold-runs') args.coldRuns = Number(value);
+    else throw new Error(`Unknown option ${flag}`);
+  }
+  if (!args.zod || !args.compiled) {
+    throw new Error('Both --zod and --compiled are required');
+  }
+  return args;
+}
+
+function coldImportMillis(url, runs) {
+  const script =
+    'const start = process.hrtime.bigint();' +
+    `await import(${JSON.stringify(url)});` +
+    'console.log(Number(process.hrtime.bigint() - start) / 1e6);';
+  const samples = [];
+  for (let i = 0; i < runs; i++) {
+    const child = spawnSync(process.execPath, ['--input-type=module', '-e', script], {
+      encoding: 'utf8',
+    });
+    if (child.status !== 0) throw new Error(child.stderr);
+    samples.push(Number(child.stdout.trim()));
+  }
+  samples.sort((a, b) => a - b);
+  return samples[Math.floor(samples.length / 2)];
+}
+
+function opsPerSecond(validate, payloads, iterations) {
+  for (let i = 0; i < Math.min(iterations, 2000); i++) validate(payloads[i % payloads.length]);
+  const start = process.hrtime.bigint();
+  for (let i = 0; i < iterations; i++) validate(payloads[i % payloads.length]);
+  const seconds = Number(process.hrtime.bigint() - start) / 1e9;
+  return iterations / seconds;
+}
+
+const args = parseArgs(process.argv.slice(2));
+
+const zodCold = coldImportMillis(args.zod, args.coldRuns);
+const compiledCold = coldImportMillis(args.compiled, args.coldRuns);
+console.log(`cold import (median of ${args.coldRuns})`);
+console.log(`  zod       ${zodCold.toFixed(1)} ms`);
+console.log(`  compiled  ${compiledCold.toFixed(1)} ms`);
+console.log();
+
+const zod = await import(args.zod);
+const compiled = await import(args.compiled);
+
+const rows = [];
+for (const [name, schema] of Object.entries(zod)) {
+  if (!name.endsWith('BodySchema')) continue;
+  const typeName = name.slice(0, -'Schema'.length);
+  const validate = compiled[`validate${typeName}`];
+  if (typeof validate !== 'function') continue;
+
+  const payloads = args.payloads?.[typeName] ?? [{}];
+  const disagreements = payloads.filter(
+    (p) => schema.safeParse(p).success !== validate(p).success,
+  ).length;
+  rows.push({
+    typeName,
+    zod: opsPerSecond((p) => schema.safeParse(p), payloads, args.iterations),
+    compiled: opsPerSecond(validate, payloads, args.iterations),
+    disagreements,
+  });
+}
+
+const width = Math.max(...rows.map((r) => r.typeName.length), 'schema'.length);
+console.log(`${'schema'.padEnd(width)}  ${'zod ops/s'.padStart(12)}  ${'compiled ops/s'.padStart(14)}  speedup  agree`);
+let logSpeedup = 0;
+for (const row of rows) {
+  const speedup = row.compiled / row.zod;
+  logSpeedup += Math.log(speedup);
+  console.log(
+    `${row.typeName.padEnd(width)}  ${row.zod.toFixed(0).padStart(12)}  ` +
+      `${row.compiled.toFixed(0).padStart(14)}  ${speedup.toFixed(1).padStart(6)}x  ` +
+      (row.disagreements === 0 ? 'yes' : `NO (${row.disagreements})`),
+  );
+}
+if (rows.length > 0) {
+  console.log();
+  console.log(`${rows.length} schemas, geometric mean speedup ${Math.exp(logSpeedup / rows.length).toFixed(1)}x`);
+}
+if (rows.some((r) => r.disagreements > 0)) process.exitCode = 1;
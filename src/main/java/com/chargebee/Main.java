@@ -4,6 +4,8 @@ import com.chargebee.openapi.ApiVersion;
 import com.chargebee.openapi.Spec;
 import com.chargebee.sdk.FileOp;
 import com.chargebee.sdk.Language;
+import com.chargebee.sdk.Shard;
+import com.chargebee.sdk.ShardMerger;
 import com.chargebee.sdk.changelog.ChangeLog;
 import com.chargebee.sdk.changelog.ChangeLogDocs;
 import com.chargebee.sdk.dotnet.Dotnet;
@@ -12,6 +14,8 @@ import com.chargebee.sdk.go.v4.Go_V4;
 import com.chargebee.sdk.java.GenerationMode;
 import com.chargebee.sdk.java.JarType;
 import com.chargebee.sdk.java.Java;
+import com.chargebee.sdk.java.JavaCompileVerifier;
+import com.chargebee.sdk.java.JavaJarWriter;
 import com.chargebee.sdk.java.v4.JavaV4;
 import com.chargebee.sdk.java.v4.JavaV4Internal;
 import com.chargebee.sdk.node.Node;
@@ -24,19 +28,25 @@ import com.chargebee.sdk.ruby.Ruby;
 import com.chargebee.sdk.ts.TypeScript;
 import com.chargebee.sdk.ts.typing.TypeScriptTyping;
 import com.chargebee.sdk.ts.typing.V3.TypeScriptTypings;
+import com.chargebee.sdk.validator.ValidatorCompiled;
 import com.chargebee.sdk.validator.ValidatorZod;
+import com.chargebee.sdk.validator.emitter.zod.ZodSchemaConstruction;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.Callable;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
 
 @Command(
     name = "",
@@ -52,11 +62,109 @@ class Generate implements Callable<Integer> {
   @Option(names = "-i", description = "Open API Spec file")
   String openAPISpecFilePath;
 
+  @Option(
+      names = "--changelog-specs",
+      split = ",",
+      description =
+          "Comma separated Open API Spec files, oldest first. Generates one CHANGELOG section per"
+              + " version instead of reading the CHANGELOG_SPEC_* environment variables. Supported"
+              + " by CHANGELOG only; CHANGELOG_DOCS still reads the environment variables")
+  List<String> changelogSpecFilePaths;
+
+  @Option(
+      names = "--verify-compile",
+      description =
+          "Compile the generated Java sources in memory before writing them and fail on errors."
+              + " Supported by the Java languages only")
+  boolean verifyCompile;
+
+  @Option(
+      names = "--verify-classpath",
+      split = ",",
+      description =
+          "Comma separated jars or class directories the generated Java sources compile against"
+              + " (--verify-compile, --classes-jar)")
+  List<Path> verifyClasspath = List.of();
+
+  @Option(
+      names = "--verify-sourcepath",
+      split = ",",
+      description =
+          "Comma separated source roots of the hand-written SDK code; generated files take"
+              + " precedence over files with the same name")
+  List<Path> verifySourcepath = List.of();
+
+  @Option(
+      names = "--sources-jar",
+      description =
+          "Write the generated files into this jar instead of the output directory; -o is only"
+              + " the root for entry names of non-Java files. Supported by the Java languages only")
+  Path sourcesJar;
+
+  @Option(
+      names = "--classes-jar",
+      description =
+          "Compile the generated Java sources in-process and write the classes into this jar"
+              + " instead of the output directory. Supported by the Java languages only")
+  Path classesJar;
+
+  @Option(
+      names = "--shard",
+      description =
+          "Generate only slice i of n (e.g. 2/4) of the resources; combine the shard outputs with"
+              + " the merge command. Supported by JAVA_V4 and JAVA_V4_INTERNAL_HVC")
+  String shard;
+
+  @Option(
+      names = "--lean-responses",
+      description =
+          "Make generated responses drop the HTTP body and keep only the status and a few headers"
+              + " unless a site opts out. Supported by JAVA_V4 and JAVA_V4_INTERNAL_HVC")
+  boolean leanResponses;
+
+  @Option(
+      names = "--table-codec",
+      description =
+          "Generate models that share one table-driven decoder, equals and toString instead of"
+              + " unrolling them per class. Supported by JAVA_V4 and JAVA_V4_INTERNAL_HVC")
+  boolean tableCodec;
+
   @Override
   public Integer call() throws Exception {
     Language language = Lang.sdkLanguage(lang);
 
-    if (lang == Lang.CHANGELOG || lang == Lang.CHANGELOG_DOCS) {
+    if (changelogSpecFilePaths != null && lang != Lang.CHANGELOG) {
+      System.err.println(
+          "\u001B[31m❌ Error: --changelog-specs is not supported for " + lang + "\u001B[0m");
+      System.err.println(
+          "\u001B[36m💡 Only CHANGELOG generates sections from a list of spec files; drop the"
+              + " option, and for CHANGELOG_DOCS set CHANGELOG_SPEC_LATEST_URL and"
+              + " CHANGELOG_SPEC_LAST_RELEASED_URL instead\u001B[0m");
+      return 1;
+    }
+    // Language-scoped options are checked here, before the CHANGELOG branches return
+    if (shard != null && !applyShard(language)) {
+      return 1;
+    }
+    if (leanResponses && !applyLeanResponses(language)) {
+      return 1;
+    }
+    if (tableCodec && !applyTableCodec(language)) {
+      return 1;
+    }
+    if (verifyCompile && !requireJavaOutput(language, "--verify-compile")) {
+      return 1;
+    }
+    if (sourcesJar != null && !requireJavaOutput(language, "--sources-jar")) {
+      return 1;
+    }
+    if (classesJar != null && !requireJavaOutput(language, "--classes-jar")) {
+      return 1;
+    }
+
+    if (lang == Lang.CHANGELOG && changelogSpecFilePaths != null) {
+      return generateChangeLogRange(language);
+    } else if (lang == Lang.CHANGELOG || lang == Lang.CHANGELOG_DOCS) {
       String latestSpecUrl = System.getenv("CHANGELOG_SPEC_LATEST_URL");
       String lastReleasedSpecUrl = System.getenv("CHANGELOG_SPEC_LAST_RELEASED_URL");
 
@@ -69,12 +177,10 @@ class Generate implements Callable<Integer> {
         return 1;
       }
 
-      var openAPILatest =
-          new OpenAPIV3Parser().readLocation(latestSpecUrl, null, null).getOpenAPI();
-      var openAPILastReleased =
-          new OpenAPIV3Parser().readLocation(lastReleasedSpecUrl, null, null).getOpenAPI();
-      new JsonSchemaUpcaster(openAPILatest).upcastAllSchemas();
-      new JsonSchemaUpcaster(openAPILastReleased).upcastAllSchemas();
+      List<OpenAPI> specs =
+          SpecIngestion.fromEnvironment().ingest(List.of(lastReleasedSpecUrl, latestSpecUrl));
+      var openAPILastReleased = specs.get(0);
+      var openAPILatest = specs.get(1);
 
       if (language.cleanDirectoryBeforeGenerate()) {
         cleanDirectory(Paths.get(outputDirectoryPath));
@@ -113,10 +219,21 @@ class Generate implements Callable<Integer> {
       var openAPI = new OpenAPIV3Parser().read(openAPISpecFilePath);
       new JsonSchemaUpcaster(openAPI).upcastAllSchemas();
 
-      if (language.cleanDirectoryBeforeGenerate()) {
+      boolean jarOutput = sourcesJar != null || classesJar != null;
+      if (language.cleanDirectoryBeforeGenerate() && !jarOutput) {
         cleanDirectory(Paths.get(outputDirectoryPath));
       }
       List<FileOp> fileOps = language.generate(outputDirectoryPath, new Spec(openAPI));
+      if (shard != null) {
+        fileOps = new ArrayList<>(fileOps);
+        fileOps.add(ShardMerger.marker(outputDirectoryPath, Shard.parse(shard)));
+      }
+      if (verifyCompile && !verifyGeneratedJava(fileOps)) {
+        return 1;
+      }
+      if (jarOutput) {
+        return writeJars(fileOps);
+      }
       for (var fileOp : fileOps) {
         fileOp.exec();
       }
@@ -125,6 +242,171 @@ class Generate implements Callable<Integer> {
     return 0;
   }
 
+  private Integer generateChangeLogRange(Language language) throws Exception {
+    if (changelogSpecFilePaths.size() < 2) {
+      System.err.println(
+          "\u001B[31m❌ Error: At least two spec files are required for --changelog-specs\u001B[0m");
+      System.err.println(
+          "\u001B[36m💡 Please list the spec files oldest first, separated by commas\u001B[0m");
+      return 1;
+    }
+    for (String specFilePath : changelogSpecFilePaths) {
+      File specFile = new File(specFilePath);
+      if (!specFile.exists() || !specFile.canRead()) {
+        System.err.println("\u001B[31m❌ Error: Cannot read OpenAPI specification file\u001B[0m");
+        System.err.println("\u001B[33m📁 File path: \u001B[0m" + specFilePath);
+        System.err.println("\u001B[36m💡 Please ensure the file exists and is readable.\u001B[0m");
+        return 1;
+      }
+    }
+
+    long start = System.nanoTime();
+    List<Spec> versions = new ArrayList<>();
+    for (OpenAPI openAPI : SpecIngestion.fromEnvironment().ingest(changelogSpecFilePaths)) {
+      versions.add(new Spec(openAPI));
+    }
+    long parsedAt = System.nanoTime();
+
+    List<String> versionLabels = new ArrayList<>();
+    for (String specFilePath : changelogSpecFilePaths) {
+      String fileName = Paths.get(specFilePath).getFileName().toString();
+      int extension = fileName.lastIndexOf('.');
+      versionLabels.add(extension > 0 ? fileName.substring(0, extension) : fileName);
+    }
+
+    FileOp fileOp = language.generate(outputDirectoryPath, versionLabels, versions);
+    fileOp.exec();
+    long doneAt = System.nanoTime();
+
+    System.out.printf(
+        "⏱️ Parsed %d specs in %d ms, generated %d changelog sections in %d ms (total %d ms)%n",
+        versions.size(),
+        (parsedAt - start) / 1_000_000,
+        versions.size() - 1,
+        (doneAt - parsedAt) / 1_000_000,
+        (doneAt - start) / 1_000_000);
+    return 0;
+  }
+
+  private boolean applyShard(Language language) {
+    if (!(language instanceof JavaV4 javaV4)) {
+      System.err.println("\u001B[31m❌ Error: --shard is not supported for " + lang + "\u001B[0m");
+      System.err.println(
+          "\u001B[36m💡 Sharded generation is available for JAVA_V4 and"
+              + " JAVA_V4_INTERNAL_HVC\u001B[0m");
+      return false;
+    }
+    try {
+      javaV4.withShard(Shard.parse(shard));
+    } catch (IllegalArgumentException e) {
+      System.err.println("\u001B[31m❌ Error: " + e.getMessage() + "\u001B[0m");
+      System.err.println("\u001B[36m💡 Use --shard i/n, e.g. --shard 1/4\u001B[0m");
+      return false;
+    }
+    return true;
+  }
+
+  private boolean applyLeanResponses(Language language) {
+    if (!(language instanceof JavaV4 javaV4)) {
+      System.err.println(
+          "\u001B[31m❌ Error: --lean-responses is not supported for " + lang + "\u001B[0m");
+      System.err.println(
+          "\u001B[36m💡 Lean responses are available for JAVA_V4 and"
+              + " JAVA_V4_INTERNAL_HVC\u001B[0m");
+      return false;
+    }
+    javaV4.withLeanResponses(true);
+    return true;
+  }
+
+  private boolean applyTableCodec(Language language) {
+    if (!(language instanceof JavaV4 javaV4)) {
+      System.err.println(
+          "\u001B[31m❌ Error: --table-codec is not supported for " + lang + "\u001B[0m");
+      System.err.println(
+          "\u001B[36m💡 Table-codec models are available for JAVA_V4 and"
+              + " JAVA_V4_INTERNAL_HVC\u001B[0m");
+      return false;
+    }
+    javaV4.withTableCodec(true);
+    return true;
+  }
+
+  private boolean requireJavaOutput(Language language, String option) {
+    if (!(language instanceof Java || language instanceof JavaV4)) {
+      System.err.println(
+          "\u001B[31m❌ Error: " + option + " is not supported for " + lang + "\u001B[0m");
+      System.err.println(
+          "\u001B[36m💡 Only JAVA_V3, JAVA_V4 and the JAVA_*INTERNAL* languages generate Java"
+              + " sources\u001B[0m");
+      return false;
+    }
+    return true;
+  }
+
+  private boolean verifyGeneratedJava(List<FileOp> fileOps) throws IOException {
+    long start = System.nanoTime();
+    JavaCompileVerifier.Report report =
+        new JavaCompileVerifier()
+            .withClasspath(verifyClasspath)
+            .withSourcepath(verifySourcepath)
+            .verify(fileOps);
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    if (report.ok()) {
+      System.out.printf(
+          "✅ Compiled %d generated Java files in %d packages in %d ms%n",
+          report.filesChecked(), report.packagesChecked(), elapsedMillis);
+      return true;
+    }
+
+    printCompileErrors(report, elapsedMillis);
+    return false;
+  }
+
+  private Integer writeJars(List<FileOp> fileOps) throws IOException {
+    JavaJarWriter jarWriter =
+        new JavaJarWriter().withClasspath(verifyClasspath).withSourcepath(verifySourcepath);
+    if (classesJar != null) {
+      long start = System.nanoTime();
+      JavaCompileVerifier.Report report =
+          jarWriter.writeClasses(fileOps, outputDirectoryPath, classesJar);
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      if (!report.ok()) {
+        printCompileErrors(report, elapsedMillis);
+        return 1;
+      }
+      System.out.printf(
+          "📦 Compiled %d Java files into %s in %d ms%n",
+          report.filesChecked(), classesJar, elapsedMillis);
+    }
+    if (sourcesJar != null) {
+      long start = System.nanoTime();
+      int entries = jarWriter.writeSources(fileOps, outputDirectoryPath, sourcesJar);
+      System.out.printf(
+          "📦 Wrote %d files into %s in %d ms%n",
+          entries, sourcesJar, (System.nanoTime() - start) / 1_000_000);
+    }
+    return 0;
+  }
+
+  private static void printCompileErrors(JavaCompileVerifier.Report report, long elapsedMillis) {
+    System.err.printf(
+        "\u001B[31m❌ Error: %d compile errors in %d of %d generated Java files (%d ms)\u001B[0m%n",
+        report.errorCount(), report.errors().size(), report.filesChecked(), elapsedMillis);
+    report
+        .errors()
+        .forEach(
+            (file, messages) -> {
+              System.err.println("\u001B[33m📁 " + file + "\u001B[0m");
+              messages.forEach(message -> System.err.println("   " + message));
+            });
+    System.err.println(
+        "\u001B[36m💡 Nothing was written. Pass the hand-written SDK sources with"
+            + " --verify-sourcepath or its dependencies with --verify-classpath if the errors are"
+            + " unresolved symbols.\u001B[0m");
+  }
+
   private static void cleanDirectory(Path directoryPath) throws IOException {
     Files.createDirectories(directoryPath);
     Files.walk(directoryPath)
@@ -135,6 +417,39 @@ class Generate implements Callable<Integer> {
   }
 }
 
+@Command(
+    name = "merge",
+    description =
+        "Combine the output directories of a --shard i/n run into the final tree. Fails unless"
+            + " every shard is present once and no two shards wrote different content to a file")
+class MergeShards implements Callable<Integer> {
+  @Option(names = "-o", required = true, description = "Output directory path")
+  Path outputDirectoryPath;
+
+  @Parameters(arity = "1..*", description = "Output directories of the shards")
+  List<Path> shardDirectories;
+
+  @Override
+  public Integer call() throws Exception {
+    long start = System.nanoTime();
+    int files;
+    try {
+      files = new ShardMerger().merge(shardDirectories, outputDirectoryPath);
+    } catch (ShardMerger.MergeException e) {
+      System.err.println("\u001B[31m❌ Error: Cannot merge shards\u001B[0m");
+      System.err.println("\u001B[33m" + e.getMessage() + "\u001B[0m");
+      return 1;
+    }
+    System.out.printf(
+        "🧩 Merged %d shards (%d files) into %s in %d ms%n",
+        shardDirectories.size(),
+        files,
+        outputDirectoryPath,
+        (System.nanoTime() - start) / 1_000_000);
+    return 0;
+  }
+}
+
 enum Lang {
   CHANGELOG,
   CHANGELOG_DOCS,
@@ -158,7 +473,9 @@ enum Lang {
   JAVA_INTERNAL_HVC,
   JAVA_INTERNAL_HVC_V2,
   JAVA_V4_INTERNAL_HVC,
-  VALIDATOR_ZOD;
+  VALIDATOR_ZOD,
+  VALIDATOR_ZOD_LAZY,
+  VALIDATOR_COMPILED;
 
   public static Language sdkLanguage(Lang lang) {
     if (lang == Lang.TYPESCRIPT_TYPINGS_V3) {
@@ -227,6 +544,12 @@ enum Lang {
     if (lang == Lang.VALIDATOR_ZOD) {
       return new ValidatorZod();
     }
+    if (lang == Lang.VALIDATOR_ZOD_LAZY) {
+      return new ValidatorZod(ZodSchemaConstruction.LAZY);
+    }
+    if (lang == Lang.VALIDATOR_COMPILED) {
+      return new ValidatorCompiled();
+    }
     if (lang == Lang.CHANGELOG_DOCS) {
       return new ChangeLogDocs();
     }
@@ -236,7 +559,11 @@ enum Lang {
 
 public class Main {
   public static void main(String[] args) {
-    int exitCode = new CommandLine(new Generate()).execute(args);
+    // Dispatched by hand: as a picocli subcommand, merge would inherit Generate's required options.
+    int exitCode =
+        args.length > 0 && args[0].equals("merge")
+            ? new CommandLine(new MergeShards()).execute(Arrays.copyOfRange(args, 1, args.length))
+            : new CommandLine(new Generate()).execute(args);
     System.exit(exitCode);
   }
 }
@@ -0,0 +1,202 @@
+package com.chargebee;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads OpenAPI specs from URLs or local files, parsing and upcasting each one on its own thread.
+ *
+ * <p>When a cache directory is configured, the body of every HTTP(S) response is stored there
+ * together with its {@code ETag} and {@code Last-Modified} validators. Later runs send a
+ * conditional request and reuse the stored body on {@code 304 Not Modified}.
+ */
+public final class SpecIngestion {
+
+  static final String CACHE_DIR_ENV = "CHANGELOG_SPEC_CACHE_DIR";
+
+  private static final String BODY_SUFFIX = ".body";
+  private static final String ETAG_SUFFIX = ".etag";
+  private static final String LAST_MODIFIED_SUFFIX = ".last-modified";
+  private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+  private final HttpClient httpClient;
+  private final Path cacheDir;
+
+  /**
+   * @param httpClient client used for HTTP(S) locations
+   * @param cacheDir directory for fetched spec bodies, or {@code null} to always download
+   */
+  public SpecIngestion(HttpClient httpClient, Path cacheDir) {
+    this.httpClient = httpClient;
+    this.cacheDir = cacheDir;
+  }
+
+  /** Uses {@value #CACHE_DIR_ENV} as the cache directory when it is set. */
+  public static SpecIngestion fromEnvironment() {
+    String cacheDir = System.getenv(CACHE_DIR_ENV);
+    return new SpecIngestion(
+        HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(TIMEOUT)
+            .build(),
+        cacheDir == null || cacheDir.isBlank() ? null : Paths.get(cacheDir));
+  }
+
+  /**
+   * Fetches, parses and upcasts every location concurrently.
+   *
+   * @return the specs in the order of {@code locations}
+   * @throws IOException if any spec cannot be fetched or parsed
+   */
+  public List<OpenAPI> ingest(List<String> locations) throws IOException {
+    if (locations.isEmpty()) {
+      return List.of();
+    }
+    int threads = Math.min(locations.size(), Runtime.getRuntime().availableProcessors());
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(threads, 1));
+    try {
+      List<Future<OpenAPI>> pending = new ArrayList<>();
+      for (String location : locations) {
+        pending.add(executor.submit(() -> ingest(location)));
+      }
+      List<OpenAPI> specs = new ArrayList<>();
+      for (Future<OpenAPI> spec : pending) {
+        specs.add(await(spec));
+      }
+      return specs;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /** Fetches, parses and upcasts a single location on the calling thread. */
+  public OpenAPI ingest(String location) throws IOException {
+    SwaggerParseResult result =
+        isRemote(location)
+            ? new OpenAPIV3Parser().readContents(fetch(URI.create(location)), null, null, location)
+            : new OpenAPIV3Parser().readLocation(location, null, null);
+    OpenAPI openAPI = result == null ? null : result.getOpenAPI();
+    if (openAPI == null) {
+      throw new IOException(
+          "Could not parse OpenAPI spec from "
+              + location
+              + (result == null ? "" : ": " + result.getMessages()));
+    }
+    new JsonSchemaUpcaster(openAPI).upcastAllSchemas();
+    return openAPI;
+  }
+
+  String fetch(URI uri) throws IOException {
+    Path body = cacheFile(uri, BODY_SUFFIX);
+    Path etag = cacheFile(uri, ETAG_SUFFIX);
+    Path lastModified = cacheFile(uri, LAST_MODIFIED_SUFFIX);
+
+    HttpRequest.Builder request = HttpRequest.newBuilder(uri).timeout(TIMEOUT).GET();
+    if (body != null && Files.isRegularFile(body)) {
+      if (Files.isRegularFile(etag)) {
+        request.header("If-None-Match", Files.readString(etag));
+      }
+      if (Files.isRegularFile(lastModified)) {
+        request.header("If-Modified-Since", Files.readString(lastModified));
+      }
+    }
+
+    HttpResponse<String> response;
+    try {
+      response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while fetching " + uri, e);
+    }
+
+    if (response.statusCode() == 304 && body != null && Files.isRegularFile(body)) {
+      return Files.readString(body, StandardCharsets.UTF_8);
+    }
+    if (response.statusCode() / 100 != 2) {
+      throw new IOException("Fetching " + uri + " failed with HTTP " + response.statusCode());
+    }
+    if (body != null) {
+      store(body, response.body());
+      storeHeader(response, "ETag", etag);
+      storeHeader(response, "Last-Modified", lastModified);
+    }
+    return response.body();
+  }
+
+  private Path cacheFile(URI uri, String suffix) {
+    if (cacheDir == null) {
+      return null;
+    }
+    return cacheDir.resolve(sha256(uri.toString()) + suffix);
+  }
+
+  private static void storeHeader(HttpResponse<?> response, String header, Path file)
+      throws IOException {
+    var value = response.headers().firstValue(header);
+    if (value.isPresent()) {
+      store(file, value.get());
+    } else {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static void store(Path file, String content) throws IOException {
+    Files.createDirectories(file.getParent());
+    Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+    Files.writeString(temp, content, StandardCharsets.UTF_8);
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static boolean isRemote(String location) {
+    String lower = location.toLowerCase();
+    return lower.startsWith("http://") || lower.startsWith("https://");
+  }
+
+  private static String sha256(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private static <T> T await(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while ingesting specs", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IOException("Failed to ingest spec", cause);
+    }
+  }
+}
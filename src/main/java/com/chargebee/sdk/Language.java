@@ -110,6 +110,13 @@ public abstract class Language implements DataType {
     return generateChangeLog(outputDirectoryPath, oldVersion, newerVersion);
   }
 
+  public FileOp generate(
+      String outputDirectoryPath, List<String> versionLabels, List<Spec> versions)
+      throws IOException {
+    initialise();
+    return generateChangeLogs(outputDirectoryPath, versionLabels, versions);
+  }
+
   protected Map<String, Object> resourceResponses(List<Resource> resources) {
     List<Map<String, Object>> responseMap =
         resources.stream()
@@ -192,6 +199,12 @@ public abstract class Language implements DataType {
     return null;
   }
 
+  protected FileOp generateChangeLogs(
+      String outputDirectoryPath, List<String> versionLabels, List<Spec> versions)
+      throws IOException {
+    return null;
+  }
+
   public boolean cleanDirectoryBeforeGenerate() {
     return true;
   }
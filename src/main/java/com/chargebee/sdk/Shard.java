@@ -0,0 +1,54 @@
+package com.chargebee.sdk;
+
+import java.util.Locale;
+
+/**
+ * One slice of a sharded generation run, {@code --shard index/count} with a 1-based index.
+ *
+ * <p>Resources are assigned by a stable hash of their name, normalised so that {@code
+ * payment_source}, {@code paymentSource} and {@code PaymentSource} land on the same shard. Every
+ * shard of the same spec therefore agrees on ownership without coordinating. Files that depend on
+ * every resource (registries, client methods, shared enums) belong to shard 1.
+ */
+public record Shard(int index, int count) {
+
+  /** The unsharded run: owns every resource and the global files. */
+  public static final Shard ALL = new Shard(1, 1);
+
+  public Shard {
+    if (count < 1 || index < 1 || index > count) {
+      throw new IllegalArgumentException(
+          "Shard must be i/n with 1 <= i <= n, got " + index + "/" + count);
+    }
+  }
+
+  /** Parses {@code "i/n"}, e.g. {@code "2/4"}. */
+  public static Shard parse(String value) {
+    String[] parts = value.trim().split("/", -1);
+    if (parts.length != 2) {
+      throw new IllegalArgumentException("Shard must be i/n, got " + value);
+    }
+    try {
+      return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Shard must be i/n, got " + value, e);
+    }
+  }
+
+  public boolean owns(String resource) {
+    return count == 1 || Math.floorMod(normalise(resource).hashCode(), count) == index - 1;
+  }
+
+  public boolean ownsGlobalFiles() {
+    return index == 1;
+  }
+
+  private static String normalise(String resource) {
+    return resource.replace("_", "").replace("-", "").toLowerCase(Locale.ROOT);
+  }
+
+  @Override
+  public String toString() {
+    return index + "/" + count;
+  }
+}
@@ -0,0 +1,114 @@
+package com.chargebee.sdk;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Combines the output directories of a sharded run ({@code --shard i/n}) into the final tree.
+ *
+ * <p>Each shard leaves a {@value #MARKER_FILE} file naming its slice. The merge refuses to run
+ * unless every slice of the same run is present exactly once, and refuses files that two shards
+ * generated with different content, so a successful merge has the same files as an unsharded run.
+ */
+public class ShardMerger {
+
+  public static final String MARKER_FILE = ".shard";
+
+  /** The marker a shard writes next to its output. */
+  public static FileOp marker(String outputDirectoryPath, Shard shard) {
+    return new FileOp.WriteString(outputDirectoryPath, MARKER_FILE, shard + "\n");
+  }
+
+  /** Thrown when the shard directories don't add up to one complete run. */
+  public static class MergeException extends Exception {
+    public MergeException(String message) {
+      super(message);
+    }
+  }
+
+  /** Copies the files of every shard into {@code outputDirectory}; returns the number copied. */
+  public int merge(List<Path> shardDirectories, Path outputDirectory)
+      throws IOException, MergeException {
+    checkComplete(shardDirectories);
+
+    Map<Path, Path> sources = new TreeMap<>();
+    List<String> conflicts = new ArrayList<>();
+    for (Path shardDirectory : shardDirectories) {
+      for (Path file : regularFiles(shardDirectory)) {
+        Path relative = shardDirectory.relativize(file);
+        if (relative.toString().equals(MARKER_FILE)) {
+          continue;
+        }
+        Path previous = sources.putIfAbsent(relative, file);
+        if (previous != null && Files.mismatch(previous, file) != -1) {
+          conflicts.add(relative + " (" + previous + " vs " + file + ")");
+        }
+      }
+    }
+    if (!conflicts.isEmpty()) {
+      throw new MergeException(
+          "Shards generated different content for:\n  " + String.join("\n  ", conflicts));
+    }
+
+    for (Map.Entry<Path, Path> entry : sources.entrySet()) {
+      Path target = outputDirectory.resolve(entry.getKey());
+      Files.createDirectories(target.getParent());
+      Files.copy(entry.getValue(), target, StandardCopyOption.REPLACE_EXISTING);
+    }
+    return sources.size();
+  }
+
+  private static void checkComplete(List<Path> shardDirectories)
+      throws IOException, MergeException {
+    if (shardDirectories.isEmpty()) {
+      throw new MergeException("No shard directories given");
+    }
+    Map<Integer, Path> byIndex = new TreeMap<>();
+    int count = -1;
+    for (Path shardDirectory : shardDirectories) {
+      Path marker = shardDirectory.resolve(MARKER_FILE);
+      if (!Files.isRegularFile(marker)) {
+        throw new MergeException(
+            shardDirectory + " is not a shard output (no " + MARKER_FILE + ")");
+      }
+      Shard shard;
+      try {
+        shard = Shard.parse(Files.readString(marker));
+      } catch (IllegalArgumentException e) {
+        throw new MergeException(marker + ": " + e.getMessage());
+      }
+      if (count != -1 && shard.count() != count) {
+        throw new MergeException(
+            shardDirectory + " is shard " + shard + " but other shards are of " + count);
+      }
+      count = shard.count();
+      Path duplicate = byIndex.put(shard.index(), shardDirectory);
+      if (duplicate != null) {
+        throw new MergeException(
+            "Shard " + shard + " given twice: " + duplicate + " and " + shardDirectory);
+      }
+    }
+    if (byIndex.size() != count) {
+      List<String> missing = new ArrayList<>();
+      for (int i = 1; i <= count; i++) {
+        if (!byIndex.containsKey(i)) {
+          missing.add(i + "/" + count);
+        }
+      }
+      throw new MergeException("Missing shards " + String.join(", ", missing));
+    }
+  }
+
+  private static List<Path> regularFiles(Path directory) throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      return files.filter(Files::isRegularFile).sorted().toList();
+    }
+  }
+}
@@ -40,6 +40,13 @@ public class ChangeLog extends Language {
     return generators.get("changelog").generate(outputPath, oldVersion, newerVersion);
   }
 
+  @Override
+  protected FileOp generateChangeLogs(
+      String outputPath, List<String> versionLabels, List<Spec> versions) throws IOException {
+    this.generators = initializeGenerators();
+    return generators.get("changelog").generateRange(outputPath, versionLabels, versions);
+  }
+
   public ObjectMapper getObjectMapper() {
     return objectMapper;
   }
@@ -0,0 +1,792 @@
+package com.chargebee.sdk.changelog.diff;
+
+import static com.chargebee.openapi.Extension.*;
+
+import com.chargebee.openapi.Action;
+import com.chargebee.openapi.Attribute;
+import com.chargebee.openapi.Enum;
+import com.chargebee.openapi.Resource;
+import com.chargebee.openapi.Spec;
+import com.chargebee.openapi.parameter.Parameter;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.*;
+
+/**
+ * Typed change set between two versions of the spec.
+ *
+ * <p>Each spec is indexed exactly once (resources, actions, attributes, parameters, enums and
+ * deprecation flags), after which the new resources are walked once for additions and the old
+ * resources once for removals. Renderers such as {@code ChangeLogGenerator} and {@code
+ * ChangeLogDocsGenerator} only format the resulting changes; they never traverse the specs
+ * themselves.
+ *
+ * <p>Changes are recorded in spec order and are not de-duplicated, so renderers stay in control of
+ * how (and whether) identical rendered lines are merged.
+ */
+public final class SpecDiff {
+
+  public enum ParameterLocation {
+    QUERY,
+    BODY
+  }
+
+  public record ResourceChange(Resource resource) {}
+
+  /**
+   * An added, removed or deprecated action. For removals {@code resource} is the resource from the
+   * newer spec when it still exists, otherwise the removed resource itself.
+   */
+  public record ActionChange(Resource resource, Action action, boolean resourceRemoved) {}
+
+  /** An added, removed or deprecated top-level resource attribute. */
+  public record AttributeChange(Resource resource, Attribute attribute, boolean resourceRemoved) {}
+
+  /**
+   * An added, removed or deprecated parameter. Nested parameters carry their dotted path as the
+   * parameter name (e.g. {@code subscription.free_period}). {@code actionRemoved} is set when the
+   * owning action no longer exists while its resource still does.
+   */
+  public record ParameterChange(
+      Resource resource,
+      Action action,
+      Parameter parameter,
+      ParameterLocation location,
+      boolean resourceRemoved,
+      boolean actionRemoved) {}
+
+  public record GlobalEnumChange(String enumName, List<String> values) {}
+
+  /**
+   * Enum values added to or removed from a (possibly nested) resource attribute. {@code path} is
+   * the dotted attribute path and {@code anchor} its docs anchor.
+   */
+  public record AttributeEnumChange(
+      Resource resource, String path, String anchor, List<String> values, boolean globalEnum) {}
+
+  public record ParameterEnumChange(
+      Resource resource,
+      Action action,
+      Parameter parameter,
+      ParameterLocation location,
+      List<String> values,
+      boolean globalEnum) {}
+
+  /** A top-level parameter whose required flag flipped; {@code parameter} is the newer one. */
+  public record RequirementChange(
+      Resource resource, Action action, Parameter parameter, ParameterLocation location) {}
+
+  private final List<ResourceChange> addedResources = new ArrayList<>();
+  private final List<ResourceChange> removedResources = new ArrayList<>();
+  private final List<ResourceChange> deprecatedResources = new ArrayList<>();
+
+  private final List<ActionChange> addedActions = new ArrayList<>();
+  private final List<ActionChange> removedActions = new ArrayList<>();
+  private final List<ActionChange> deprecatedActions = new ArrayList<>();
+
+  private final List<AttributeChange> addedAttributes = new ArrayList<>();
+  private final List<AttributeChange> removedAttributes = new ArrayList<>();
+  private final List<AttributeChange> deprecatedAttributes = new ArrayList<>();
+
+  private final Map<ParameterLocation, List<ParameterChange>> addedParameters =
+      new EnumMap<>(ParameterLocation.class);
+  private final Map<ParameterLocation, List<ParameterChange>> removedParameters =
+      new EnumMap<>(ParameterLocation.class);
+  private final Map<ParameterLocation, List<ParameterChange>> deprecatedParameters =
+      new EnumMap<>(ParameterLocation.class);
+
+  private final List<String> addedEventTypes = new ArrayList<>();
+  private final List<String> removedEventTypes = new ArrayList<>();
+
+  private final List<GlobalEnumChange> addedGlobalEnumValues = new ArrayList<>();
+  private final List<GlobalEnumChange> removedGlobalEnumValues = new ArrayList<>();
+  private final List<AttributeEnumChange> addedAttributeEnumValues = new ArrayList<>();
+  private final List<AttributeEnumChange> removedAttributeEnumValues = new ArrayList<>();
+  private final List<ParameterEnumChange> addedParameterEnumValues = new ArrayList<>();
+  private final List<ParameterEnumChange> removedParameterEnumValues = new ArrayList<>();
+
+  private final List<RequirementChange> requirementChanges = new ArrayList<>();
+
+  private SpecDiff() {
+    for (ParameterLocation location : ParameterLocation.values()) {
+      addedParameters.put(location, new ArrayList<>());
+      removedParameters.put(location, new ArrayList<>());
+      deprecatedParameters.put(location, new ArrayList<>());
+    }
+  }
+
+  /**
+   * Computes the changes from {@code oldSpec} to {@code newSpec}, ignoring resources whose id is in
+   * {@code hiddenResourceIds}.
+   */
+  public static SpecDiff compute(Spec oldSpec, Spec newSpec, Collection<String> hiddenResourceIds) {
+    return compute(Index.of(oldSpec, hiddenResourceIds), Index.of(newSpec, hiddenResourceIds));
+  }
+
+  /**
+   * Computes the changes between two prebuilt indexes. Indexes are read-only once built, so one
+   * index can take part in several diffs, including concurrently running ones.
+   */
+  public static SpecDiff compute(Index oldIndex, Index newIndex) {
+    SpecDiff diff = new SpecDiff();
+    for (ResourceIndex resource : newIndex.resources.values()) {
+      diff.walkNewResource(resource, oldIndex.resources.get(resource.resource.id));
+    }
+    for (ResourceIndex resource : oldIndex.resources.values()) {
+      diff.walkOldResource(resource, newIndex.resources.get(resource.resource.id));
+    }
+    diff.diffEvents(oldIndex.eventTypes, newIndex.eventTypes);
+    diff.diffGlobalEnums(oldIndex.globalEnums, newIndex.globalEnums);
+    return diff;
+  }
+
+  public List<ResourceChange> addedResources() {
+    return addedResources;
+  }
+
+  public List<ResourceChange> removedResources() {
+    return removedResources;
+  }
+
+  public List<ResourceChange> deprecatedResources() {
+    return deprecatedResources;
+  }
+
+  public List<ActionChange> addedActions() {
+    return addedActions;
+  }
+
+  public List<ActionChange> removedActions() {
+    return removedActions;
+  }
+
+  public List<ActionChange> deprecatedActions() {
+    return deprecatedActions;
+  }
+
+  public List<AttributeChange> addedAttributes() {
+    return addedAttributes;
+  }
+
+  public List<AttributeChange> removedAttributes() {
+    return removedAttributes;
+  }
+
+  public List<AttributeChange> deprecatedAttributes() {
+    return deprecatedAttributes;
+  }
+
+  public List<ParameterChange> addedParameters(ParameterLocation location) {
+    return addedParameters.get(location);
+  }
+
+  public List<ParameterChange> removedParameters(ParameterLocation location) {
+    return removedParameters.get(location);
+  }
+
+  public List<ParameterChange> deprecatedParameters(ParameterLocation location) {
+    return deprecatedParameters.get(location);
+  }
+
+  public List<String> addedEventTypes() {
+    return addedEventTypes;
+  }
+
+  public List<String> removedEventTypes() {
+    return removedEventTypes;
+  }
+
+  public List<GlobalEnumChange> addedGlobalEnumValues() {
+    return addedGlobalEnumValues;
+  }
+
+  public List<GlobalEnumChange> removedGlobalEnumValues() {
+    return removedGlobalEnumValues;
+  }
+
+  public List<AttributeEnumChange> addedAttributeEnumValues() {
+    return addedAttributeEnumValues;
+  }
+
+  public List<AttributeEnumChange> removedAttributeEnumValues() {
+    return removedAttributeEnumValues;
+  }
+
+  public List<ParameterEnumChange> addedParameterEnumValues() {
+    return addedParameterEnumValues;
+  }
+
+  public List<ParameterEnumChange> removedParameterEnumValues() {
+    return removedParameterEnumValues;
+  }
+
+  public List<RequirementChange> requirementChanges() {
+    return requirementChanges;
+  }
+
+  // --- Walk: newer spec (additions, deprecations, requirement changes) ---
+
+  private void walkNewResource(ResourceIndex current, ResourceIndex previous) {
+    Resource resource = current.resource;
+
+    if (previous == null) {
+      addedResources.add(new ResourceChange(resource));
+    }
+    if (resource.isDeprecated() && (previous == null || !previous.resource.isDeprecated())) {
+      deprecatedResources.add(new ResourceChange(resource));
+    }
+
+    if (previous != null) {
+      for (Action action : resource.actions) {
+        if (!previous.actionNames.contains(action.name)) {
+          addedActions.add(new ActionChange(resource, action, false));
+        }
+      }
+      for (Attribute attribute : current.attributes) {
+        if (!previous.attributeDeprecation.containsKey(attribute.name)) {
+          addedAttributes.add(new AttributeChange(resource, attribute, false));
+        }
+      }
+    }
+
+    for (Action action : resource.actions) {
+      Boolean wasDeprecated = previous == null ? null : previous.actionDeprecation.get(action.id);
+      if (action.isOperationDeprecated() && Boolean.FALSE.equals(wasDeprecated)) {
+        deprecatedActions.add(new ActionChange(resource, action, false));
+      }
+    }
+    for (Attribute attribute : current.attributes) {
+      Boolean wasDeprecated =
+          previous == null ? null : previous.attributeDeprecation.get(attribute.name);
+      if (attribute.isDeprecated() && Boolean.FALSE.equals(wasDeprecated)) {
+        deprecatedAttributes.add(new AttributeChange(resource, attribute, false));
+      }
+    }
+
+    for (Action action : resource.actions) {
+      ActionIndex currentAction = current.actions.get(action.id);
+      ActionIndex previousAction = previous == null ? null : previous.actions.get(action.id);
+
+      for (ParameterLocation location : ParameterLocation.values()) {
+        if (previous != null) {
+          Set<String> existing =
+              previousAction == null ? Set.of() : previousAction.parameterNames.get(location);
+          collectParameterDiff(
+              resource,
+              action,
+              currentAction.parameters.get(location),
+              existing,
+              location,
+              addedParameters.get(location));
+        }
+        Map<String, Boolean> previousDeprecation =
+            previousAction == null ? Map.of() : previousAction.deprecation.get(location);
+        collectDeprecatedParameters(
+            resource,
+            action,
+            currentAction.parameters.get(location),
+            location,
+            previousDeprecation);
+      }
+
+      Map<String, Boolean> previousRequirements =
+          previousAction == null ? Map.of() : previousAction.requirements;
+      for (ParameterLocation location : ParameterLocation.values()) {
+        for (Parameter parameter : currentAction.parameters.get(location)) {
+          Boolean wasRequired =
+              previousRequirements.get(parameterKey(location, parameter.getName()));
+          if (wasRequired != null && wasRequired != parameter.isRequired) {
+            requirementChanges.add(new RequirementChange(resource, action, parameter, location));
+          }
+        }
+      }
+    }
+
+    collectAttributeEnumDiff(
+        current, previous == null ? Map.of() : previous.attributeEnums, addedAttributeEnumValues);
+    collectParameterEnumDiff(current, previous, addedParameterEnumValues);
+  }
+
+  // --- Walk: older spec (removals) ---
+
+  private void walkOldResource(ResourceIndex previous, ResourceIndex current) {
+    Resource oldResource = previous.resource;
+
+    if (current == null) {
+      removedResources.add(new ResourceChange(oldResource));
+      for (Action action : oldResource.actions) {
+        removedActions.add(new ActionChange(oldResource, action, true));
+      }
+      for (Attribute attribute : previous.attributes) {
+        removedAttributes.add(new AttributeChange(oldResource, attribute, true));
+      }
+      for (ParameterLocation location : ParameterLocation.values()) {
+        for (Action action : oldResource.actions) {
+          for (Parameter parameter : previous.actions.get(action.id).parameters.get(location)) {
+            removedParameters
+                .get(location)
+                .add(new ParameterChange(oldResource, action, parameter, location, true, false));
+          }
+        }
+      }
+    } else {
+      Resource resource = current.resource;
+      for (Action action : oldResource.actions) {
+        if (!current.actionNames.contains(action.name)) {
+          removedActions.add(new ActionChange(resource, action, false));
+        }
+      }
+      for (Attribute attribute : previous.attributes) {
+        if (!current.attributeDeprecation.containsKey(attribute.name)) {
+          removedAttributes.add(new AttributeChange(resource, attribute, false));
+        }
+      }
+      for (ParameterLocation location : ParameterLocation.values()) {
+        for (Action oldAction : oldResource.actions) {
+          List<Parameter> oldParameters =
+              previous.actions.get(oldAction.id).parameters.get(location);
+          ActionIndex currentAction = current.actions.get(oldAction.id);
+          if (currentAction == null) {
+            for (Parameter parameter : oldParameters) {
+              removedParameters
+                  .get(location)
+                  .add(new ParameterChange(resource, oldAction, parameter, location, false, true));
+            }
+          } else {
+            collectParameterDiff(
+                resource,
+                currentAction.action,
+                oldParameters,
+                currentAction.parameterNames.get(location),
+                location,
+                removedParameters.get(location));
+          }
+        }
+      }
+    }
+
+    collectAttributeEnumDiff(
+        previous, current == null ? Map.of() : current.attributeEnums, removedAttributeEnumValues);
+    collectParameterEnumDiff(previous, current, removedParameterEnumValues);
+  }
+
+  // --- Events & global enums ---
+
+  private void diffEvents(List<String> oldEventTypes, List<String> newEventTypes) {
+    Set<String> oldTypes = new HashSet<>(oldEventTypes);
+    Set<String> newTypes = new HashSet<>(newEventTypes);
+    for (String eventType : newEventTypes) {
+      if (!oldTypes.contains(eventType)) {
+        addedEventTypes.add(eventType);
+      }
+    }
+    for (String eventType : oldEventTypes) {
+      if (!newTypes.contains(eventType)) {
+        removedEventTypes.add(eventType);
+      }
+    }
+  }
+
+  private void diffGlobalEnums(List<Enum> oldEnums, List<Enum> newEnums) {
+    collectGlobalEnumDiff(newEnums, enumValuesByName(oldEnums), addedGlobalEnumValues);
+    collectGlobalEnumDiff(oldEnums, enumValuesByName(newEnums), removedGlobalEnumValues);
+  }
+
+  private static Map<String, Set<String>> enumValuesByName(List<Enum> enums) {
+    Map<String, Set<String>> values = new HashMap<>();
+    for (Enum anEnum : enums) {
+      values.put(anEnum.name, new HashSet<>(anEnum.values()));
+    }
+    return values;
+  }
+
+  private static void collectGlobalEnumDiff(
+      List<Enum> source, Map<String, Set<String>> comparison, List<GlobalEnumChange> target) {
+    for (Enum anEnum : source) {
+      List<String> changed =
+          valuesMissingFrom(anEnum.values(), comparison.getOrDefault(anEnum.name, Set.of()));
+      if (!changed.isEmpty()) {
+        target.add(new GlobalEnumChange(anEnum.name, changed));
+      }
+    }
+  }
+
+  // --- Parameters ---
+
+  /**
+   * Records every parameter of {@code source} whose (dotted) name is missing from {@code
+   * existing}. When a parameter exists on both sides its nested properties are compared instead.
+   */
+  private static void collectParameterDiff(
+      Resource resource,
+      Action action,
+      List<Parameter> source,
+      Set<String> existing,
+      ParameterLocation location,
+      List<ParameterChange> target) {
+    for (Parameter parameter : source) {
+      if (!existing.contains(parameter.getName())) {
+        target.add(new ParameterChange(resource, action, parameter, location, false, false));
+      } else {
+        collectNestedParameterDiff(
+            resource, action, parameter.schema, parameter.getName(), existing, location, target);
+      }
+    }
+  }
+
+  private static void collectNestedParameterDiff(
+      Resource resource,
+      Action action,
+      Schema<?> schema,
+      String path,
+      Set<String> existing,
+      ParameterLocation location,
+      List<ParameterChange> target) {
+    if (schema.getProperties() == null) {
+      return;
+    }
+    schema
+        .getProperties()
+        .forEach(
+            (key, value) -> {
+              String nestedPath = path + "." + key;
+              if (!existing.contains(nestedPath)) {
+                target.add(
+                    new ParameterChange(
+                        resource,
+                        action,
+                        new Parameter(nestedPath, value),
+                        location,
+                        false,
+                        false));
+              } else {
+                collectNestedParameterDiff(
+                    resource, action, value, nestedPath, existing, location, target);
+              }
+            });
+  }
+
+  private void collectDeprecatedParameters(
+      Resource resource,
+      Action action,
+      List<Parameter> parameters,
+      ParameterLocation location,
+      Map<String, Boolean> previousDeprecation) {
+    List<ParameterChange> target = deprecatedParameters.get(location);
+    for (Parameter parameter : parameters) {
+      String path = parameter.getName();
+      if (parameter.isDeprecated() && Boolean.FALSE.equals(previousDeprecation.get(path))) {
+        target.add(
+            new ParameterChange(
+                resource, action, new Parameter(path, parameter.schema), location, false, false));
+      }
+      collectDeprecatedNestedParameters(
+          resource, action, parameter.schema, path, location, previousDeprecation, target);
+    }
+  }
+
+  private static void collectDeprecatedNestedParameters(
+      Resource resource,
+      Action action,
+      Schema<?> schema,
+      String path,
+      ParameterLocation location,
+      Map<String, Boolean> previousDeprecation,
+      List<ParameterChange> target) {
+    if (schema.getProperties() == null) {
+      return;
+    }
+    schema
+        .getProperties()
+        .forEach(
+            (key, value) -> {
+              String nestedPath = path + "." + key;
+              if (isDeprecated(value)
+                  && Boolean.FALSE.equals(previousDeprecation.get(nestedPath))) {
+                target.add(
+                    new ParameterChange(
+                        resource,
+                        action,
+                        new Parameter(nestedPath, value),
+                        location,
+                        false,
+                        false));
+              }
+              collectDeprecatedNestedParameters(
+                  resource, action, value, nestedPath, location, previousDeprecation, target);
+            });
+  }
+
+  // --- Enums ---
+
+  private static void collectAttributeEnumDiff(
+      ResourceIndex source, Map<String, Set<String>> comparison, List<AttributeEnumChange> target) {
+    collectAttributeEnumDiff(source.resource, source.attributes, "", comparison, target);
+  }
+
+  private static void collectAttributeEnumDiff(
+      Resource resource,
+      List<Attribute> attributes,
+      String basePath,
+      Map<String, Set<String>> comparison,
+      List<AttributeEnumChange> target) {
+    for (Attribute attribute : attributes) {
+      String path = attributePath(basePath, attribute.name);
+
+      if (attribute.isEnumAttribute()) {
+        List<String> changed =
+            valuesMissingFrom(
+                attribute.getEnum().values(), comparison.getOrDefault(path, Set.of()));
+        if (!changed.isEmpty()) {
+          target.add(
+              new AttributeEnumChange(
+                  resource,
+                  path,
+                  attributeAnchor(basePath, attribute.name),
+                  changed,
+                  attribute.isGlobalEnumAttribute()));
+        }
+      }
+
+      List<Attribute> subAttributes = attribute.getSubAttributes();
+      if (!subAttributes.isEmpty()) {
+        collectAttributeEnumDiff(resource, subAttributes, path, comparison, target);
+      }
+    }
+  }
+
+  private static void collectParameterEnumDiff(
+      ResourceIndex source, ResourceIndex comparison, List<ParameterEnumChange> target) {
+    Resource resource = source.resource;
+    for (Action action : resource.actions) {
+      ActionIndex comparisonAction = comparison == null ? null : comparison.actions.get(action.id);
+      Map<String, Set<String>> comparisonEnums =
+          comparisonAction == null ? Map.of() : comparisonAction.enums;
+
+      for (ParameterLocation location : ParameterLocation.values()) {
+        for (Parameter parameter : source.actions.get(action.id).parameters.get(location)) {
+          if (isTrackedEnum(parameter.schema)) {
+            List<String> changed =
+                valuesMissingFrom(
+                    parameter.getEnumValues(),
+                    comparisonEnums.getOrDefault(
+                        parameterKey(location, parameter.getName()), Set.of()));
+            if (!changed.isEmpty()) {
+              target.add(
+                  new ParameterEnumChange(
+                      resource, action, parameter, location, changed, parameter.isGlobalEnum()));
+            }
+          }
+
+          if (parameter.schema.getProperties() != null) {
+            parameter
+                .schema
+                .getProperties()
+                .forEach(
+                    (key, value) -> {
+                      if (!isTrackedEnum(value)) {
+                        return;
+                      }
+                      String nestedName = parameter.getName() + "." + key;
+                      List<String> changed =
+                          valuesMissingFrom(
+                              new ArrayList<>(enumValueSet(value)),
+                              comparisonEnums.getOrDefault(
+                                  parameterKey(location, nestedName), Set.of()));
+                      if (!changed.isEmpty()) {
+                        target.add(
+                            new ParameterEnumChange(
+                                resource,
+                                action,
+                                new Parameter(nestedName, value),
+                                location,
+                                changed,
+                                hasExtension(enumTarget(value), IS_GLOBAL_ENUM)));
+                      }
+                    });
+          }
+        }
+      }
+    }
+  }
+
+  private static List<String> valuesMissingFrom(List<String> values, Set<String> comparison) {
+    List<String> missing = new ArrayList<>();
+    for (String value : values) {
+      if (!comparison.contains(value)) {
+        missing.add(value);
+      }
+    }
+    return missing;
+  }
+
+  /** Enums that are generated inline with their owner, i.e. neither external nor gen-separate. */
+  private static boolean isTrackedEnum(Schema<?> schema) {
+    Schema<?> target = enumTarget(schema);
+    return target.getEnum() != null
+        && !target.getEnum().isEmpty()
+        && !hasExtension(target, IS_EXTERNAL_ENUM)
+        && !hasExtension(target, IS_GEN_SEPARATE);
+  }
+
+  private static Set<String> enumValueSet(Schema<?> schema) {
+    if (!isTrackedEnum(schema)) {
+      return Set.of();
+    }
+    return new HashSet<>(new Enum(schema).values());
+  }
+
+  private static Schema<?> enumTarget(Schema<?> schema) {
+    return schema instanceof ArraySchema ? schema.getItems() : schema;
+  }
+
+  private static boolean hasExtension(Schema<?> schema, String extensionKey) {
+    return schema.getExtensions() != null
+        && schema.getExtensions().get(extensionKey) != null
+        && (boolean) schema.getExtensions().get(extensionKey);
+  }
+
+  private static boolean isDeprecated(Schema<?> schema) {
+    return schema.getDeprecated() != null && schema.getDeprecated();
+  }
+
+  private static String parameterKey(ParameterLocation location, String name) {
+    return location + ":" + name;
+  }
+
+  private static String attributePath(String basePath, String attributeName) {
+    return basePath.isEmpty() ? attributeName : basePath + "." + attributeName;
+  }
+
+  private static String attributeAnchor(String basePath, String attributeName) {
+    return basePath.isEmpty() ? attributeName : basePath.replace(".", "_") + "_" + attributeName;
+  }
+
+  // --- Per-spec index, built once per spec ---
+
+  /** The lookup tables of a single spec that {@link #compute(Index, Index)} walks. */
+  public static final class Index {
+    private final Map<String, ResourceIndex> resources = new LinkedHashMap<>();
+    private final List<String> eventTypes = new ArrayList<>();
+    private final List<Enum> globalEnums;
+
+    public static Index of(Spec spec, Collection<String> hiddenResourceIds) {
+      return new Index(spec, hiddenResourceIds);
+    }
+
+    private Index(Spec spec, Collection<String> hiddenResourceIds) {
+      for (Resource resource : spec.resources()) {
+        if (!hiddenResourceIds.contains(resource.id)) {
+          resources.put(resource.id, new ResourceIndex(resource));
+        }
+      }
+      for (Map<String, String> event : spec.extractWebhookInfo(false)) {
+        eventTypes.add(event.get("type"));
+      }
+      globalEnums = spec.globalEnums();
+    }
+  }
+
+  private static final class ResourceIndex {
+    final Resource resource;
+    final List<Attribute> attributes;
+    final Set<String> actionNames = new HashSet<>();
+    final Map<String, ActionIndex> actions = new HashMap<>();
+    final Map<String, Boolean> actionDeprecation = new HashMap<>();
+    final Map<String, Boolean> attributeDeprecation = new HashMap<>();
+    final Map<String, Set<String>> attributeEnums = new HashMap<>();
+
+    ResourceIndex(Resource resource) {
+      this.resource = resource;
+      this.attributes = resource.attributes();
+      for (Action action : resource.actions) {
+        actionNames.add(action.name);
+        actions.put(action.id, new ActionIndex(action));
+        actionDeprecation.put(action.id, action.isOperationDeprecated());
+      }
+      for (Attribute attribute : attributes) {
+        attributeDeprecation.put(attribute.name, attribute.isDeprecated());
+      }
+      indexAttributeEnums(attributes, "");
+    }
+
+    private void indexAttributeEnums(List<Attribute> attributes, String basePath) {
+      for (Attribute attribute : attributes) {
+        String path = attributePath(basePath, attribute.name);
+        if (attribute.isEnumAttribute()) {
+          attributeEnums.put(path, new HashSet<>(attribute.getEnum().values()));
+        }
+        List<Attribute> subAttributes = attribute.getSubAttributes();
+        if (!subAttributes.isEmpty()) {
+          indexAttributeEnums(subAttributes, path);
+        }
+      }
+    }
+  }
+
+  private static final class ActionIndex {
+    final Action action;
+    final Map<ParameterLocation, List<Parameter>> parameters =
+        new EnumMap<>(ParameterLocation.class);
+    final Map<ParameterLocation, Set<String>> parameterNames =
+        new EnumMap<>(ParameterLocation.class);
+    final Map<ParameterLocation, Map<String, Boolean>> deprecation =
+        new EnumMap<>(ParameterLocation.class);
+    final Map<String, Set<String>> enums = new HashMap<>();
+    final Map<String, Boolean> requirements = new HashMap<>();
+
+    ActionIndex(Action action) {
+      this.action = action;
+      parameters.put(ParameterLocation.QUERY, action.queryParameters());
+      parameters.put(ParameterLocation.BODY, action.requestBodyParameters());
+
+      for (ParameterLocation location : ParameterLocation.values()) {
+        Set<String> names = new HashSet<>();
+        Map<String, Boolean> deprecated = new HashMap<>();
+        for (Parameter parameter : parameters.get(location)) {
+          names.add(parameter.getName());
+          deprecated.put(parameter.getName(), parameter.isDeprecated());
+          requirements.put(parameterKey(location, parameter.getName()), parameter.isRequired);
+          indexNested(parameter.schema, parameter.getName(), names, deprecated);
+
+          if (isTrackedEnum(parameter.schema)) {
+            enums.put(
+                parameterKey(location, parameter.getName()),
+                new HashSet<>(parameter.getEnumValues()));
+          }
+          if (parameter.schema.getProperties() != null) {
+            parameter
+                .schema
+                .getProperties()
+                .forEach(
+                    (key, value) -> {
+                      if (isTrackedEnum(value)) {
+                        enums.put(
+                            parameterKey(location, parameter.getName() + "." + key),
+                            enumValueSet(value));
+                      }
+                    });
+          }
+        }
+        parameterNames.put(location, names);
+        deprecation.put(location, deprecated);
+      }
+    }
+
+    private static void indexNested(
+        Schema<?> schema, String path, Set<String> names, Map<String, Boolean> deprecated) {
+      if (schema.getProperties() == null) {
+        return;
+      }
+      schema
+          .getProperties()
+          .forEach(
+              (key, value) -> {
+                String nestedPath = path + "." + key;
+                names.add(nestedPath);
+                deprecated.put(nestedPath, isDeprecated(value));
+                indexNested(value, nestedPath, names, deprecated);
+              });
+    }
+  }
+}
@@ -1,24 +1,30 @@
 package com.chargebee.sdk.changelog.generators;
 
 import static com.chargebee.GenUtil.pluralize;
-import static com.chargebee.openapi.Extension.*;
 import static com.chargebee.sdk.changelog.Constants.CHANGELOG_DOCS;
+import static com.chargebee.sdk.changelog.diff.SpecDiff.ParameterLocation.BODY;
+import static com.chargebee.sdk.changelog.diff.SpecDiff.ParameterLocation.QUERY;
 
 import com.chargebee.openapi.Action;
 import com.chargebee.openapi.Attribute;
-import com.chargebee.openapi.Enum;
 import com.chargebee.openapi.Resource;
 import com.chargebee.openapi.Spec;
 import com.chargebee.openapi.parameter.Parameter;
 import com.chargebee.sdk.FileOp;
 import com.chargebee.sdk.changelog.ChangeLogDocs;
+import com.chargebee.sdk.changelog.diff.SpecDiff;
+import com.chargebee.sdk.changelog.diff.SpecDiff.ActionChange;
+import com.chargebee.sdk.changelog.diff.SpecDiff.AttributeChange;
+import com.chargebee.sdk.changelog.diff.SpecDiff.AttributeEnumChange;
+import com.chargebee.sdk.changelog.diff.SpecDiff.ParameterChange;
+import com.chargebee.sdk.changelog.diff.SpecDiff.ParameterEnumChange;
+import com.chargebee.sdk.changelog.diff.SpecDiff.RequirementChange;
+import com.chargebee.sdk.changelog.diff.SpecDiff.ResourceChange;
 import com.chargebee.sdk.changelog.models.ChangeLogDocsSchema;
 import com.chargebee.sdk.changelog.models.ChangeLogEntry;
 import com.chargebee.sdk.changelog.models.ChangeLogEntry.EntryType;
 import com.github.jknack.handlebars.Template;
 import com.google.common.base.CaseFormat;
-import io.swagger.v3.oas.models.media.ArraySchema;
-import io.swagger.v3.oas.models.media.Schema;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -30,9 +36,6 @@ import java.util.stream.Stream;
 
 public class ChangeLogDocsGenerator implements FileGenerator {
 
-  private static final String QUERY_PREFIX = "query";
-  private static final String BODY_PREFIX = "body";
-
   private final ChangeLogDocs changeLogDocs;
   private final Template changeLogDocsTemplate;
 
@@ -43,11 +46,9 @@ public class ChangeLogDocsGenerator implements FileGenerator {
 
   @Override
   public FileOp generate(String output, Spec oldVersion, Spec newerVersion) throws IOException {
-    List<Resource> oldResources = filterResources(oldVersion.resources());
-    List<Resource> newResources = filterResources(newerVersion.resources());
-
-    ChangeLogDocsSchema schema =
-        buildChangeLogSchema(oldVersion, newerVersion, oldResources, newResources);
+    SpecDiff diff =
+        SpecDiff.compute(oldVersion, newerVersion, List.of(changeLogDocs.hiddenOverride));
+    ChangeLogDocsSchema schema = buildChangeLogSchema(diff);
 
     LocalDocsAvailabilityChecker checker = new LocalDocsAvailabilityChecker();
 
@@ -247,36 +248,45 @@ public class ChangeLogDocsGenerator implements FileGenerator {
     return header + renderTemplate(missingSchema) + "\n\n";
   }
 
-  private ChangeLogDocsSchema buildChangeLogSchema(
-      Spec oldVersion,
-      Spec newerVersion,
-      List<Resource> oldResources,
-      List<Resource> newResources) {
+  private ChangeLogDocsSchema buildChangeLogSchema(SpecDiff diff) {
     ChangeLogDocsSchema schema = new ChangeLogDocsSchema();
 
-    schema.setNewResource(generateNewResources(oldResources, newResources));
-    schema.setNewActions(generateNewActions(oldResources, newResources));
-    schema.setNewResourceAttribute(generateNewAttributes(oldResources, newResources));
-    schema.setNewParams(generateNewParameters(oldResources, newResources));
-    schema.setNewEventType(generateNewEvents(oldVersion, newerVersion));
-
-    schema.setDeletedResource(generateDeletedResources(oldResources, newResources));
-    schema.setDeletedActions(generateDeletedActions(oldResources, newResources));
-    schema.setDeletedResourceAttribute(generateDeletedAttributes(oldResources, newResources));
-    schema.setDeletedParams(generateDeletedParameters(oldResources, newResources));
-    schema.setDeletedEventType(generateDeletedEvents(oldVersion, newerVersion));
-
-    schema.setNewEnumValues(
-        generateNewEnumValues(oldResources, newResources, oldVersion, newerVersion));
-    schema.setDeletedEnumValues(
-        generateDeletedEnumValues(oldResources, newResources, oldVersion, newerVersion));
+    schema.setNewResource(entries(diff.addedResources(), this::formatNewResourceEntry));
+    schema.setNewActions(entries(diff.addedActions(), this::formatNewActionEntry));
+    schema.setNewResourceAttribute(
+        entries(diff.addedAttributes(), this::formatNewAttributeEntry));
+    schema.setNewParams(
+        concat(
+            entries(diff.addedParameters(QUERY), this::formatNewParameterEntry),
+            entries(diff.addedParameters(BODY), this::formatNewParameterEntry)));
+    schema.setNewEventType(entries(diff.addedEventTypes(), this::formatNewEventEntry));
+
+    schema.setDeletedResource(entries(diff.removedResources(), this::formatDeletedResourceEntry));
+    schema.setDeletedActions(entries(diff.removedActions(), this::formatDeletedActionEntry));
+    schema.setDeletedResourceAttribute(
+        entries(diff.removedAttributes(), this::formatDeletedAttributeEntry));
+    schema.setDeletedParams(
+        concat(
+            entries(diff.removedParameters(QUERY), this::formatDeletedParameterEntry),
+            entries(diff.removedParameters(BODY), this::formatDeletedParameterEntry)));
+    schema.setDeletedEventType(
+        entries(diff.removedEventTypes(), this::formatDeletedEventEntry));
+
+    schema.setNewEnumValues(enumEntries(diff, true));
+    schema.setDeletedEnumValues(enumEntries(diff, false));
     schema.setParameterRequirementChangesValues(
-        generateParameterRequirementChanges(oldResources, newResources));
-
-    schema.setDeprecatedResource(generateDeprecatedResources(oldResources, newResources));
-    schema.setDeprecatedActions(generateDeprecatedActions(oldResources, newResources));
-    schema.setDeprecatedResourceAttribute(generateDeprecatedAttributes(oldResources, newResources));
-    schema.setDeprecatedParams(generateDeprecatedParameters(oldResources, newResources));
+        entries(diff.requirementChanges(), this::formatRequirementChangeEntry));
+
+    schema.setDeprecatedResource(
+        entries(diff.deprecatedResources(), this::formatDeprecatedResourceEntry));
+    schema.setDeprecatedActions(
+        entries(diff.deprecatedActions(), this::formatDeprecatedActionEntry));
+    schema.setDeprecatedResourceAttribute(
+        entries(diff.deprecatedAttributes(), this::formatDeprecatedAttributeEntry));
+    schema.setDeprecatedParams(
+        concat(
+            entries(diff.deprecatedParameters(QUERY), this::formatDeprecatedParameterEntry),
+            entries(diff.deprecatedParameters(BODY), this::formatDeprecatedParameterEntry)));
 
     return schema;
   }
@@ -288,26 +298,25 @@ public class ChangeLogDocsGenerator implements FileGenerator {
     return content.replaceAll("(?m)^[ \t]*\r?\n([ \t]*\r?\n)+", "\n\n").replaceAll("^\\s+", "");
   }
 
-  private List<Resource> filterResources(List<Resource> resources) {
-    List<String> hiddenResourceIds = List.of(changeLogDocs.hiddenOverride);
-    return resources.stream()
-        .filter(resource -> !hiddenResourceIds.contains(resource.id))
-        .collect(Collectors.toList());
+  /** Formats each change and keeps the first entry for every distinct rendered line. */
+  private <T> List<ChangeLogEntry> entries(
+      List<T> changes, Function<T, ChangeLogEntry> formatter) {
+    Map<String, ChangeLogEntry> seen = new LinkedHashMap<>();
+    for (T change : changes) {
+      ChangeLogEntry entry = formatter.apply(change);
+      seen.putIfAbsent(entry.getLine(), entry);
+    }
+    return new ArrayList<>(seen.values());
   }
 
-  // --- New Resources ---
-
-  private List<ChangeLogEntry> generateNewResources(
-      List<Resource> oldResources, List<Resource> newResources) {
-    Set<String> existingResourceIds = extractResourceIds(oldResources);
-
-    return distinctByLine(
-        newResources.stream()
-            .filter(resource -> !existingResourceIds.contains(resource.id))
-            .map(this::formatNewResourceEntry));
+  private List<ChangeLogEntry> concat(List<ChangeLogEntry> first, List<ChangeLogEntry> second) {
+    return Stream.concat(first.stream(), second.stream()).collect(Collectors.toList());
   }
 
-  private ChangeLogEntry formatNewResourceEntry(Resource resource) {
+  // --- New Resources ---
+
+  private ChangeLogEntry formatNewResourceEntry(ResourceChange change) {
+    Resource resource = change.resource();
     String resourcePath = getDocsLinkForResourceList(resource);
     String line =
         String.format(
@@ -322,32 +331,9 @@ public class ChangeLogDocsGenerator implements FileGenerator {
 
   // --- New Actions ---
 
-  private List<ChangeLogEntry> generateNewActions(
-      List<Resource> oldResources, List<Resource> newResources) {
-    Map<String, Set<String>> oldActionsByResource = buildActionMap(oldResources);
-    Set<String> oldResourceIds = extractResourceIds(oldResources);
-    Map<String, ChangeLogEntry> entries = new LinkedHashMap<>();
-
-    for (Resource newResource : newResources) {
-      if (!oldResourceIds.contains(newResource.id)) {
-        continue;
-      }
-
-      Set<String> existingActions =
-          oldActionsByResource.getOrDefault(newResource.id, Collections.emptySet());
-
-      for (Action action : newResource.actions) {
-        if (!existingActions.contains(action.name)) {
-          ChangeLogEntry entry = formatNewActionEntry(newResource, action);
-          entries.putIfAbsent(entry.getLine(), entry);
-        }
-      }
-    }
-
-    return new ArrayList<>(entries.values());
-  }
-
-  private ChangeLogEntry formatNewActionEntry(Resource resource, Action action) {
+  private ChangeLogEntry formatNewActionEntry(ActionChange change) {
+    Resource resource = change.resource();
+    Action action = change.action();
     String resourcePath = getDocsLinkForResourceList(resource);
     String line =
         String.format(
@@ -367,28 +353,9 @@ public class ChangeLogDocsGenerator implements FileGenerator {
 
   // --- New Attributes ---
 
-  private List<ChangeLogEntry> generateNewAttributes(
-      List<Resource> oldResources, List<Resource> newResources) {
-    Map<String, Set<String>> oldAttributesByResource = buildAttributeMap(oldResources);
-    Set<String> oldResourceIds = extractResourceIds(oldResources);
-
-    return distinctByLine(
-        newResources.stream()
-            .filter(resource -> oldResourceIds.contains(resource.id))
-            .flatMap(resource -> findNewAttributes(resource, oldAttributesByResource)));
-  }
-
-  private Stream<ChangeLogEntry> findNewAttributes(
-      Resource resource, Map<String, Set<String>> oldAttributesByResource) {
-    Set<String> existingAttributes =
-        oldAttributesByResource.getOrDefault(resource.id, Collections.emptySet());
-
-    return resource.attributes().stream()
-        .filter(attribute -> !existingAttributes.contains(attribute.name))
-        .map(attribute -> formatNewAttributeEntry(resource, attribute));
-  }
-
-  private ChangeLogEntry formatNewAttributeEntry(Resource resource, Attribute attribute) {
+  private ChangeLogEntry formatNewAttributeEntry(AttributeChange change) {
+    Resource resource = change.resource();
+    Attribute attribute = change.attribute();
     String resourcePath = getDocsLinkForResourceList(resource);
     String line =
         String.format(
@@ -408,98 +375,10 @@ public class ChangeLogDocsGenerator implements FileGenerator {
 
   // --- New Parameters ---
 
-  private List<ChangeLogEntry> generateNewParameters(
-      List<Resource> oldResources, List<Resource> newResources) {
-    List<ChangeLogEntry> queryParameterEntries =
-        generateParameterEntries(oldResources, newResources, Action::queryParameters);
-    List<ChangeLogEntry> bodyParameterEntries =
-        generateParameterEntries(oldResources, newResources, Action::requestBodyParameters);
-
-    return Stream.concat(queryParameterEntries.stream(), bodyParameterEntries.stream())
-        .collect(Collectors.toList());
-  }
-
-  private List<ChangeLogEntry> generateParameterEntries(
-      List<Resource> oldResources,
-      List<Resource> newResources,
-      Function<Action, List<Parameter>> parameterExtractor) {
-    Map<String, Map<String, Set<String>>> oldParametersByResource =
-        buildParameterMap(oldResources, parameterExtractor);
-    Set<String> oldResourceIds = extractResourceIds(oldResources);
-    Map<String, ChangeLogEntry> entries = new LinkedHashMap<>();
-
-    for (Resource newResource : newResources) {
-      if (!oldResourceIds.contains(newResource.id)) {
-        continue;
-      }
-
-      Map<String, Set<String>> oldActionParameters =
-          oldParametersByResource.getOrDefault(newResource.id, Collections.emptyMap());
-
-      for (Action action : newResource.actions) {
-        Set<String> existingParameters =
-            oldActionParameters.getOrDefault(action.id, Collections.emptySet());
-        findAndAddNewParameters(
-            newResource, action, parameterExtractor.apply(action), existingParameters, entries);
-      }
-    }
-
-    return new ArrayList<>(entries.values());
-  }
-
-  private void findAndAddNewParameters(
-      Resource resource,
-      Action action,
-      List<Parameter> parameters,
-      Set<String> existingParameters,
-      Map<String, ChangeLogEntry> entries) {
-    for (Parameter parameter : parameters) {
-      if (!existingParameters.contains(parameter.getName())) {
-        ChangeLogEntry entry = formatNewParameterEntry(resource, action, parameter);
-        entries.putIfAbsent(entry.getLine(), entry);
-      } else if (parameter.schema.getProperties() != null) {
-        processNestedParameters(
-            parameter.schema, parameter.getName(), existingParameters, resource, action, entries,
-            true);
-      }
-    }
-  }
-
-  private void processNestedParameters(
-      Schema schema,
-      String path,
-      Set<String> existingParameters,
-      Resource resource,
-      Action action,
-      Map<String, ChangeLogEntry> entries,
-      boolean isNew) {
-    if (schema.getProperties() == null) {
-      return;
-    }
-
-    schema
-        .getProperties()
-        .forEach(
-            (key, value) -> {
-              String nestedPath = path + "." + key;
-
-              if (!existingParameters.contains(nestedPath)) {
-                Parameter nestedParameter = new Parameter(nestedPath, (Schema) value);
-                ChangeLogEntry entry =
-                    isNew
-                        ? formatNewParameterEntry(resource, action, nestedParameter)
-                        : formatDeletedParameterEntry(resource, action, nestedParameter, true);
-                entries.putIfAbsent(entry.getLine(), entry);
-              } else {
-                processNestedParameters(
-                    (Schema) value, nestedPath, existingParameters, resource, action, entries,
-                    isNew);
-              }
-            });
-  }
-
-  private ChangeLogEntry formatNewParameterEntry(
-      Resource resource, Action action, Parameter parameter) {
+  private ChangeLogEntry formatNewParameterEntry(ParameterChange change) {
+    Resource resource = change.resource();
+    Action action = change.action();
+    Parameter parameter = change.parameter();
     String paramAnchor = parameterAnchor(action, parameter);
     String resourcePath = getDocsLinkForResourceList(resource);
     String actionPath = toHyphenCase(action.id);
@@ -524,21 +403,7 @@ public class ChangeLogDocsGenerator implements FileGenerator {
 
   // --- New Events ---
 
-  private List<ChangeLogEntry> generateNewEvents(Spec oldVersion, Spec newerVersion) {
-    List<Map<String, String>> oldEvents = oldVersion.extractWebhookInfo(false);
-    List<Map<String, String>> newEvents = newerVersion.extractWebhookInfo(false);
-
-    Set<String> existingEventTypes =
-        oldEvents.stream().map(event -> event.get("type")).collect(Collectors.toSet());
-
-    return distinctByLine(
-        newEvents.stream()
-            .filter(event -> !existingEventTypes.contains(event.get("type")))
-            .map(this::formatNewEventEntry));
-  }
-
-  private ChangeLogEntry formatNewEventEntry(Map<String, String> event) {
-    String eventType = event.get("type");
+  private ChangeLogEntry formatNewEventEntry(String eventType) {
     String line =
         String.format(
             "[list]Enum value added: [code %s] to the enum"
@@ -553,252 +418,102 @@ public class ChangeLogDocsGenerator implements FileGenerator {
 
   // --- Deleted Resources ---
 
-  private List<ChangeLogEntry> generateDeletedResources(
-      List<Resource> oldResources, List<Resource> newResources) {
-    Set<String> currentResourceIds = extractResourceIds(newResources);
-
-    return distinctByLine(
-        oldResources.stream()
-            .filter(resource -> !currentResourceIds.contains(resource.id))
-            .map(
-                resource -> {
-                  String resourcePath = getDocsLinkForResourceList(resource);
-                  return ChangeLogEntry.builder()
-                      .line(
-                          String.format(
-                              "[list]Resource [code %s] has been removed.[]", resourcePath))
-                      .type(EntryType.DELETED_RESOURCE)
-                      .resourceId(resource.id)
-                      .docsResourcePath(resourcePath)
-                      .build();
-                }));
+  private ChangeLogEntry formatDeletedResourceEntry(ResourceChange change) {
+    Resource resource = change.resource();
+    String resourcePath = getDocsLinkForResourceList(resource);
+    return ChangeLogEntry.builder()
+        .line(String.format("[list]Resource [code %s] has been removed.[]", resourcePath))
+        .type(EntryType.DELETED_RESOURCE)
+        .resourceId(resource.id)
+        .docsResourcePath(resourcePath)
+        .build();
   }
 
   // --- Deleted Actions ---
 
-  private List<ChangeLogEntry> generateDeletedActions(
-      List<Resource> oldResources, List<Resource> newResources) {
-    Map<String, Resource> newResourceMap =
-        newResources.stream()
-            .collect(Collectors.toMap(resource -> resource.id, resource -> resource));
-    Map<String, ChangeLogEntry> entries = new LinkedHashMap<>();
-
-    for (Resource oldResource : oldResources) {
-      Resource correspondingNewResource = newResourceMap.get(oldResource.id);
-
-      if (correspondingNewResource != null) {
-        Set<String> currentActions =
-            correspondingNewResource.actions.stream()
-                .map(action -> action.name)
-                .collect(Collectors.toSet());
-
-        for (Action oldAction : oldResource.actions) {
-          if (!currentActions.contains(oldAction.name)) {
-            String resourcePath = getDocsLinkForResourceList(correspondingNewResource);
-            String line =
-                String.format(
-                    "[list]Endpoint [code %s] removed from [link_api %s][code %s][].[]",
-                    oldAction.id, resourcePath, resourcePath);
-            entries.putIfAbsent(
-                line,
-                ChangeLogEntry.builder()
-                    .line(line)
-                    .type(EntryType.DELETED_ACTION)
-                    .resourceId(correspondingNewResource.id)
-                    .docsResourcePath(resourcePath)
-                    .actionId(oldAction.id)
-                    .build());
-          }
-        }
-      } else {
-        for (Action action : oldResource.actions) {
-          String line =
-              String.format(
-                  "[list]Endpoint [code %s] removed from [code %s].[]",
-                  action.id, getDocsLinkForResourceList(oldResource));
-          entries.putIfAbsent(
-              line,
-              ChangeLogEntry.builder()
-                  .line(line)
-                  .type(EntryType.DELETED_ACTION)
-                  // Resource is gone; nothing to verify against.
-                  .build());
-        }
-      }
+  private ChangeLogEntry formatDeletedActionEntry(ActionChange change) {
+    Resource resource = change.resource();
+    Action action = change.action();
+    String resourcePath = getDocsLinkForResourceList(resource);
+    if (change.resourceRemoved()) {
+      String line =
+          String.format(
+              "[list]Endpoint [code %s] removed from [code %s].[]", action.id, resourcePath);
+      return ChangeLogEntry.builder()
+          .line(line)
+          .type(EntryType.DELETED_ACTION)
+          // Resource is gone; nothing to verify against.
+          .build();
     }
-
-    return new ArrayList<>(entries.values());
+    String line =
+        String.format(
+            "[list]Endpoint [code %s] removed from [link_api %s][code %s][].[]",
+            action.id, resourcePath, resourcePath);
+    return ChangeLogEntry.builder()
+        .line(line)
+        .type(EntryType.DELETED_ACTION)
+        .resourceId(resource.id)
+        .docsResourcePath(resourcePath)
+        .actionId(action.id)
+        .build();
   }
 
   // --- Deleted Attributes ---
 
-  private List<ChangeLogEntry> generateDeletedAttributes(
-      List<Resource> oldResources, List<Resource> newResources) {
-    Map<String, Resource> newResourceMap =
-        newResources.stream()
-            .collect(Collectors.toMap(resource -> resource.id, resource -> resource));
-    Map<String, ChangeLogEntry> entries = new LinkedHashMap<>();
-
-    for (Resource oldResource : oldResources) {
-      Resource correspondingNewResource = newResourceMap.get(oldResource.id);
-
-      if (correspondingNewResource != null) {
-        Set<String> currentAttributes =
-            correspondingNewResource.attributes().stream()
-                .map(attribute -> attribute.name)
-                .collect(Collectors.toSet());
-
-        String resourcePath = getDocsLinkForResourceList(correspondingNewResource);
-        for (Attribute oldAttribute : oldResource.attributes()) {
-          if (!currentAttributes.contains(oldAttribute.name)) {
-            String anchor = oldResource.id + "_" + oldAttribute.name;
-            String line =
-                String.format(
-                    "[list]Attribute [code %s] removed from the resource "
-                        + "[link_api %s#%s][code %s][].[]",
-                    oldAttribute.name,
-                    resourcePath,
-                    anchor,
-                    resourcePath);
-            entries.putIfAbsent(
-                line,
-                ChangeLogEntry.builder()
-                    .line(line)
-                    .type(EntryType.DELETED_ATTRIBUTE)
-                    .resourceId(correspondingNewResource.id)
-                    .docsResourcePath(resourcePath)
-                    .slugPath(oldAttribute.name)
-                    .build());
-          }
-        }
-      } else {
-        for (Attribute attribute : oldResource.attributes()) {
-          String line =
-              String.format(
-                  "[list]Attribute [code %s] removed from the resource [code %s].[]",
-                  attribute.name, getDocsLinkForResourceList(oldResource));
-          entries.putIfAbsent(
-              line,
-              ChangeLogEntry.builder()
-                  .line(line)
-                  .type(EntryType.DELETED_ATTRIBUTE)
-                  .slugPath(attribute.name)
-                  .build());
-        }
-      }
-    }
-
-    return new ArrayList<>(entries.values());
+  private ChangeLogEntry formatDeletedAttributeEntry(AttributeChange change) {
+    Resource resource = change.resource();
+    Attribute attribute = change.attribute();
+    String resourcePath = getDocsLinkForResourceList(resource);
+    if (change.resourceRemoved()) {
+      String line =
+          String.format(
+              "[list]Attribute [code %s] removed from the resource [code %s].[]",
+              attribute.name, resourcePath);
+      return ChangeLogEntry.builder()
+          .line(line)
+          .type(EntryType.DELETED_ATTRIBUTE)
+          .slugPath(attribute.name)
+          .build();
+    }
+    String anchor = resource.id + "_" + attribute.name;
+    String line =
+        String.format(
+            "[list]Attribute [code %s] removed from the resource "
+                + "[link_api %s#%s][code %s][].[]",
+            attribute.name,
+            resourcePath,
+            anchor,
+            resourcePath);
+    return ChangeLogEntry.builder()
+        .line(line)
+        .type(EntryType.DELETED_ATTRIBUTE)
+        .resourceId(resource.id)
+        .docsResourcePath(resourcePath)
+        .slugPath(attribute.name)
+        .build();
   }
 
   // --- Deleted Parameters ---
 
-  private List<ChangeLogEntry> generateDeletedParameters(
-      List<Resource> oldResources, List<Resource> newResources) {
-    List<ChangeLogEntry> deletedQueryParameters =
-        generateDeletedParameterEntries(oldResources, newResources, Action::queryParameters);
-    List<ChangeLogEntry> deletedBodyParameters =
-        generateDeletedParameterEntries(oldResources, newResources, Action::requestBodyParameters);
-
-    return Stream.concat(deletedQueryParameters.stream(), deletedBodyParameters.stream())
-        .collect(Collectors.toList());
-  }
-
-  private List<ChangeLogEntry> generateDeletedParameterEntries(
-      List<Resource> oldResources,
-      List<Resource> newResources,
-      Function<Action, List<Parameter>> parameterExtractor) {
-    Map<String, Resource> newResourceMap =
-        newResources.stream()
-            .collect(Collectors.toMap(resource -> resource.id, resource -> resource));
-    Map<String, ChangeLogEntry> entries = new LinkedHashMap<>();
-
-    for (Resource oldResource : oldResources) {
-      Resource correspondingNewResource = newResourceMap.get(oldResource.id);
-
-      if (correspondingNewResource != null) {
-        processDeletedParametersForExistingResource(
-            oldResource, correspondingNewResource, parameterExtractor, entries);
-      } else {
-        processDeletedParametersForRemovedResource(oldResource, parameterExtractor, entries);
-      }
-    }
-
-    return new ArrayList<>(entries.values());
-  }
-
-  private void processDeletedParametersForExistingResource(
-      Resource oldResource,
-      Resource newResource,
-      Function<Action, List<Parameter>> parameterExtractor,
-      Map<String, ChangeLogEntry> entries) {
-    Map<String, Action> newActionMap =
-        newResource.actions.stream()
-            .collect(Collectors.toMap(action -> action.id, action -> action));
-
-    for (Action oldAction : oldResource.actions) {
-      Action correspondingNewAction = newActionMap.get(oldAction.id);
-
-      if (correspondingNewAction != null) {
-        Set<String> currentParameters =
-            collectParameterNames(parameterExtractor.apply(correspondingNewAction));
-
-        for (Parameter oldParameter : parameterExtractor.apply(oldAction)) {
-          if (!currentParameters.contains(oldParameter.getName())) {
-            ChangeLogEntry entry =
-                formatDeletedParameterEntry(newResource, correspondingNewAction, oldParameter,
-                    true);
-            entries.putIfAbsent(entry.getLine(), entry);
-          } else if (oldParameter.schema.getProperties() != null) {
-            processNestedParameters(
-                oldParameter.schema,
-                oldParameter.getName(),
-                currentParameters,
-                newResource,
-                correspondingNewAction,
-                entries,
-                false);
-          }
-        }
-      } else {
-        for (Parameter parameter : parameterExtractor.apply(oldAction)) {
-          ChangeLogEntry entry =
-              formatDeletedParameterEntry(newResource, oldAction, parameter, false);
-          entries.putIfAbsent(entry.getLine(), entry);
-        }
-      }
-    }
-  }
-
-  private void processDeletedParametersForRemovedResource(
-      Resource oldResource,
-      Function<Action, List<Parameter>> parameterExtractor,
-      Map<String, ChangeLogEntry> entries) {
-    String resourcePath = getDocsLinkForResourceList(oldResource);
-    for (Action action : oldResource.actions) {
-      for (Parameter parameter : parameterExtractor.apply(action)) {
-        String line =
-            String.format(
-                "[list]Input parameter [code %s] removed from the endpoint [code %s] in [code %s].[]",
-                toBracketNotation(parameter.getName()), toHyphenCase(action.id), resourcePath);
-        entries.putIfAbsent(
-            line,
-            ChangeLogEntry.builder()
-                .line(line)
-                .type(EntryType.DELETED_PARAMETER)
-                .slugPath(parameter.getName())
-                .build());
-      }
-    }
-  }
-
-  private ChangeLogEntry formatDeletedParameterEntry(
-      Resource resource, Action action, Parameter parameter, boolean includeLink) {
-    String paramAnchor = parameterAnchor(action, parameter);
+  private ChangeLogEntry formatDeletedParameterEntry(ParameterChange change) {
+    Resource resource = change.resource();
+    Action action = change.action();
+    Parameter parameter = change.parameter();
     String resourcePath = getDocsLinkForResourceList(resource);
     String actionPath = toHyphenCase(action.id);
+    if (change.resourceRemoved()) {
+      String line =
+          String.format(
+              "[list]Input parameter [code %s] removed from the endpoint [code %s] in [code %s].[]",
+              toBracketNotation(parameter.getName()), actionPath, resourcePath);
+      return ChangeLogEntry.builder()
+          .line(line)
+          .type(EntryType.DELETED_PARAMETER)
+          .slugPath(parameter.getName())
+          .build();
+    }
     String line;
-    if (includeLink) {
+    if (!change.actionRemoved()) {
       line =
           String.format(
               "[list]Input parameter [code %s] removed from the endpoint "
@@ -806,7 +521,7 @@ public class ChangeLogDocsGenerator implements FileGenerator {
               toBracketNotation(parameter.getName()),
               resourcePath,
               actionPath,
-              paramAnchor,
+              parameterAnchor(action, parameter),
               endpointParamLabel(action, parameter));
     } else {
       line =
@@ -826,272 +541,81 @@ public class ChangeLogDocsGenerator implements FileGenerator {
 
   // --- Deleted Events ---
 
-  private List<ChangeLogEntry> generateDeletedEvents(Spec oldVersion, Spec newerVersion) {
-    List<Map<String, String>> oldEvents = oldVersion.extractWebhookInfo(false);
-    List<Map<String, String>> newEvents = newerVersion.extractWebhookInfo(false);
-
-    Set<String> currentEventTypes =
-        newEvents.stream().map(event -> event.get("type")).collect(Collectors.toSet());
-
-    return distinctByLine(
-        oldEvents.stream()
-            .filter(event -> !currentEventTypes.contains(event.get("type")))
-            .map(
-                event -> {
-                  String eventType = event.get("type");
-                  String line =
-                      String.format(
-                          "[list]Enum value removed: [code %s] from the enum [code event_type].[]",
-                          eventType);
-                  return ChangeLogEntry.builder()
-                      .line(line)
-                      .type(EntryType.DELETED_EVENT_TYPE)
-                      .eventType(eventType)
-                      .build();
-                }));
-  }
-
-  // --- New Enum Values ---
-
-  private List<ChangeLogEntry> generateNewEnumValues(
-      List<Resource> oldResources, List<Resource> newResources, Spec oldSpec, Spec newSpec) {
-    Map<String, ChangeLogEntry> entries = new LinkedHashMap<>();
-
-    for (ChangeLogEntry entry : generateAttributeEnumEntries(oldResources, newResources, true)) {
-      entries.putIfAbsent(entry.getLine(), entry);
-    }
-    for (ChangeLogEntry entry : generateParameterEnumEntries(oldResources, newResources, true)) {
-      entries.putIfAbsent(entry.getLine(), entry);
-    }
-
-    return new ArrayList<>(entries.values());
+  private ChangeLogEntry formatDeletedEventEntry(String eventType) {
+    String line =
+        String.format(
+            "[list]Enum value removed: [code %s] from the enum [code event_type].[]", eventType);
+    return ChangeLogEntry.builder()
+        .line(line)
+        .type(EntryType.DELETED_EVENT_TYPE)
+        .eventType(eventType)
+        .build();
   }
 
-  // --- Deleted Enum Values ---
+  // --- Enum Values ---
 
-  private List<ChangeLogEntry> generateDeletedEnumValues(
-      List<Resource> oldResources, List<Resource> newResources, Spec oldSpec, Spec newSpec) {
+  private List<ChangeLogEntry> enumEntries(SpecDiff diff, boolean isAdded) {
     Map<String, ChangeLogEntry> entries = new LinkedHashMap<>();
 
-    for (ChangeLogEntry entry : generateAttributeEnumEntries(oldResources, newResources, false)) {
+    for (AttributeEnumChange change :
+        isAdded ? diff.addedAttributeEnumValues() : diff.removedAttributeEnumValues()) {
+      ChangeLogEntry entry = formatAttributeEnumEntry(change, isAdded);
       entries.putIfAbsent(entry.getLine(), entry);
     }
-    for (ChangeLogEntry entry : generateParameterEnumEntries(oldResources, newResources, false)) {
+    for (ParameterEnumChange change :
+        isAdded ? diff.addedParameterEnumValues() : diff.removedParameterEnumValues()) {
+      ChangeLogEntry entry = formatParameterEnumEntry(change, isAdded);
       entries.putIfAbsent(entry.getLine(), entry);
     }
 
     return new ArrayList<>(entries.values());
   }
 
-  private List<ChangeLogEntry> generateAttributeEnumEntries(
-      List<Resource> oldResources, List<Resource> newResources, boolean isAdded) {
-    Map<String, Map<String, Set<String>>> oldEnumMap = buildAttributeEnumMap(oldResources);
-    Map<String, Map<String, Set<String>>> newEnumMap = buildAttributeEnumMap(newResources);
-
-    List<ChangeLogEntry> entries = new ArrayList<>();
-    List<Resource> sourceResources = isAdded ? newResources : oldResources;
-    Map<String, Map<String, Set<String>>> comparisonMap = isAdded ? oldEnumMap : newEnumMap;
-
-    for (Resource resource : sourceResources) {
-      Map<String, Set<String>> comparisonEnums =
-          comparisonMap.getOrDefault(resource.id, Collections.emptyMap());
-      processAttributeEnumChanges(
-          resource, resource.attributes(), "", comparisonEnums, entries, isAdded);
-    }
-
-    return entries;
-  }
-
-  private void processAttributeEnumChanges(
-      Resource resource,
-      List<Attribute> attributes,
-      String path,
-      Map<String, Set<String>> comparisonEnums,
-      List<ChangeLogEntry> entries,
-      boolean isAdded) {
-    for (Attribute attribute : attributes) {
-      String currentPath = buildAttributePath(path, attribute.name);
-      String anchorId = buildAttributeAnchor(path, attribute.name);
-
-      if (attribute.isEnumAttribute()) {
-        Set<String> comparisonValues =
-            comparisonEnums.getOrDefault(currentPath, Collections.emptySet());
-        List<String> changedValues =
-            findChangedEnumValues(attribute.getEnum().values(), comparisonValues, isAdded);
-
-        if (!changedValues.isEmpty()) {
-          String linkPath = getDocsLinkForResourceObject(resource);
-          String codeLabel = resource.id + "." + currentPath;
-          String line = renderEnumLine(isAdded, changedValues, linkPath, anchorId, codeLabel);
-          entries.add(
-              ChangeLogEntry.builder()
-                  .line(line)
-                  .type(
-                      isAdded
-                          ? EntryType.NEW_ATTRIBUTE_ENUM_VALUE
-                          : EntryType.DELETED_ATTRIBUTE_ENUM_VALUE)
-                  .resourceId(resource.id)
-                  .docsResourcePath(getDocsLinkForResourceList(resource))
-                  .slugPath(currentPath)
-                  .enumValues(new ArrayList<>(changedValues))
-                  .linkPath(linkPath)
-                  .linkAnchor(anchorId)
-                  .codeLabel(codeLabel)
-                  .build());
-        }
-      }
-
-      if (attribute.getSubAttributes() != null) {
-        processAttributeEnumChanges(
-            resource, attribute.getSubAttributes(), currentPath, comparisonEnums, entries, isAdded);
-      }
-    }
-  }
-
-  private List<ChangeLogEntry> generateParameterEnumEntries(
-      List<Resource> oldResources, List<Resource> newResources, boolean isAdded) {
-    List<ChangeLogEntry> entries = new ArrayList<>();
-    Map<String, Map<String, Map<String, Set<String>>>> oldEnumMap =
-        collectParameterEnums(oldResources);
-    Map<String, Map<String, Map<String, Set<String>>>> newEnumMap =
-        collectParameterEnums(newResources);
-
-    List<Resource> sourceResources = isAdded ? newResources : oldResources;
-    Map<String, Map<String, Map<String, Set<String>>>> comparisonMap =
-        isAdded ? oldEnumMap : newEnumMap;
-
-    for (Resource resource : sourceResources) {
-      Map<String, Map<String, Set<String>>> comparisonActions =
-          comparisonMap.getOrDefault(resource.id, Collections.emptyMap());
-
-      for (Action action : resource.actions) {
-        Map<String, Set<String>> comparisonParameters =
-            comparisonActions.getOrDefault(action.id, Collections.emptyMap());
-
-        processParameterEnumChanges(
-            resource, action, action.queryParameters(), QUERY_PREFIX, comparisonParameters, entries,
-            isAdded);
-        processParameterEnumChanges(
-            resource, action, action.requestBodyParameters(), BODY_PREFIX, comparisonParameters,
-            entries, isAdded);
-      }
-    }
-
-    return entries;
-  }
-
-  private void processParameterEnumChanges(
-      Resource resource,
-      Action action,
-      List<Parameter> parameters,
-      String prefix,
-      Map<String, Set<String>> comparisonParameters,
-      List<ChangeLogEntry> entries,
-      boolean isAdded) {
-    for (Parameter parameter : parameters) {
-      if (shouldProcessParameterEnum(parameter)) {
-        String parameterKey = prefix + ":" + parameter.getName();
-        Set<String> comparisonValues =
-            comparisonParameters.getOrDefault(parameterKey, Collections.emptySet());
-        List<String> changedValues =
-            findChangedEnumValues(parameter.getEnumValues(), comparisonValues, isAdded);
-
-        if (!changedValues.isEmpty()) {
-          addParameterEnumEntry(entries, changedValues, resource, action, parameter, isAdded);
-        }
-      }
-
-      if (parameter.schema.getProperties() != null) {
-        processNestedParameterEnums(
-            resource, action, parameter, prefix, comparisonParameters, entries, isAdded);
-      }
-    }
-  }
-
-  private void processNestedParameterEnums(
-      Resource resource,
-      Action action,
-      Parameter parameter,
-      String prefix,
-      Map<String, Set<String>> comparisonParameters,
-      List<ChangeLogEntry> entries,
-      boolean isAdded) {
-    parameter
-        .schema
-        .getProperties()
-        .forEach(
-            (key, schema) -> {
-              Schema propertySchema = (Schema) schema;
-
-              if (shouldProcessSchemaEnum(propertySchema)) {
-                String nestedParameterName = parameter.getName() + "." + key;
-                String parameterKey = prefix + ":" + nestedParameterName;
-                Set<String> comparisonValues =
-                    comparisonParameters.getOrDefault(parameterKey, Collections.emptySet());
-                List<String> changedValues =
-                    findChangedEnumValues(
-                        new ArrayList<>(getEnumValues(propertySchema)), comparisonValues, isAdded);
-
-                if (!changedValues.isEmpty()) {
-                  Parameter nestedParameter = new Parameter(nestedParameterName, propertySchema);
-                  addParameterEnumEntry(
-                      entries, changedValues, resource, action, nestedParameter, isAdded);
-                }
-              }
-            });
+  private ChangeLogEntry formatAttributeEnumEntry(AttributeEnumChange change, boolean isAdded) {
+    Resource resource = change.resource();
+    String linkPath = getDocsLinkForResourceObject(resource);
+    String codeLabel = resource.id + "." + change.path();
+    String line = renderEnumLine(isAdded, change.values(), linkPath, change.anchor(), codeLabel);
+    return ChangeLogEntry.builder()
+        .line(line)
+        .type(isAdded ? EntryType.NEW_ATTRIBUTE_ENUM_VALUE : EntryType.DELETED_ATTRIBUTE_ENUM_VALUE)
+        .resourceId(resource.id)
+        .docsResourcePath(getDocsLinkForResourceList(resource))
+        .slugPath(change.path())
+        .enumValues(new ArrayList<>(change.values()))
+        .linkPath(linkPath)
+        .linkAnchor(change.anchor())
+        .codeLabel(codeLabel)
+        .build();
   }
 
-  private void addParameterEnumEntry(
-      List<ChangeLogEntry> entries,
-      List<String> values,
-      Resource resource,
-      Action action,
-      Parameter parameter,
-      boolean isAdded) {
+  private ChangeLogEntry formatParameterEnumEntry(ParameterEnumChange change, boolean isAdded) {
+    Resource resource = change.resource();
+    Action action = change.action();
+    Parameter parameter = change.parameter();
     String paramAnchor = parameterAnchor(action, parameter);
     String resourcePath = getDocsLinkForResourceList(resource);
-    String actionPath = toHyphenCase(action.id);
-    String linkPath = resourcePath + "/" + actionPath;
+    String linkPath = resourcePath + "/" + toHyphenCase(action.id);
     String codeLabel = endpointEnumLabel(action, parameter.getName());
-    String line = renderEnumLine(isAdded, values, linkPath, paramAnchor, codeLabel);
-    entries.add(
-        ChangeLogEntry.builder()
-            .line(line)
-            .type(
-                isAdded
-                    ? EntryType.NEW_PARAMETER_ENUM_VALUE
-                    : EntryType.DELETED_PARAMETER_ENUM_VALUE)
-            .resourceId(resource.id)
-            .docsResourcePath(resourcePath)
-            .actionId(action.id)
-            .slugPath(parameter.getName())
-            .enumValues(new ArrayList<>(values))
-            .linkPath(linkPath)
-            .linkAnchor(paramAnchor)
-            .codeLabel(codeLabel)
-            .build());
+    String line = renderEnumLine(isAdded, change.values(), linkPath, paramAnchor, codeLabel);
+    return ChangeLogEntry.builder()
+        .line(line)
+        .type(isAdded ? EntryType.NEW_PARAMETER_ENUM_VALUE : EntryType.DELETED_PARAMETER_ENUM_VALUE)
+        .resourceId(resource.id)
+        .docsResourcePath(resourcePath)
+        .actionId(action.id)
+        .slugPath(parameter.getName())
+        .enumValues(new ArrayList<>(change.values()))
+        .linkPath(linkPath)
+        .linkAnchor(paramAnchor)
+        .codeLabel(codeLabel)
+        .build();
   }
 
   // --- Deprecated Resources ---
 
-  private List<ChangeLogEntry> generateDeprecatedResources(
-      List<Resource> oldResources, List<Resource> newResources) {
-    Map<String, Resource> oldResourceMap =
-        oldResources.stream()
-            .collect(Collectors.toMap(resource -> resource.id, resource -> resource));
-
-    return distinctByLine(
-        newResources.stream()
-            .filter(Resource::isDeprecated)
-            .filter(
-                resource -> {
-                  Resource oldResource = oldResourceMap.get(resource.id);
-                  return oldResource == null || !oldResource.isDeprecated();
-                })
-            .map(this::formatDeprecatedResourceEntry));
-  }
-
-  private ChangeLogEntry formatDeprecatedResourceEntry(Resource resource) {
+  private ChangeLogEntry formatDeprecatedResourceEntry(ResourceChange change) {
+    Resource resource = change.resource();
     String resourcePath = getDocsLinkForResourceList(resource);
     String line =
         String.format(
@@ -1107,32 +631,9 @@ public class ChangeLogDocsGenerator implements FileGenerator {
 
   // --- Deprecated Actions ---
 
-  private List<ChangeLogEntry> generateDeprecatedActions(
-      List<Resource> oldResources, List<Resource> newResources) {
-    Map<String, Map<String, Boolean>> oldActionDeprecation =
-        buildActionDeprecationMap(oldResources);
-    Map<String, ChangeLogEntry> entries = new LinkedHashMap<>();
-
-    for (Resource newResource : newResources) {
-      Map<String, Boolean> oldActions =
-          oldActionDeprecation.getOrDefault(newResource.id, Collections.emptyMap());
-
-      for (Action action : newResource.actions) {
-        if (!action.isOperationDeprecated()) {
-          continue;
-        }
-        Boolean wasDeprecated = oldActions.get(action.id);
-        if (wasDeprecated != null && !wasDeprecated) {
-          ChangeLogEntry entry = formatDeprecatedActionEntry(newResource, action);
-          entries.putIfAbsent(entry.getLine(), entry);
-        }
-      }
-    }
-
-    return new ArrayList<>(entries.values());
-  }
-
-  private ChangeLogEntry formatDeprecatedActionEntry(Resource resource, Action action) {
+  private ChangeLogEntry formatDeprecatedActionEntry(ActionChange change) {
+    Resource resource = change.resource();
+    Action action = change.action();
     String resourcePath = getDocsLinkForResourceList(resource);
     String actionPath = toHyphenCase(action.id);
     String line =
@@ -1150,32 +651,9 @@ public class ChangeLogDocsGenerator implements FileGenerator {
 
   // --- Deprecated Attributes ---
 
-  private List<ChangeLogEntry> generateDeprecatedAttributes(
-      List<Resource> oldResources, List<Resource> newResources) {
-    Map<String, Map<String, Boolean>> oldAttributeDeprecation =
-        buildAttributeDeprecationMap(oldResources);
-    Map<String, ChangeLogEntry> entries = new LinkedHashMap<>();
-
-    for (Resource newResource : newResources) {
-      Map<String, Boolean> oldAttributes =
-          oldAttributeDeprecation.getOrDefault(newResource.id, Collections.emptyMap());
-
-      for (Attribute attribute : newResource.attributes()) {
-        if (!attribute.isDeprecated()) {
-          continue;
-        }
-        Boolean wasDeprecated = oldAttributes.get(attribute.name);
-        if (wasDeprecated != null && !wasDeprecated) {
-          ChangeLogEntry entry = formatDeprecatedAttributeEntry(newResource, attribute);
-          entries.putIfAbsent(entry.getLine(), entry);
-        }
-      }
-    }
-
-    return new ArrayList<>(entries.values());
-  }
-
-  private ChangeLogEntry formatDeprecatedAttributeEntry(Resource resource, Attribute attribute) {
+  private ChangeLogEntry formatDeprecatedAttributeEntry(AttributeChange change) {
+    Resource resource = change.resource();
+    Attribute attribute = change.attribute();
     String resourcePath = getDocsLinkForResourceList(resource);
     String line =
         String.format(
@@ -1195,100 +673,10 @@ public class ChangeLogDocsGenerator implements FileGenerator {
 
   // --- Deprecated Parameters ---
 
-  private List<ChangeLogEntry> generateDeprecatedParameters(
-      List<Resource> oldResources, List<Resource> newResources) {
-    List<ChangeLogEntry> queryEntries =
-        generateDeprecatedParameterEntries(oldResources, newResources, Action::queryParameters);
-    List<ChangeLogEntry> bodyEntries =
-        generateDeprecatedParameterEntries(
-            oldResources, newResources, Action::requestBodyParameters);
-
-    return Stream.concat(queryEntries.stream(), bodyEntries.stream())
-        .collect(Collectors.toList());
-  }
-
-  private List<ChangeLogEntry> generateDeprecatedParameterEntries(
-      List<Resource> oldResources,
-      List<Resource> newResources,
-      Function<Action, List<Parameter>> parameterExtractor) {
-    Map<String, Map<String, Map<String, Boolean>>> oldParameterDeprecation =
-        buildParameterDeprecationMap(oldResources, parameterExtractor);
-    Map<String, ChangeLogEntry> entries = new LinkedHashMap<>();
-
-    for (Resource newResource : newResources) {
-      Map<String, Map<String, Boolean>> oldActionParameters =
-          oldParameterDeprecation.getOrDefault(newResource.id, Collections.emptyMap());
-
-      for (Action action : newResource.actions) {
-        Map<String, Boolean> oldParameters =
-            oldActionParameters.getOrDefault(action.id, Collections.emptyMap());
-        collectDeprecatedParameterEntries(
-            newResource, action, parameterExtractor.apply(action), "", oldParameters, entries);
-      }
-    }
-
-    return new ArrayList<>(entries.values());
-  }
-
-  private void collectDeprecatedParameterEntries(
-      Resource resource,
-      Action action,
-      List<Parameter> parameters,
-      String pathPrefix,
-      Map<String, Boolean> oldDeprecation,
-      Map<String, ChangeLogEntry> entries) {
-    for (Parameter parameter : parameters) {
-      String path = pathPrefix.isEmpty() ? parameter.getName() : pathPrefix;
-      if (parameter.isDeprecated()) {
-        Boolean wasDeprecated = oldDeprecation.get(path);
-        if (wasDeprecated != null && !wasDeprecated) {
-          Parameter pathParameter = new Parameter(path, parameter.schema);
-          ChangeLogEntry entry =
-              formatDeprecatedParameterEntry(resource, action, pathParameter);
-          entries.putIfAbsent(entry.getLine(), entry);
-        }
-      }
-      if (parameter.schema.getProperties() != null) {
-        collectDeprecatedNestedParameterEntries(
-            parameter.schema, path, resource, action, oldDeprecation, entries);
-      }
-    }
-  }
-
-  private void collectDeprecatedNestedParameterEntries(
-      Schema schema,
-      String path,
-      Resource resource,
-      Action action,
-      Map<String, Boolean> oldDeprecation,
-      Map<String, ChangeLogEntry> entries) {
-    if (schema.getProperties() == null) {
-      return;
-    }
-    schema
-        .getProperties()
-        .forEach(
-            (key, value) -> {
-              Schema<?> childSchema = (Schema<?>) value;
-              String nestedPath = path + "." + key;
-              boolean isDeprecated =
-                  childSchema.getDeprecated() != null && childSchema.getDeprecated();
-              if (isDeprecated) {
-                Boolean wasDeprecated = oldDeprecation.get(nestedPath);
-                if (wasDeprecated != null && !wasDeprecated) {
-                  Parameter nestedParameter = new Parameter(nestedPath, childSchema);
-                  ChangeLogEntry entry =
-                      formatDeprecatedParameterEntry(resource, action, nestedParameter);
-                  entries.putIfAbsent(entry.getLine(), entry);
-                }
-              }
-              collectDeprecatedNestedParameterEntries(
-                  childSchema, nestedPath, resource, action, oldDeprecation, entries);
-            });
-  }
-
-  private ChangeLogEntry formatDeprecatedParameterEntry(
-      Resource resource, Action action, Parameter parameter) {
+  private ChangeLogEntry formatDeprecatedParameterEntry(ParameterChange change) {
+    Resource resource = change.resource();
+    Action action = change.action();
+    Parameter parameter = change.parameter();
     String paramAnchor = parameterAnchor(action, parameter);
     String resourcePath = getDocsLinkForResourceList(resource);
     String actionPath = toHyphenCase(action.id);
@@ -1311,120 +699,12 @@ public class ChangeLogDocsGenerator implements FileGenerator {
         .build();
   }
 
-  private Map<String, Map<String, Boolean>> buildActionDeprecationMap(List<Resource> resources) {
-    Map<String, Map<String, Boolean>> resourceMap = new HashMap<>();
-    for (Resource resource : resources) {
-      Map<String, Boolean> actionMap = new HashMap<>();
-      for (Action action : resource.actions) {
-        actionMap.put(action.id, action.isOperationDeprecated());
-      }
-      resourceMap.put(resource.id, actionMap);
-    }
-    return resourceMap;
-  }
-
-  private Map<String, Map<String, Boolean>> buildAttributeDeprecationMap(
-      List<Resource> resources) {
-    Map<String, Map<String, Boolean>> resourceMap = new HashMap<>();
-    for (Resource resource : resources) {
-      Map<String, Boolean> attributeMap = new HashMap<>();
-      for (Attribute attribute : resource.attributes()) {
-        attributeMap.put(attribute.name, attribute.isDeprecated());
-      }
-      resourceMap.put(resource.id, attributeMap);
-    }
-    return resourceMap;
-  }
-
-  private Map<String, Map<String, Map<String, Boolean>>> buildParameterDeprecationMap(
-      List<Resource> resources, Function<Action, List<Parameter>> parameterExtractor) {
-    Map<String, Map<String, Map<String, Boolean>>> resourceMap = new HashMap<>();
-    for (Resource resource : resources) {
-      Map<String, Map<String, Boolean>> actionMap = new HashMap<>();
-      for (Action action : resource.actions) {
-        Map<String, Boolean> deprecationMap = new HashMap<>();
-        collectParameterDeprecation(parameterExtractor.apply(action), "", deprecationMap);
-        actionMap.put(action.id, deprecationMap);
-      }
-      resourceMap.put(resource.id, actionMap);
-    }
-    return resourceMap;
-  }
-
-  private void collectParameterDeprecation(
-      List<Parameter> parameters, String pathPrefix, Map<String, Boolean> deprecationMap) {
-    for (Parameter parameter : parameters) {
-      String path = pathPrefix.isEmpty() ? parameter.getName() : pathPrefix;
-      deprecationMap.put(path, parameter.isDeprecated());
-      collectSchemaDeprecation(parameter.schema, path, deprecationMap);
-    }
-  }
-
-  private void collectSchemaDeprecation(
-      Schema schema, String path, Map<String, Boolean> deprecationMap) {
-    if (schema.getProperties() == null) {
-      return;
-    }
-    schema
-        .getProperties()
-        .forEach(
-            (key, value) -> {
-              Schema<?> childSchema = (Schema<?>) value;
-              String nestedPath = path + "." + key;
-              boolean isDeprecated =
-                  childSchema.getDeprecated() != null && childSchema.getDeprecated();
-              deprecationMap.put(nestedPath, isDeprecated);
-              collectSchemaDeprecation(childSchema, nestedPath, deprecationMap);
-            });
-  }
-
   // --- Parameter Requirement Changes ---
 
-  private List<ChangeLogEntry> generateParameterRequirementChanges(
-      List<Resource> oldResources, List<Resource> newResources) {
-    List<ChangeLogEntry> entries = new ArrayList<>();
-    Map<String, Map<String, Map<String, Boolean>>> oldRequirementMap =
-        buildParameterRequirementMap(oldResources);
-
-    for (Resource newResource : newResources) {
-      Map<String, Map<String, Boolean>> oldActionRequirements =
-          oldRequirementMap.getOrDefault(newResource.id, Collections.emptyMap());
-
-      for (Action newAction : newResource.actions) {
-        Map<String, Boolean> oldParameterRequirements =
-            oldActionRequirements.getOrDefault(newAction.id, Collections.emptyMap());
-
-        checkRequirementChanges(
-            newResource, newAction, newAction.queryParameters(), QUERY_PREFIX,
-            oldParameterRequirements, entries);
-        checkRequirementChanges(
-            newResource, newAction, newAction.requestBodyParameters(), BODY_PREFIX,
-            oldParameterRequirements, entries);
-      }
-    }
-
-    return entries;
-  }
-
-  private void checkRequirementChanges(
-      Resource resource,
-      Action action,
-      List<Parameter> parameters,
-      String prefix,
-      Map<String, Boolean> oldRequirements,
-      List<ChangeLogEntry> entries) {
-    for (Parameter parameter : parameters) {
-      String parameterKey = prefix + ":" + parameter.getName();
-
-      if (oldRequirements.containsKey(parameterKey)
-          && oldRequirements.get(parameterKey) != parameter.isRequired) {
-        entries.add(formatRequirementChangeEntry(resource, action, parameter));
-      }
-    }
-  }
-
-  private ChangeLogEntry formatRequirementChangeEntry(
-      Resource resource, Action action, Parameter parameter) {
+  private ChangeLogEntry formatRequirementChangeEntry(RequirementChange change) {
+    Resource resource = change.resource();
+    Action action = change.action();
+    Parameter parameter = change.parameter();
     String changeDescription =
         parameter.isRequired ? "`optional` to `required`" : "`required` to `optional`";
     String paramAnchor = parameterAnchor(action, parameter);
@@ -1450,194 +730,8 @@ public class ChangeLogDocsGenerator implements FileGenerator {
         .build();
   }
 
-  // --- Utility: Maps & Sets ---
-
-  private List<ChangeLogEntry> distinctByLine(Stream<ChangeLogEntry> stream) {
-    Map<String, ChangeLogEntry> seen = new LinkedHashMap<>();
-    stream.forEach(entry -> seen.putIfAbsent(entry.getLine(), entry));
-    return new ArrayList<>(seen.values());
-  }
-
-  private Map<String, Set<String>> buildActionMap(List<Resource> resources) {
-    return resources.stream()
-        .collect(
-            Collectors.toMap(
-                resource -> resource.id,
-                resource ->
-                    resource.actions.stream()
-                        .map(action -> action.name)
-                        .collect(Collectors.toSet())));
-  }
-
-  private Map<String, Set<String>> buildAttributeMap(List<Resource> resources) {
-    return resources.stream()
-        .collect(
-            Collectors.toMap(
-                resource -> resource.id,
-                resource ->
-                    resource.attributes().stream()
-                        .map(attribute -> attribute.name)
-                        .collect(Collectors.toSet())));
-  }
-
-  private Map<String, Map<String, Set<String>>> buildParameterMap(
-      List<Resource> resources, Function<Action, List<Parameter>> parameterExtractor) {
-    Map<String, Map<String, Set<String>>> resourceMap = new HashMap<>();
-
-    for (Resource resource : resources) {
-      Map<String, Set<String>> actionMap = new HashMap<>();
-
-      for (Action action : resource.actions) {
-        Set<String> parameterNames = collectParameterNames(parameterExtractor.apply(action));
-        actionMap.put(action.id, parameterNames);
-      }
-
-      resourceMap.put(resource.id, actionMap);
-    }
-
-    return resourceMap;
-  }
-
-  private Set<String> collectParameterNames(List<Parameter> parameters) {
-    Set<String> names = new HashSet<>();
-
-    for (Parameter parameter : parameters) {
-      names.add(parameter.getName());
-      collectNestedParameterNames(parameter.schema, parameter.getName(), names);
-    }
-
-    return names;
-  }
-
-  private void collectNestedParameterNames(Schema schema, String path, Set<String> names) {
-    if (schema.getProperties() == null) {
-      return;
-    }
-
-    schema
-        .getProperties()
-        .forEach(
-            (key, value) -> {
-              String nestedPath = path + "." + key;
-              names.add(nestedPath);
-              collectNestedParameterNames((Schema) value, nestedPath, names);
-            });
-  }
-
-  private Map<String, Map<String, Set<String>>> buildAttributeEnumMap(List<Resource> resources) {
-    Map<String, Map<String, Set<String>>> resourceMap = new HashMap<>();
-
-    for (Resource resource : resources) {
-      Map<String, Set<String>> enumMap = new HashMap<>();
-      collectAttributeEnumsRecursive(resource.attributes(), "", enumMap);
-      resourceMap.put(resource.id, enumMap);
-    }
-
-    return resourceMap;
-  }
-
-  private void collectAttributeEnumsRecursive(
-      List<Attribute> attributes, String path, Map<String, Set<String>> enumMap) {
-    for (Attribute attribute : attributes) {
-      String currentPath = buildAttributePath(path, attribute.name);
-
-      if (attribute.isEnumAttribute()) {
-        enumMap.put(currentPath, new HashSet<>(attribute.getEnum().values()));
-      }
-
-      if (attribute.getSubAttributes() != null) {
-        collectAttributeEnumsRecursive(attribute.getSubAttributes(), currentPath, enumMap);
-      }
-    }
-  }
-
-  private Map<String, Map<String, Map<String, Set<String>>>> collectParameterEnums(
-      List<Resource> resources) {
-    Map<String, Map<String, Map<String, Set<String>>>> resourceMap = new HashMap<>();
-
-    for (Resource resource : resources) {
-      Map<String, Map<String, Set<String>>> actionMap = new HashMap<>();
-
-      for (Action action : resource.actions) {
-        Map<String, Set<String>> enumMap = new HashMap<>();
-        collectEnumsFromParameters(action.queryParameters(), QUERY_PREFIX, enumMap);
-        collectEnumsFromParameters(action.requestBodyParameters(), BODY_PREFIX, enumMap);
-        actionMap.put(action.id, enumMap);
-      }
-
-      resourceMap.put(resource.id, actionMap);
-    }
-
-    return resourceMap;
-  }
-
-  private void collectEnumsFromParameters(
-      List<Parameter> parameters, String prefix, Map<String, Set<String>> enumMap) {
-    for (Parameter parameter : parameters) {
-      if (shouldProcessParameterEnum(parameter)) {
-        String key = prefix + ":" + parameter.getName();
-        enumMap.put(key, new HashSet<>(parameter.getEnumValues()));
-      }
-
-      if (parameter.schema.getProperties() != null) {
-        collectEnumsFromNestedParameters(parameter, prefix, enumMap);
-      }
-    }
-  }
-
-  private void collectEnumsFromNestedParameters(
-      Parameter parameter, String prefix, Map<String, Set<String>> enumMap) {
-    parameter
-        .schema
-        .getProperties()
-        .forEach(
-            (key, schema) -> {
-              Schema propertySchema = (Schema) schema;
-
-              if (shouldProcessSchemaEnum(propertySchema)) {
-                String enumKey = prefix + ":" + parameter.getName() + "." + key;
-                enumMap.put(enumKey, getEnumValues(propertySchema));
-              }
-            });
-  }
-
-  private Map<String, Map<String, Map<String, Boolean>>> buildParameterRequirementMap(
-      List<Resource> resources) {
-    Map<String, Map<String, Map<String, Boolean>>> resourceMap = new HashMap<>();
-
-    for (Resource resource : resources) {
-      Map<String, Map<String, Boolean>> actionMap = new HashMap<>();
-
-      for (Action action : resource.actions) {
-        Map<String, Boolean> requirementMap = new HashMap<>();
-        collectParameterRequirements(action.queryParameters(), QUERY_PREFIX, requirementMap);
-        collectParameterRequirements(action.requestBodyParameters(), BODY_PREFIX, requirementMap);
-        actionMap.put(action.id, requirementMap);
-      }
-
-      resourceMap.put(resource.id, actionMap);
-    }
-
-    return resourceMap;
-  }
-
-  private void collectParameterRequirements(
-      List<Parameter> parameters, String prefix, Map<String, Boolean> requirementMap) {
-    for (Parameter parameter : parameters) {
-      String key = prefix + ":" + parameter.getName();
-      requirementMap.put(key, parameter.isRequired);
-    }
-  }
-
   // --- Utility: Enum helpers ---
 
-  private List<String> findChangedEnumValues(
-      List<String> currentValues, Set<String> comparisonValues, boolean isAdded) {
-    return currentValues.stream()
-        .filter(value -> !comparisonValues.contains(value))
-        .collect(Collectors.toList());
-  }
-
   private String formatEnumCodeValues(List<String> values) {
     if (values.isEmpty()) {
       return "";
@@ -1660,64 +754,8 @@ public class ChangeLogDocsGenerator implements FileGenerator {
     return String.format("%s, and [code %s]", allButLast, lastValue);
   }
 
-  // --- Utility: Schema checks ---
-
-  private boolean shouldProcessParameterEnum(Parameter parameter) {
-    return parameter.isEnum()
-        && !parameter.isExternalEnum()
-        && !parameter.isGenSeperate();
-  }
-
-  private boolean shouldProcessSchemaEnum(Schema schema) {
-    return isEnumSchema(schema)
-        && !isExternalEnumSchema(schema)
-        && !isGenSeparateSchema(schema);
-  }
-
-  private boolean isEnumSchema(Schema schema) {
-    if (schema instanceof ArraySchema) {
-      return schema.getItems().getEnum() != null && !schema.getItems().getEnum().isEmpty();
-    }
-    return schema.getEnum() != null && !schema.getEnum().isEmpty();
-  }
-
-  private boolean isExternalEnumSchema(Schema schema) {
-    Schema targetSchema = schema instanceof ArraySchema ? schema.getItems() : schema;
-    return hasExtension(targetSchema, IS_EXTERNAL_ENUM);
-  }
-
-  private boolean isGenSeparateSchema(Schema schema) {
-    Schema targetSchema = schema instanceof ArraySchema ? schema.getItems() : schema;
-    return hasExtension(targetSchema, IS_GEN_SEPARATE);
-  }
-
-  private boolean hasExtension(Schema schema, String extensionKey) {
-    return schema.getExtensions() != null
-        && schema.getExtensions().get(extensionKey) != null
-        && (boolean) schema.getExtensions().get(extensionKey);
-  }
-
-  private Set<String> getEnumValues(Schema schema) {
-    if (isExternalEnumSchema(schema) || !isEnumSchema(schema) || isGenSeparateSchema(schema)) {
-      return Collections.emptySet();
-    }
-    return new HashSet<>(new Enum(schema).values());
-  }
-
   // --- Utility: ID & Name helpers ---
 
-  private Set<String> extractResourceIds(List<Resource> resources) {
-    return resources.stream().map(resource -> resource.id).collect(Collectors.toSet());
-  }
-
-  private String buildAttributePath(String basePath, String attributeName) {
-    return basePath.isEmpty() ? attributeName : basePath + "." + attributeName;
-  }
-
-  private String buildAttributeAnchor(String basePath, String attributeName) {
-    return basePath.isEmpty() ? attributeName : basePath.replace(".", "_") + "_" + attributeName;
-  }
-
   private String toHyphenCase(String text) {
     return CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_HYPHEN, text);
   }
@@ -0,0 +1,290 @@
+package com.chargebee.sdk.changelog.generators;
+
+import static com.chargebee.sdk.changelog.generators.LocalDocsAvailabilityChecker.DOCS_API_HREF_PREFIX;
+import static com.chargebee.sdk.changelog.generators.LocalDocsAvailabilityChecker.TOC_RELATIVE_PATH;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Complete in-memory view of the first two levels of the docs repository: resource directories,
+ * the {@code slugId} entries of every YAML file inside them and the resource paths published in
+ * the TOC. Built by one parallel walk and optionally persisted so later runs only need to compare
+ * modification times.
+ *
+ * <p>Invalidation relies on directory modification times changing when an entry is added or
+ * removed, so the docs root and every resource directory are recorded alongside the YAML files.
+ */
+final class DocsSlugIndex {
+
+  private static final String HEADER = "# changelog docs slug index v1";
+  private static final String YAML_SUFFIX = ".yaml";
+
+  private static final Pattern SLUG_PATTERN = Pattern.compile("slugId:\\s*\"?([A-Za-z0-9._-]+)\"?");
+  private static final Pattern TOC_HREF_PATTERN =
+      Pattern.compile("href:\\s*\"?(/docs/api/[A-Za-z0-9_-]+)\"?");
+
+  private final Path docsRoot;
+  private final long rootModifiedAt;
+  private final Map<String, Long> directories;
+  private final Map<String, Long> fileModifiedAt;
+  private final Map<String, Set<String>> fileSlugs;
+  private final Set<String> publishedResourcePaths;
+
+  private DocsSlugIndex(
+      Path docsRoot,
+      long rootModifiedAt,
+      Map<String, Long> directories,
+      Map<String, Long> fileModifiedAt,
+      Map<String, Set<String>> fileSlugs,
+      Set<String> publishedResourcePaths) {
+    this.docsRoot = docsRoot;
+    this.rootModifiedAt = rootModifiedAt;
+    this.directories = directories;
+    this.fileModifiedAt = fileModifiedAt;
+    this.fileSlugs = fileSlugs;
+    this.publishedResourcePaths = publishedResourcePaths;
+  }
+
+  /**
+   * Returns the persisted index when it is still fresh, otherwise walks {@code docsRoot} and
+   * persists the result. A {@code null} {@code indexFile} disables persistence.
+   */
+  static DocsSlugIndex loadOrBuild(Path docsRoot, Path indexFile) {
+    if (indexFile != null) {
+      DocsSlugIndex persisted = load(docsRoot, indexFile);
+      if (persisted != null && persisted.isFresh()) {
+        return persisted;
+      }
+    }
+    DocsSlugIndex index = build(docsRoot);
+    if (indexFile != null && Files.isDirectory(docsRoot)) {
+      index.save(indexFile);
+    }
+    return index;
+  }
+
+  static DocsSlugIndex build(Path docsRoot) {
+    Map<String, Long> directories = new ConcurrentHashMap<>();
+    Map<String, Long> fileModifiedAt = new ConcurrentHashMap<>();
+    Map<String, Set<String>> fileSlugs = new ConcurrentHashMap<>();
+    if (!Files.isDirectory(docsRoot)) {
+      return new DocsSlugIndex(
+          docsRoot, -1, directories, fileModifiedAt, fileSlugs, Collections.emptySet());
+    }
+
+    List<Path> topLevel;
+    try (Stream<Path> entries = Files.list(docsRoot)) {
+      topLevel = entries.toList();
+    } catch (IOException e) {
+      topLevel = List.of();
+    }
+    topLevel.parallelStream()
+        .forEach(
+            entry -> {
+              if (Files.isDirectory(entry)) {
+                directories.put(relative(docsRoot, entry), modifiedAt(entry));
+                try (Stream<Path> children = Files.list(entry)) {
+                  children
+                      .filter(DocsSlugIndex::isYamlFile)
+                      .forEach(file -> scan(docsRoot, file, fileModifiedAt, fileSlugs));
+                } catch (IOException | UncheckedIOException ignored) {
+                  // An unreadable directory behaves like an empty one.
+                }
+              } else if (isYamlFile(entry)) {
+                scan(docsRoot, entry, fileModifiedAt, fileSlugs);
+              }
+            });
+
+    return new DocsSlugIndex(
+        docsRoot,
+        modifiedAt(docsRoot),
+        directories,
+        fileModifiedAt,
+        fileSlugs,
+        readPublishedResourcePaths(docsRoot.resolve(TOC_RELATIVE_PATH)));
+  }
+
+  /** Whether {@code path} is one of the two levels below the docs root that this index covers. */
+  boolean covers(Path path) {
+    if (!path.startsWith(docsRoot)) {
+      return false;
+    }
+    int depth = docsRoot.relativize(path).getNameCount();
+    return depth == 1 || depth == 2;
+  }
+
+  boolean isDirectory(Path path) {
+    return directories.containsKey(relative(docsRoot, path));
+  }
+
+  boolean isFile(Path path) {
+    return fileSlugs.containsKey(relative(docsRoot, path));
+  }
+
+  Set<String> slugs(Path path) {
+    return fileSlugs.getOrDefault(relative(docsRoot, path), Collections.emptySet());
+  }
+
+  Set<String> publishedResourcePaths() {
+    return publishedResourcePaths;
+  }
+
+  boolean isFresh() {
+    if (modifiedAt(docsRoot) != rootModifiedAt) {
+      return false;
+    }
+    return Stream.concat(directories.entrySet().stream(), fileModifiedAt.entrySet().stream())
+        .parallel()
+        .allMatch(entry -> modifiedAt(docsRoot.resolve(entry.getKey())) == entry.getValue());
+  }
+
+  void save(Path indexFile) {
+    try {
+      Path parent = indexFile.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      Path temp = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+      try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+        writer.write(HEADER + "\n");
+        writer.write("R\t" + docsRoot.toAbsolutePath() + "\t" + rootModifiedAt + "\n");
+        for (Map.Entry<String, Long> directory : directories.entrySet()) {
+          writer.write("D\t" + directory.getKey() + "\t" + directory.getValue() + "\n");
+        }
+        for (Map.Entry<String, Set<String>> file : fileSlugs.entrySet()) {
+          StringBuilder line = new StringBuilder("F\t");
+          line.append(file.getKey()).append('\t').append(fileModifiedAt.get(file.getKey()));
+          for (String slug : file.getValue()) {
+            line.append('\t').append(slug);
+          }
+          writer.write(line.append('\n').toString());
+        }
+        for (String resourcePath : publishedResourcePaths) {
+          writer.write("H\t" + resourcePath + "\n");
+        }
+      }
+      Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException ignored) {
+      // The persisted index is only an optimisation; the next run rebuilds it.
+    }
+  }
+
+  static DocsSlugIndex load(Path docsRoot, Path indexFile) {
+    if (!Files.isRegularFile(indexFile)) {
+      return null;
+    }
+    try {
+      List<String> lines = Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+      if (lines.size() < 2 || !HEADER.equals(lines.get(0))) {
+        return null;
+      }
+      String[] root = lines.get(1).split("\t");
+      if (root.length != 3
+          || !"R".equals(root[0])
+          || !root[1].equals(docsRoot.toAbsolutePath().toString())) {
+        return null;
+      }
+      Map<String, Long> directories = new ConcurrentHashMap<>();
+      Map<String, Long> fileModifiedAt = new ConcurrentHashMap<>();
+      Map<String, Set<String>> fileSlugs = new ConcurrentHashMap<>();
+      Set<String> publishedResourcePaths = new HashSet<>();
+      for (String line : lines.subList(2, lines.size())) {
+        String[] fields = line.split("\t");
+        switch (fields[0]) {
+          case "D" -> directories.put(fields[1], Long.parseLong(fields[2]));
+          case "F" -> {
+            fileModifiedAt.put(fields[1], Long.parseLong(fields[2]));
+            Set<String> slugs = new LinkedHashSet<>();
+            for (int i = 3; i < fields.length; i++) {
+              slugs.add(fields[i]);
+            }
+            fileSlugs.put(fields[1], slugs);
+          }
+          case "H" -> publishedResourcePaths.add(fields[1]);
+          default -> {
+            return null;
+          }
+        }
+      }
+      return new DocsSlugIndex(
+          docsRoot,
+          Long.parseLong(root[2]),
+          directories,
+          fileModifiedAt,
+          fileSlugs,
+          Set.copyOf(publishedResourcePaths));
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  static Set<String> readSlugs(Path file) throws IOException {
+    Set<String> slugs = new LinkedHashSet<>();
+    for (String line : Files.readAllLines(file)) {
+      Matcher matcher = SLUG_PATTERN.matcher(line);
+      if (matcher.find()) {
+        slugs.add(matcher.group(1));
+      }
+    }
+    return slugs;
+  }
+
+  static Set<String> readPublishedResourcePaths(Path toc) {
+    Set<String> paths = new HashSet<>();
+    if (Files.isRegularFile(toc)) {
+      try {
+        for (String line : Files.readAllLines(toc)) {
+          Matcher matcher = TOC_HREF_PATTERN.matcher(line);
+          if (matcher.find()) {
+            String href = matcher.group(1);
+            paths.add(href.substring(DOCS_API_HREF_PREFIX.length()));
+          }
+        }
+      } catch (IOException ignored) {
+        // Treat unreadable TOC as empty (everything will be marked missing-by-toc).
+      }
+    }
+    return Set.copyOf(paths);
+  }
+
+  private static void scan(
+      Path docsRoot, Path file, Map<String, Long> fileModifiedAt, Map<String, Set<String>> slugs) {
+    String key = relative(docsRoot, file);
+    fileModifiedAt.put(key, modifiedAt(file));
+    try {
+      slugs.put(key, readSlugs(file));
+    } catch (IOException e) {
+      slugs.put(key, Collections.emptySet());
+    }
+  }
+
+  private static boolean isYamlFile(Path path) {
+    return path.getFileName().toString().endsWith(YAML_SUFFIX) && Files.isRegularFile(path);
+  }
+
+  private static long modifiedAt(Path path) {
+    try {
+      return Files.getLastModifiedTime(path).toMillis();
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
+  private static String relative(Path docsRoot, Path path) {
+    return docsRoot.relativize(path).toString().replace('\\', '/');
+  }
+}
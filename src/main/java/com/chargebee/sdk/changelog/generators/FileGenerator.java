@@ -11,4 +11,9 @@ public interface FileGenerator {
   default FileOp generateSingle(String outputPath, List<?> items) throws IOException {
     throw new UnsupportedOperationException("Single file generation not supported");
   }
+
+  default FileOp generateRange(String outputPath, List<String> versionLabels, List<Spec> versions)
+      throws IOException {
+    throw new UnsupportedOperationException("Range generation not supported");
+  }
 }
@@ -14,8 +14,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Verifies whether a {@link ChangeLogEntry} refers to an entity that actually exists in the local
@@ -32,6 +30,11 @@ import java.util.regex.Pattern;
  *
  * Override the location with {@code CHANGELOG_DOCS_REPO_PATH=/abs/path/to/v2-pcv2}.
  *
+ * <p>All checks are answered from a {@link DocsSlugIndex} built on first use. The default checker
+ * persists it next to the docs repository ({@code .<docs dir name>.slug-index}) and reuses it
+ * while no indexed file or directory has a newer modification time; override the location with
+ * {@code CHANGELOG_DOCS_INDEX_PATH}.
+ *
  * <p>Set {@code CHANGELOG_DOCS_SKIP_VERIFY=true} to bypass checks entirely.
  */
 public class LocalDocsAvailabilityChecker {
@@ -43,22 +46,27 @@ public class LocalDocsAvailabilityChecker {
   static final String TOC_RELATIVE_PATH = "TOC.yaml";
   static final String DOCS_API_HREF_PREFIX = "/docs/api/";
 
-  private static final Pattern SLUG_PATTERN =
-      Pattern.compile("slugId:\\s*\"?([A-Za-z0-9._-]+)\"?");
-  private static final Pattern TOC_HREF_PATTERN =
-      Pattern.compile("href:\\s*\"?(/docs/api/[A-Za-z0-9_-]+)\"?");
+  static final String INDEX_FILE_SUFFIX = ".slug-index";
 
   private final Path docsRoot;
+  private final Path indexFile;
   private final boolean skipVerification;
   private final Map<Path, Set<String>> slugCache = new ConcurrentHashMap<>();
-  private volatile Set<String> publishedResourcePaths;
+  private volatile DocsSlugIndex index;
 
   public LocalDocsAvailabilityChecker() {
-    this(resolveDefaultDocsRoot());
+    this(resolveDefaultDocsRoot(), resolveDefaultIndexFile(resolveDefaultDocsRoot()));
   }
 
+  /** Checks against {@code docsRoot} with an in-memory index that is not persisted. */
   public LocalDocsAvailabilityChecker(Path docsRoot) {
+    this(docsRoot, null);
+  }
+
+  /** Checks against {@code docsRoot}, persisting the index to {@code indexFile} when non-null. */
+  public LocalDocsAvailabilityChecker(Path docsRoot, Path indexFile) {
     this.docsRoot = docsRoot;
+    this.indexFile = indexFile;
     this.skipVerification = Boolean.parseBoolean(System.getenv("CHANGELOG_DOCS_SKIP_VERIFY"));
   }
 
@@ -70,6 +78,18 @@ public class LocalDocsAvailabilityChecker {
     return Paths.get(System.getProperty(DEFAULT_DOCS_ROOT_PROPERTY), DEFAULT_DOCS_RELATIVE_PATH);
   }
 
+  private static Path resolveDefaultIndexFile(Path docsRoot) {
+    String override = System.getenv("CHANGELOG_DOCS_INDEX_PATH");
+    if (override != null && !override.isBlank()) {
+      return Paths.get(override);
+    }
+    Path absoluteRoot = docsRoot.toAbsolutePath();
+    if (absoluteRoot.getFileName() == null) {
+      return null;
+    }
+    return absoluteRoot.resolveSibling("." + absoluteRoot.getFileName() + INDEX_FILE_SUFFIX);
+  }
+
   public Path docsRoot() {
     return docsRoot;
   }
@@ -247,31 +267,19 @@ public class LocalDocsAvailabilityChecker {
   }
 
   Set<String> loadPublishedResourcePaths() {
-    Set<String> cached = publishedResourcePaths;
+    return index().publishedResourcePaths();
+  }
+
+  DocsSlugIndex index() {
+    DocsSlugIndex cached = index;
     if (cached != null) {
       return cached;
     }
     synchronized (this) {
-      if (publishedResourcePaths != null) {
-        return publishedResourcePaths;
+      if (index == null) {
+        index = DocsSlugIndex.loadOrBuild(docsRoot, indexFile);
       }
-      Set<String> paths = new HashSet<>();
-      Path toc = docsRoot.resolve(TOC_RELATIVE_PATH);
-      if (Files.isRegularFile(toc)) {
-        try {
-          for (String line : Files.readAllLines(toc)) {
-            Matcher matcher = TOC_HREF_PATTERN.matcher(line);
-            if (matcher.find()) {
-              String href = matcher.group(1);
-              paths.add(href.substring(DOCS_API_HREF_PREFIX.length()));
-            }
-          }
-        } catch (IOException ignored) {
-          // Treat unreadable TOC as empty (everything will be marked missing-by-toc).
-        }
-      }
-      publishedResourcePaths = Set.copyOf(paths);
-      return publishedResourcePaths;
+      return index;
     }
   }
 
@@ -279,7 +287,9 @@ public class LocalDocsAvailabilityChecker {
     if (resourceId == null || resourceId.isBlank()) {
       return true;
     }
-    return Files.isDirectory(docsRoot.resolve(resourceId));
+    Path dir = docsRoot.resolve(resourceId);
+    DocsSlugIndex docsIndex = index();
+    return docsIndex.covers(dir) ? docsIndex.isDirectory(dir) : Files.isDirectory(dir);
   }
 
   private boolean actionFileExists(String resourceId, String actionId) {
@@ -287,7 +297,8 @@ public class LocalDocsAvailabilityChecker {
       return true;
     }
     Path yaml = docsRoot.resolve(resourceId).resolve(actionId + ".yaml");
-    return Files.isRegularFile(yaml);
+    DocsSlugIndex docsIndex = index();
+    return docsIndex.covers(yaml) ? docsIndex.isFile(yaml) : Files.isRegularFile(yaml);
   }
 
   private boolean slugExistsInResource(String resourceId, String slug) {
@@ -414,6 +425,11 @@ public class LocalDocsAvailabilityChecker {
   }
 
   Set<String> loadSlugs(Path file) {
+    DocsSlugIndex docsIndex = index();
+    if (docsIndex.covers(file)) {
+      return docsIndex.slugs(file);
+    }
+    // Deeper than the index goes; read the file on demand.
     return slugCache.computeIfAbsent(
         file,
         path -> {
@@ -421,14 +437,7 @@ public class LocalDocsAvailabilityChecker {
             return Collections.emptySet();
           }
           try {
-            Set<String> slugs = new LinkedHashSet<>();
-            for (String line : Files.readAllLines(path)) {
-              Matcher matcher = SLUG_PATTERN.matcher(line);
-              if (matcher.find()) {
-                slugs.add(matcher.group(1));
-              }
-            }
-            return slugs;
+            return DocsSlugIndex.readSlugs(path);
           } catch (IOException e) {
             return Collections.emptySet();
           }
@@ -0,0 +1,320 @@
+package com.chargebee.sdk.java;
+
+import com.chargebee.sdk.FileOp;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles generated Java sources straight from their {@link FileOp.WriteString} contents, so a
+ * broken template shows up in seconds instead of after a full build of the SDK repository.
+ *
+ * <p>Nothing is written to disk: sources are served from memory and class files are discarded or
+ * handed to a consumer (see {@link JavaJarWriter}).
+ * Each package is compiled as its own javac task, in parallel; types from other generated
+ * packages are resolved from the in-memory sources, and hand-written SDK code comes from the
+ * configured classpath (compiled classes or jars) and sourcepath (source roots). A generated file
+ * shadows a file with the same class name on the sourcepath, so an existing checkout of the SDK
+ * can be used as the sourcepath.
+ */
+public class JavaCompileVerifier {
+
+  private static final Pattern PACKAGE =
+      Pattern.compile("^\\s*package\\s+([\\w.]+)\\s*;", Pattern.MULTILINE);
+
+  private List<Path> classpath = List.of();
+  private List<Path> sourcepath = List.of();
+
+  public JavaCompileVerifier withClasspath(List<Path> classpath) {
+    this.classpath = List.copyOf(classpath);
+    return this;
+  }
+
+  public JavaCompileVerifier withSourcepath(List<Path> sourcepath) {
+    this.sourcepath = List.copyOf(sourcepath);
+    return this;
+  }
+
+  /** Outcome of a verification run; {@code errors} maps each generated file to its messages. */
+  public record Report(int filesChecked, int packagesChecked, Map<String, List<String>> errors) {
+
+    public boolean ok() {
+      return errors.isEmpty();
+    }
+
+    public int errorCount() {
+      return errors.values().stream().mapToInt(List::size).sum();
+    }
+  }
+
+  /** Compiles every {@code .java} file among {@code fileOps}, including nested composites. */
+  public Report verify(List<FileOp> fileOps) throws IOException {
+    return compile(fileOps, null);
+  }
+
+  /**
+   * Same as {@link #verify}, but hands every class file javac produces to {@code classFiles} as
+   * (binary name, bytes). The consumer is called from several threads.
+   */
+  public Report compile(List<FileOp> fileOps, BiConsumer<String, byte[]> classFiles)
+      throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new IllegalStateException("No system Java compiler; run the generator on a JDK");
+    }
+
+    Map<String, List<MemorySource>> sourcesByPackage = new TreeMap<>();
+    collectSources(fileOps, sourcesByPackage);
+    if (sourcesByPackage.isEmpty()) {
+      return new Report(0, 0, Map.of());
+    }
+    Map<String, MemorySource> sourcesByBinaryName = new LinkedHashMap<>();
+    sourcesByPackage.values().stream()
+        .flatMap(List::stream)
+        .forEach(source -> sourcesByBinaryName.put(source.binaryName, source));
+
+    int threads = Math.min(sourcesByPackage.size(), Runtime.getRuntime().availableProcessors());
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<List<Diagnostic<? extends JavaFileObject>>>> pending = new ArrayList<>();
+      for (List<MemorySource> packageSources : sourcesByPackage.values()) {
+        pending.add(
+            executor.submit(
+                () -> compile(compiler, packageSources, sourcesByBinaryName, classFiles)));
+      }
+      Map<String, List<String>> errors = new TreeMap<>();
+      for (Future<List<Diagnostic<? extends JavaFileObject>>> diagnostics : pending) {
+        for (Diagnostic<? extends JavaFileObject> diagnostic : await(diagnostics)) {
+          if (diagnostic.getKind() != Diagnostic.Kind.ERROR) {
+            continue;
+          }
+          String file =
+              diagnostic.getSource() == null ? "<javac>" : diagnostic.getSource().getName();
+          errors
+              .computeIfAbsent(file, f -> new ArrayList<>())
+              .add(
+                  diagnostic.getLineNumber()
+                      + ":"
+                      + diagnostic.getColumnNumber()
+                      + ": "
+                      + diagnostic.getMessage(Locale.ROOT));
+        }
+      }
+      return new Report(
+          sourcesByBinaryName.size(), sourcesByPackage.size(), Collections.unmodifiableMap(errors));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private List<Diagnostic<? extends JavaFileObject>> compile(
+      JavaCompiler compiler,
+      List<MemorySource> packageSources,
+      Map<String, MemorySource> sourcesByBinaryName,
+      BiConsumer<String, byte[]> classFiles)
+      throws IOException {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    // StandardJavaFileManager is not thread-safe, so every task gets its own.
+    try (StandardJavaFileManager standard =
+        compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+      standard.setLocationFromPaths(StandardLocation.CLASS_PATH, classpath);
+      standard.setLocationFromPaths(StandardLocation.SOURCE_PATH, sourcepath);
+      MemoryFileManager fileManager =
+          new MemoryFileManager(standard, sourcesByBinaryName, classFiles);
+      compiler
+          .getTask(
+              null,
+              fileManager,
+              diagnostics,
+              List.of("-proc:none", "-implicit:none", "-nowarn", "-encoding", "UTF-8"),
+              null,
+              packageSources)
+          .call();
+    }
+    return diagnostics.getDiagnostics();
+  }
+
+  private static void collectSources(
+      List<FileOp> fileOps, Map<String, List<MemorySource>> sourcesByPackage) {
+    for (FileOp fileOp : fileOps) {
+      if (fileOp instanceof FileOp.Composite composite) {
+        collectSources(composite.ops, sourcesByPackage);
+      } else if (fileOp instanceof FileOp.WriteString write && write.fileName.endsWith(".java")) {
+        MemorySource source = MemorySource.of(write);
+        sourcesByPackage.computeIfAbsent(source.packageName, p -> new ArrayList<>()).add(source);
+      }
+    }
+  }
+
+  /** The package a generated source declares, or {@code ""} for the unnamed package. */
+  static String packageOf(String source) {
+    Matcher matcher = PACKAGE.matcher(source);
+    return matcher.find() ? matcher.group(1) : "";
+  }
+
+  private static <T> T await(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while compiling generated sources", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IOException("Failed to compile generated sources", e.getCause());
+    }
+  }
+
+  /** A generated source file, named after the path it would be written to. */
+  private static final class MemorySource extends SimpleJavaFileObject {
+    private final String content;
+    private final String packageName;
+    private final String binaryName;
+
+    private MemorySource(URI uri, String content, String packageName, String binaryName) {
+      super(uri, Kind.SOURCE);
+      this.content = content;
+      this.packageName = packageName;
+      this.binaryName = binaryName;
+    }
+
+    static MemorySource of(FileOp.WriteString write) {
+      Path path = Paths.get(write.baseFilePath, write.fileName).toAbsolutePath().normalize();
+      String packageName = packageOf(write.fileContent);
+      String simpleName = path.getFileName().toString().replace(".java", "");
+      String binaryName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+      return new MemorySource(path.toUri(), write.fileContent, packageName, binaryName);
+    }
+
+    @Override
+    public String getName() {
+      return Paths.get(toUri()).toString();
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return content;
+    }
+  }
+
+  /** Class file sink: the bytes go to the consumer on close, or nowhere without one. */
+  private static final class ClassOutput extends SimpleJavaFileObject {
+    private final String className;
+    private final BiConsumer<String, byte[]> classFiles;
+
+    ClassOutput(String className, BiConsumer<String, byte[]> classFiles) {
+      super(URI.create("mem:///" + className.replace('.', '/') + ".class"), Kind.CLASS);
+      this.className = className;
+      this.classFiles = classFiles;
+    }
+
+    @Override
+    public OutputStream openOutputStream() {
+      if (classFiles == null) {
+        return OutputStream.nullOutputStream();
+      }
+      return new ByteArrayOutputStream() {
+        @Override
+        public void close() {
+          classFiles.accept(className, toByteArray());
+        }
+      };
+    }
+  }
+
+  /**
+   * Serves the generated sources on the sourcepath ahead of the delegate's, and keeps class output
+   * in memory.
+   */
+  private static final class MemoryFileManager
+      extends ForwardingJavaFileManager<StandardJavaFileManager> {
+    private final Map<String, MemorySource> sourcesByBinaryName;
+    private final BiConsumer<String, byte[]> classFiles;
+
+    MemoryFileManager(
+        StandardJavaFileManager delegate,
+        Map<String, MemorySource> sourcesByBinaryName,
+        BiConsumer<String, byte[]> classFiles) {
+      super(delegate);
+      this.sourcesByBinaryName = sourcesByBinaryName;
+      this.classFiles = classFiles;
+    }
+
+    @Override
+    public Iterable<JavaFileObject> list(
+        Location location, String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse)
+        throws IOException {
+      Iterable<JavaFileObject> delegated = super.list(location, packageName, kinds, recurse);
+      if (location != StandardLocation.SOURCE_PATH || !kinds.contains(JavaFileObject.Kind.SOURCE)) {
+        return delegated;
+      }
+      List<JavaFileObject> files = new ArrayList<>();
+      for (MemorySource source : sourcesByBinaryName.values()) {
+        if (source.packageName.equals(packageName)
+            || (recurse && source.packageName.startsWith(packageName + "."))) {
+          files.add(source);
+        }
+      }
+      for (JavaFileObject file : delegated) {
+        if (file.getKind() != JavaFileObject.Kind.SOURCE
+            || !sourcesByBinaryName.containsKey(
+                super.inferBinaryName(StandardLocation.SOURCE_PATH, file))) {
+          files.add(file);
+        }
+      }
+      return files;
+    }
+
+    @Override
+    public String inferBinaryName(Location location, JavaFileObject file) {
+      if (file instanceof MemorySource source) {
+        return source.binaryName;
+      }
+      return super.inferBinaryName(location, file);
+    }
+
+    @Override
+    public boolean isSameFile(FileObject a, FileObject b) {
+      if (a instanceof MemorySource || b instanceof MemorySource) {
+        return a.equals(b);
+      }
+      return super.isSameFile(a, b);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(
+        Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+      return new ClassOutput(className, classFiles);
+    }
+  }
+}
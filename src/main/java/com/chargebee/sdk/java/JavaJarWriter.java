@@ -0,0 +1,143 @@
+package com.chargebee.sdk.java;
+
+import com.chargebee.sdk.FileOp;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * Packages generated Java straight into jars instead of executing the {@link FileOp}s, so internal
+ * artifacts don't need the loose source tree and a separate build.
+ *
+ * <p>{@code .java} files are stored under their declared package; every other file keeps its path
+ * relative to the output directory. Classes are compiled in-process with {@link
+ * JavaCompileVerifier}. Entries are sorted and carry a fixed timestamp, so the same generated code
+ * always produces the same jar bytes.
+ */
+public class JavaJarWriter {
+
+  // 1980-02-01T00:00:00 in the default time zone, the same constant Gradle uses for reproducible
+  // archives; earlier dates don't fit in the DOS date fields of a zip entry.
+  private static final long ENTRY_TIME =
+      LocalDateTime.of(1980, 2, 1, 0, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+  private final JavaCompileVerifier compiler = new JavaCompileVerifier();
+
+  public JavaJarWriter withClasspath(List<Path> classpath) {
+    compiler.withClasspath(classpath);
+    return this;
+  }
+
+  public JavaJarWriter withSourcepath(List<Path> sourcepath) {
+    compiler.withSourcepath(sourcepath);
+    return this;
+  }
+
+  /** Writes every generated file to {@code sourcesJar}; returns the number of entries. */
+  public int writeSources(List<FileOp> fileOps, String outputDirectoryPath, Path sourcesJar)
+      throws IOException {
+    SortedMap<String, byte[]> entries = new TreeMap<>();
+    collectEntries(fileOps, Paths.get(outputDirectoryPath).toAbsolutePath().normalize(), entries);
+    writeJar(sourcesJar, entries);
+    return entries.size();
+  }
+
+  /**
+   * Compiles the generated sources and writes the classes, plus any generated non-Java files, to
+   * {@code classesJar}. Nothing is written when compilation fails; the report says why.
+   */
+  public JavaCompileVerifier.Report writeClasses(
+      List<FileOp> fileOps, String outputDirectoryPath, Path classesJar) throws IOException {
+    Map<String, byte[]> classFiles = new ConcurrentSkipListMap<>();
+    JavaCompileVerifier.Report report = compiler.compile(fileOps, classFiles::put);
+    if (!report.ok()) {
+      return report;
+    }
+
+    SortedMap<String, byte[]> entries = new TreeMap<>();
+    collectEntries(fileOps, Paths.get(outputDirectoryPath).toAbsolutePath().normalize(), entries);
+    entries.keySet().removeIf(name -> name.endsWith(".java"));
+    classFiles.forEach(
+        (className, bytes) -> entries.put(className.replace('.', '/') + ".class", bytes));
+    writeJar(classesJar, entries);
+    return report;
+  }
+
+  private static void collectEntries(
+      List<FileOp> fileOps, Path outputDirectory, SortedMap<String, byte[]> entries) {
+    for (FileOp fileOp : fileOps) {
+      if (fileOp instanceof FileOp.Composite composite) {
+        collectEntries(composite.ops, outputDirectory, entries);
+      } else if (fileOp instanceof FileOp.WriteString write) {
+        entries.put(
+            entryName(write, outputDirectory), write.fileContent.getBytes(StandardCharsets.UTF_8));
+      } else if (fileOp instanceof FileOp.PrependString prepend) {
+        throw new IllegalArgumentException(
+            "Cannot package "
+                + prepend.fileName
+                + ": prepending needs the existing file on disk; write the output tree instead");
+      }
+      // Directories are implied by the entry names.
+    }
+  }
+
+  private static String entryName(FileOp.WriteString write, Path outputDirectory) {
+    Path path = Paths.get(write.baseFilePath, write.fileName).toAbsolutePath().normalize();
+    if (write.fileName.endsWith(".java")) {
+      String packageName = JavaCompileVerifier.packageOf(write.fileContent);
+      String fileName = path.getFileName().toString();
+      return packageName.isEmpty() ? fileName : packageName.replace('.', '/') + "/" + fileName;
+    }
+    Path relative =
+        path.startsWith(outputDirectory) ? outputDirectory.relativize(path) : path.getFileName();
+    return relative.toString().replace('\\', '/');
+  }
+
+  private static void writeJar(Path jar, SortedMap<String, byte[]> entries) throws IOException {
+    Manifest manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    manifest.getMainAttributes().put(new Attributes.Name("Created-By"), "chargebee sdk-generator");
+
+    Path parent = jar.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    try (OutputStream out = Files.newOutputStream(jar);
+        JarOutputStream jarOut = new JarOutputStream(out)) {
+      putEntry(jarOut, "META-INF/MANIFEST.MF", manifestBytes(manifest));
+      for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+        putEntry(jarOut, entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  private static void putEntry(JarOutputStream jarOut, String name, byte[] bytes)
+      throws IOException {
+    JarEntry entry = new JarEntry(name);
+    entry.setTime(ENTRY_TIME);
+    jarOut.putNextEntry(entry);
+    jarOut.write(bytes);
+    jarOut.closeEntry();
+  }
+
+  private static byte[] manifestBytes(Manifest manifest) throws IOException {
+    var buffer = new ByteArrayOutputStream();
+    manifest.write(buffer);
+    return buffer.toByteArray();
+  }
+}
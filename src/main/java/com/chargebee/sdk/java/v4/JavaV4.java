@@ -3,6 +3,7 @@ package com.chargebee.sdk.java.v4;
 import com.chargebee.openapi.Spec;
 import com.chargebee.sdk.FileOp;
 import com.chargebee.sdk.Language;
+import com.chargebee.sdk.Shard;
 import com.chargebee.sdk.java.v4.builder.*;
 import com.github.jknack.handlebars.Template;
 import java.io.IOException;
@@ -13,40 +14,100 @@ import java.util.stream.Collectors;
 
 public class JavaV4 extends Language {
 
+  private Shard shard = Shard.ALL;
+  private boolean leanResponses;
+  private boolean tableCodec;
+
+  /**
+   * Generates only the model, params, response and service files of the resources owned by {@code
+   * shard}; shard 1 also generates the files that span all resources. See {@link
+   * com.chargebee.sdk.ShardMerger}.
+   */
+  public JavaV4 withShard(Shard shard) {
+    this.shard = shard;
+    return this;
+  }
+
+  protected Shard shard() {
+    return shard;
+  }
+
+  /**
+   * Makes every site of the generated SDK use lean responses unless it opts out, instead of only
+   * the sites that opt in. See the generated {@code LeanResponses}.
+   */
+  public JavaV4 withLeanResponses(boolean leanResponses) {
+    this.leanResponses = leanResponses;
+    return this;
+  }
+
+  /**
+   * Generates models that describe their fields in a static table and share one decoder, {@code
+   * equals}, {@code hashCode} and {@code toString} in the generated {@code ModelCodec}, instead of
+   * unrolling those methods into every model and nested class.
+   */
+  public JavaV4 withTableCodec(boolean tableCodec) {
+    this.tableCodec = tableCodec;
+    return this;
+  }
+
   @Override
   public List<FileOp> generateSDK(String outputDirectoryPath, Spec spec) throws IOException {
     List<FileOp> coreModelFiles =
         new ModelBuilder()
             .withOutputDirectoryPath(outputDirectoryPath)
-            .withTemplate(getTemplateContent("core.models"))
+            .withTemplate(getTemplateContent(tableCodec ? "core.models.table" : "core.models"))
+            .withShard(shard)
             .build(spec.openAPI());
     List<FileOp> paramsBuilderFiles =
         new PostRequestParamsBuilder()
             .withOutputDirectoryPath(outputDirectoryPath)
             .withTemplate(getTemplateContent("core.post.params.builder"))
+            .withShard(shard)
             .build(spec.openAPI());
     List<FileOp> getParamsBuilderFiles =
         new GetRequestParamsBuilder()
             .withOutputDirectoryPath(outputDirectoryPath)
             .withTemplate(getTemplateContent("core.get.params.builder"))
+            .withShard(shard)
             .build(spec.openAPI());
     List<FileOp> getResponseFiles =
         new GetResponseBuilder()
             .withOutputDirectoryPath(outputDirectoryPath)
             .withSimpleTemplate(getTemplateContent("core.get.response"))
             .withListTemplate(getTemplateContent("core.get.response.list"))
+            .withShard(shard)
             .build(spec.openAPI());
     List<FileOp> postResponseFiles =
         new PostResponseBuilder()
             .withOutputDirectoryPath(outputDirectoryPath)
             .withTemplate(getTemplateContent("core.post.response"))
             .withBaseResponseTemplate(getTemplateContent("core.base.response"))
+            .withShard(shard)
             .build(spec.openAPI());
     List<FileOp> serviceFiles =
         new ServiceBuilder()
             .withOutputDirectoryPath(outputDirectoryPath)
             .withTemplate(getTemplateContent("core.services"))
+            .withShard(shard)
             .build(spec.openAPI());
+
+    List<List<FileOp>> allFileOps = new ArrayList<>();
+    allFileOps.add(coreModelFiles);
+    allFileOps.add(paramsBuilderFiles);
+    allFileOps.add(getParamsBuilderFiles);
+    allFileOps.add(getResponseFiles);
+    allFileOps.add(postResponseFiles);
+    allFileOps.add(serviceFiles);
+    if (shard.ownsGlobalFiles()) {
+      allFileOps.addAll(generateGlobalFiles(outputDirectoryPath, spec));
+    }
+
+    return allFileOps.stream().flatMap(List::stream).collect(Collectors.toList());
+  }
+
+  private List<List<FileOp>> generateGlobalFiles(String outputDirectoryPath, Spec spec)
+      throws IOException {
     List<FileOp> subDomainEnumFiles =
         new SubDomainEnumBuilder()
             .withOutputDirectoryPath(outputDirectoryPath)
@@ -78,22 +139,71 @@ public class JavaV4 extends Language {
             .withBaseExceptionTemplate(getTemplateContent("api.exception"))
             .withHttpStatusHandlerTemplate(getTemplateContent("http.status.handler"))
             .build(spec.openAPI());
+    List<FileOp> webhookEventRouterFiles =
+        new WebhookEventRouterBuilder()
+            .withOutputDirectoryPath(outputDirectoryPath)
+            .withTemplate(getTemplateContent("webhook.event.router"))
+            .build(spec.openAPI());
 
-    List<List<FileOp>> allFileOps = new ArrayList<>();
-    allFileOps.add(coreModelFiles);
-    allFileOps.add(paramsBuilderFiles);
-    allFileOps.add(getParamsBuilderFiles);
-    allFileOps.add(getResponseFiles);
-    allFileOps.add(postResponseFiles);
-    allFileOps.add(serviceFiles);
-    allFileOps.add(subDomainEnumFiles);
-    allFileOps.add(clientMethodsFiles);
-    allFileOps.add(serviceRegistryFiles);
-    allFileOps.add(errorEnumFiles);
-    allFileOps.add(exceptionFiles);
-    allFileOps.add(generateTelemetryFiles(outputDirectoryPath));
+    return List.of(
+        subDomainEnumFiles,
+        clientMethodsFiles,
+        serviceRegistryFiles,
+        errorEnumFiles,
+        exceptionFiles,
+        webhookEventRouterFiles,
+        generateInternalFiles(outputDirectoryPath),
+        generateTelemetryFiles(outputDirectoryPath));
+  }
 
-    return allFileOps.stream().flatMap(List::stream).collect(Collectors.toList());
+  // Runtime helpers the generated code calls into: token-level readers behind the
+  // fromJson(JsonReader) decoders, and the per-site settings the service calls go through (rate
+  // limiter, GET cache, request coalescing, async executor, lazy list items and lean responses),
+  // plus the shared model codec in table-codec mode.
+  private List<FileOp> generateInternalFiles(String outputDirectoryPath) throws IOException {
+    final String internalDir = outputDirectoryPath + "/com/chargebee/v4/internal";
+    List<FileOp> fileOps = new ArrayList<>();
+    fileOps.addAll(
+        List.of(
+            new FileOp.CreateDirectory(internalDir, ""),
+            new FileOp.WriteString(
+                internalDir,
+                "JsonStreams.java",
+                JavaFormatter.formatSafely(getTemplateContent("json.streams").apply(""))),
+            new FileOp.WriteString(
+                internalDir,
+                "RateLimiter.java",
+                JavaFormatter.formatSafely(getTemplateContent("rate.limiter").apply(""))),
+            new FileOp.WriteString(
+                internalDir,
+                "ResponseCache.java",
+                JavaFormatter.formatSafely(getTemplateContent("response.cache").apply(""))),
+            new FileOp.WriteString(
+                internalDir,
+                "SingleFlight.java",
+                JavaFormatter.formatSafely(getTemplateContent("single.flight").apply(""))),
+            new FileOp.WriteString(
+                internalDir,
+                "AsyncExecutor.java",
+                JavaFormatter.formatSafely(getTemplateContent("async.executor").apply(""))),
+            new FileOp.WriteString(
+                internalDir,
+                "LazyListItems.java",
+                JavaFormatter.formatSafely(getTemplateContent("lazy.list.items").apply(""))),
+            new FileOp.WriteString(
+                internalDir,
+                "LeanResponses.java",
+                JavaFormatter.formatSafely(
+                    getTemplateContent("lean.responses")
+                        .apply(Map.of("leanByDefault", leanResponses))))));
+    if (tableCodec) {
+      fileOps.add(
+          new FileOp.WriteString(
+              internalDir,
+              "ModelCodec.java",
+              JavaFormatter.formatSafely(getTemplateContent("model.codec").apply(""))));
+    }
+    return fileOps;
   }
 
   private List<FileOp> generateTelemetryFiles(String outputDirectoryPath) throws IOException {
@@ -104,7 +214,8 @@ public class JavaV4 extends Language {
       "RequestTelemetryError.java",
       "RequestTelemetryResult.java",
       "TelemetryAdapter.java",
-      "TelemetrySupport.java"
+      "TelemetrySupport.java",
+      "RateLimitTelemetry.java"
     };
     final String[] templateKeys = {
       "telemetryAttributeKeys",
@@ -112,7 +223,8 @@ public class JavaV4 extends Language {
       "telemetryRequestError",
       "telemetryRequestResult",
       "telemetryAdapter",
-      "telemetrySupport"
+      "telemetrySupport",
+      "telemetryRateLimit"
     };
 
     List<FileOp> fileOps = new ArrayList<>();
@@ -132,6 +244,7 @@ public class JavaV4 extends Language {
     // Map.of() only supports up to 10 entries, use Map.ofEntries for more
     return Map.ofEntries(
         Map.entry("core.models", "/templates/java/next/core.models.hbs"),
+        Map.entry("core.models.table", "/templates/java/next/core.models.table.hbs"),
         Map.entry("core.post.params.builder", "/templates/java/next/core.post.params.builder.hbs"),
         Map.entry("core.get.params.builder", "/templates/java/next/core.get.params.builder.hbs"),
         Map.entry("core.get.response", "/templates/java/next/core.get.response.hbs"),
@@ -149,6 +262,15 @@ public class JavaV4 extends Language {
         Map.entry("api.exception", "/templates/java/next/api.exception.hbs"),
         Map.entry("http.status.handler", "/templates/java/next/http.status.handler.hbs"),
         Map.entry("subdomain.enum", "/templates/java/next/subdomain.enum.hbs"),
+        Map.entry("webhook.event.router", "/templates/java/next/webhook.event.router.hbs"),
+        Map.entry("json.streams", "/templates/java/next/json.streams.hbs"),
+        Map.entry("rate.limiter", "/templates/java/next/rate.limiter.hbs"),
+        Map.entry("response.cache", "/templates/java/next/response.cache.hbs"),
+        Map.entry("single.flight", "/templates/java/next/single.flight.hbs"),
+        Map.entry("async.executor", "/templates/java/next/async.executor.hbs"),
+        Map.entry("lazy.list.items", "/templates/java/next/lazy.list.items.hbs"),
+        Map.entry("lean.responses", "/templates/java/next/lean.responses.hbs"),
+        Map.entry("model.codec", "/templates/java/next/model.codec.hbs"),
         Map.entry(
             "telemetryAttributeKeys", "/templates/java/telemetry/TelemetryAttributeKeys.java.hbs"),
         Map.entry(
@@ -158,7 +280,8 @@ public class JavaV4 extends Language {
         Map.entry(
             "telemetryRequestResult", "/templates/java/telemetry/RequestTelemetryResult.java.hbs"),
         Map.entry("telemetryAdapter", "/templates/java/telemetry/TelemetryAdapter.java.hbs"),
-        Map.entry("telemetrySupport", "/templates/java/telemetry/TelemetrySupport.java.hbs"));
+        Map.entry("telemetrySupport", "/templates/java/telemetry/TelemetrySupport.java.hbs"),
+        Map.entry("telemetryRateLimit", "/templates/java/telemetry/RateLimitTelemetry.java.hbs"));
   }
 
   @Override
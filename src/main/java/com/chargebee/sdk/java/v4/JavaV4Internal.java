@@ -32,7 +32,9 @@ public class JavaV4Internal extends JavaV4 {
   @Override
   public List<FileOp> generateSDK(String outputDirectoryPath, Spec spec) throws IOException {
     List<FileOp> fileOps = new ArrayList<>(super.generateSDK(outputDirectoryPath, spec));
-    fileOps.addAll(generateInternalInfrastructure(outputDirectoryPath));
+    if (shard().ownsGlobalFiles()) {
+      fileOps.addAll(generateInternalInfrastructure(outputDirectoryPath));
+    }
     return fileOps;
   }
 
@@ -2,6 +2,7 @@ package com.chargebee.sdk.java.v4.builder;
 
 import com.chargebee.openapi.Extension;
 import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.Shard;
 import com.chargebee.sdk.java.v4.JavaFormatter;
 import com.chargebee.sdk.java.v4.core.EnumFields;
 import com.chargebee.sdk.java.v4.core.Field;
@@ -42,6 +43,7 @@ public class GetRequestParamsBuilder {
   private static final String DESC = "desc";
 
   private Template template;
+  private Shard shard = Shard.ALL;
   private String outputDirectoryPath;
   private OpenAPI openApi;
 
@@ -66,6 +68,11 @@ public class GetRequestParamsBuilder {
     return this;
   }
 
+  public GetRequestParamsBuilder withShard(Shard shard) {
+    this.shard = shard;
+    return this;
+  }
+
   /** Builds all GET request param classes and returns pending file operations. */
   public List<FileOp> build(OpenAPI openApi) throws IOException {
     this.openApi = openApi;
@@ -91,6 +98,7 @@ public class GetRequestParamsBuilder {
 
       // Skip operations without required extensions
       if (module == null || operationId == null) continue;
+      if (!shard.owns(module)) continue;
 
       getAction.setOperationId(operationId);
       getAction.setModule(module);
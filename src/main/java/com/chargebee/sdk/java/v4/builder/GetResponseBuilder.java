@@ -1,6 +1,7 @@
 package com.chargebee.sdk.java.v4.builder;
 
 import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.Shard;
 import com.github.jknack.handlebars.Template;
 import io.swagger.v3.oas.models.OpenAPI;
 import java.util.ArrayList;
@@ -10,6 +11,7 @@ public class GetResponseBuilder {
 
   private Template listTemplate;
   private Template simpleTemplate;
+  private Shard shard = Shard.ALL;
   private String outputDirectoryPath;
 
   private final List<FileOp> fileOps = new ArrayList<>();
@@ -30,18 +32,25 @@ public class GetResponseBuilder {
     return this;
   }
 
+  public GetResponseBuilder withShard(Shard shard) {
+    this.shard = shard;
+    return this;
+  }
+
   public List<FileOp> build(OpenAPI openApi) {
     // Delegate to specialized builders
     var listBuilder =
         new ListResponseBuilder()
             .withOutputDirectoryPath(outputDirectoryPath)
-            .withTemplate(listTemplate);
+            .withTemplate(listTemplate)
+            .withShard(shard);
     fileOps.addAll(listBuilder.build(openApi));
 
     var simpleBuilder =
         new SimpleGetResponseBuilder()
             .withOutputDirectoryPath(outputDirectoryPath)
-            .withTemplate(simpleTemplate);
+            .withTemplate(simpleTemplate)
+            .withShard(shard);
     fileOps.addAll(simpleBuilder.build(openApi));
 
     return fileOps;
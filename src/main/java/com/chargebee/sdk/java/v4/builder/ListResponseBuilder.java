@@ -2,6 +2,7 @@ package com.chargebee.sdk.java.v4.builder;
 
 import com.chargebee.openapi.Extension;
 import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.Shard;
 import com.chargebee.sdk.java.v4.JavaFormatter;
 import com.chargebee.sdk.java.v4.core.Field;
 import com.chargebee.sdk.java.v4.core.Model;
@@ -42,6 +43,7 @@ public class ListResponseBuilder {
   // State
   // ------------------------------------------------------------
   private Template template;
+  private Shard shard = Shard.ALL;
   private String outputDirectoryPath;
   private OpenAPI openApi;
 
@@ -61,6 +63,11 @@ public class ListResponseBuilder {
     return this;
   }
 
+  public ListResponseBuilder withShard(Shard shard) {
+    this.shard = shard;
+    return this;
+  }
+
   /**
    * Generates file operations for all paginated list responses discovered in the provided OpenAPI.
    *
@@ -97,6 +104,7 @@ public class ListResponseBuilder {
         var methodName =
             CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, normalizedMethodName);
         var module = String.valueOf(operation.getExtensions().get(Extension.RESOURCE_ID));
+        if (!shard.owns(module)) continue;
 
         var response = operation.getResponses().get(HTTP_OK);
         if (response == null || response.getContent() == null) continue;
@@ -432,34 +440,30 @@ public class ListResponseBuilder {
     }
 
     public String getItemType() {
-      // Determine item type based on the list field schema
-      String effectiveListField = getListFieldName();
-      if (effectiveListField == null || effectiveListField.isEmpty()) {
-        effectiveListField = "list";
-      }
+      // Element type of the list field as declared, so iterateAll() yields what getList() holds
       if (fields != null) {
         for (Field f : fields) {
-          if (effectiveListField.equals(f.getName())) {
-            String elementType = f.getListElementType();
-            if (elementType == null || elementType.isEmpty()) {
-              break;
+          if (getListFieldName().equals(f.getName()) && f.getType() != null) {
+            String declared = f.getType().display();
+            if (declared.startsWith("List<") && declared.endsWith(">")) {
+              return declared.substring("List<".length(), declared.length() - 1);
             }
-            if ("Object".equals(elementType)
-                || "java.util.Map<String, Object>".equals(elementType)) {
-              return "java.util.Map<String, Object>";
-            }
-            return elementType;
           }
         }
       }
-      // Default to map for safety when unknown
-      return "java.util.Map<String, Object>";
+      return "Object";
     }
 
     public String getListFieldName() {
       return listFieldName != null ? listFieldName : "list";
     }
 
+    // Only the item classes generated into the response have the lazy() decoder
+    public boolean isLazyItems() {
+      String type = getItemType();
+      return subModels != null && subModels.stream().anyMatch(m -> type.equals(m.getName()));
+    }
+
     public String getNextOffsetField() {
       return nextOffsetField != null ? nextOffsetField : "nextOffset";
     }
@@ -1,6 +1,7 @@
 package com.chargebee.sdk.java.v4.builder;
 
 import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.Shard;
 import com.chargebee.sdk.java.v4.JavaFormatter;
 import com.chargebee.sdk.java.v4.core.EnumFields;
 import com.chargebee.sdk.java.v4.core.Field;
@@ -27,6 +28,7 @@ public class ModelBuilder {
   private static final String EVENTS_PACKAGE = "event";
 
   private Template template;
+  private Shard shard = Shard.ALL;
   private String outputDirectoryPath;
   private OpenAPI openApi;
 
@@ -43,6 +45,11 @@ public class ModelBuilder {
     return this;
   }
 
+  public ModelBuilder withShard(Shard shard) {
+    this.shard = shard;
+    return this;
+  }
+
   public List<FileOp> build(OpenAPI openApi) throws IOException {
     this.openApi = openApi;
     generateModels();
@@ -55,6 +62,9 @@ public class ModelBuilder {
     for (var entry : models.entrySet()) {
       Model model = new Model();
       String modelName = entry.getKey();
+      if (!shard.owns(modelName)) {
+        continue;
+      }
       boolean isWebhookEvent = isWebhookEvent(modelName);
 
       // Use "events" package for webhook event classes, otherwise use the model name
@@ -111,7 +121,7 @@ public class ModelBuilder {
    * Webhook events end with "Event" but excludes API resource models such as "Event", "UsageEvent",
    * "OfferEvent", and "FailedUsageEvent".
    */
-  private static boolean isWebhookEvent(String modelName) {
+  static boolean isWebhookEvent(String modelName) {
     if (modelName == null || !modelName.endsWith("Event")) {
       return false;
     }
@@ -2,6 +2,7 @@ package com.chargebee.sdk.java.v4.builder;
 
 import com.chargebee.openapi.Extension;
 import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.Shard;
 import com.chargebee.sdk.java.v4.JavaFormatter;
 import com.chargebee.sdk.java.v4.core.EnumFields;
 import com.chargebee.sdk.java.v4.core.Field;
@@ -38,6 +39,7 @@ import java.util.stream.Collectors;
 public class PostRequestParamsBuilder {
 
   private Template template;
+  private Shard shard = Shard.ALL;
   private String outputDirectoryPath;
   private OpenAPI openApi;
 
@@ -54,6 +56,11 @@ public class PostRequestParamsBuilder {
     return this;
   }
 
+  public PostRequestParamsBuilder withShard(Shard shard) {
+    this.shard = shard;
+    return this;
+  }
+
   /**
    * Generate all POST request param models for the provided OpenAPI document.
    */
@@ -87,6 +94,9 @@ public class PostRequestParamsBuilder {
 
           var postAction = new PostAction();
           String module = resolveModuleName(entry.getKey(), operation);
+          if (!shard.owns(module)) {
+            continue;
+          }
 
           // Read method name from SDK extension (populated by cb-openapi-generator)
           String opId = readExtensionAsString(operation, Extension.SDK_METHOD_NAME);
@@ -2,6 +2,7 @@ package com.chargebee.sdk.java.v4.builder;
 
 import com.chargebee.openapi.Extension;
 import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.Shard;
 import com.chargebee.sdk.java.v4.JavaFormatter;
 import com.chargebee.sdk.java.v4.core.Field;
 import com.chargebee.sdk.java.v4.core.TypeMapper;
@@ -53,6 +54,7 @@ public class PostResponseBuilder {
 
   private Template template;
   private Template baseResponseTemplate;
+  private Shard shard = Shard.ALL;
   private String outputDirectoryPath;
   private OpenAPI openApi;
 
@@ -97,6 +99,11 @@ public class PostResponseBuilder {
     return this;
   }
 
+  public PostResponseBuilder withShard(Shard shard) {
+    this.shard = shard;
+    return this;
+  }
+
   /**
    * Generates file operations for all POST responses found in the given OpenAPI
    * specification.
@@ -115,7 +122,7 @@ public class PostResponseBuilder {
           "Output directory not set. Call withOutputDirectoryPath(...) before build().");
     }
     // Generate BaseResponse class if template is provided
-    if (this.baseResponseTemplate != null) {
+    if (this.baseResponseTemplate != null && shard.ownsGlobalFiles()) {
       generateBaseResponse();
     }
     generateResponses();
@@ -158,6 +165,7 @@ public class PostResponseBuilder {
 
         var responseAction = createResponseAction(path, operation, successResponse);
         if (responseAction == null) continue;
+        if (!shard.owns(responseAction.getModule())) continue;
 
         var formattedContent = applyTemplate(responseAction);
         writeResponse(responseAction, formattedContent);
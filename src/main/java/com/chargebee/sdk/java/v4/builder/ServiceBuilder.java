@@ -2,6 +2,7 @@ package com.chargebee.sdk.java.v4.builder;
 
 import com.chargebee.openapi.Extension;
 import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.Shard;
 import com.chargebee.sdk.java.v4.JavaFormatter;
 import com.chargebee.sdk.java.v4.util.CaseFormatUtil;
 import com.github.jknack.handlebars.Template;
@@ -43,6 +44,7 @@ public class ServiceBuilder {
   private static final Logger LOGGER = Logger.getLogger(ServiceBuilder.class.getName());
 
   private Template template;
+  private Shard shard = Shard.ALL;
   private String outputDirectoryPath;
   private OpenAPI openApi;
 
@@ -68,6 +70,12 @@ public class ServiceBuilder {
     return this;
   }
 
+  /** Restricts generation to the services of resources owned by {@code shard}. */
+  public ServiceBuilder withShard(Shard shard) {
+    this.shard = shard;
+    return this;
+  }
+
   /**
    * Generates service classes from the provided OpenAPI specification.
    *
@@ -96,6 +104,9 @@ public class ServiceBuilder {
       return;
     }
     for (var service : services) {
+      if (!shard.owns(service.getName())) {
+        continue;
+      }
       var content = template.apply(service);
       var formattedContent = JavaFormatter.formatSafely(content);
       var fileName = createServiceFileName(service);
@@ -2,6 +2,7 @@ package com.chargebee.sdk.java.v4.builder;
 
 import com.chargebee.openapi.Extension;
 import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.Shard;
 import com.chargebee.sdk.java.v4.JavaFormatter;
 import com.chargebee.sdk.java.v4.core.Field;
 import com.chargebee.sdk.java.v4.core.Model;
@@ -33,6 +34,7 @@ import lombok.NonNull;
 public class SimpleGetResponseBuilder {
 
   private Template template;
+  private Shard shard = Shard.ALL;
   private String outputDirectoryPath;
   private OpenAPI openApi;
 
@@ -70,6 +72,11 @@ public class SimpleGetResponseBuilder {
     return this;
   }
 
+  public SimpleGetResponseBuilder withShard(Shard shard) {
+    this.shard = shard;
+    return this;
+  }
+
   /**
    * Generate simple GET response classes and return filesystem operations to be applied.
    *
@@ -99,6 +106,7 @@ public class SimpleGetResponseBuilder {
         if (module == null) {
           continue; // Missing required extensions; skip gracefully
         }
+        if (!shard.owns(module)) continue;
         var methodName = readExtensionAsString(operation, Extension.SDK_METHOD_NAME);
 
         var responses = operation.getResponses();
@@ -0,0 +1,112 @@
+package com.chargebee.sdk.java.v4.builder;
+
+import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.java.v4.JavaFormatter;
+import com.chargebee.sdk.java.v4.util.CaseFormatUtil;
+import com.github.jknack.handlebars.Template;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import java.io.IOException;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import lombok.NonNull;
+
+/**
+ * Builder that generates a {@code WebhookEventRouter} in the webhook events package. Each entry of
+ * the spec's {@code webhooks} whose payload is a generated webhook event class becomes a route
+ * from its {@code event_type} value to an {@code on<EventType>} handler of that class.
+ * Deprecated events are kept, as sites may still receive them.
+ */
+public class WebhookEventRouterBuilder {
+
+  private static final Logger LOGGER = Logger.getLogger(WebhookEventRouterBuilder.class.getName());
+
+  private Template template;
+  private String outputDirectoryPath;
+  private final List<FileOp> fileOps = new ArrayList<>();
+
+  public WebhookEventRouterBuilder withOutputDirectoryPath(@NonNull String outputDirectoryPath) {
+    Objects.requireNonNull(outputDirectoryPath, "outputDirectoryPath must not be null");
+    this.outputDirectoryPath = outputDirectoryPath + "/com/chargebee/v4/models/event";
+    return this;
+  }
+
+  public WebhookEventRouterBuilder withTemplate(@NonNull Template template) {
+    this.template = Objects.requireNonNull(template, "template must not be null");
+    return this;
+  }
+
+  public List<FileOp> build(@NonNull OpenAPI openApi) throws IOException {
+    Objects.requireNonNull(openApi, "openApi must not be null");
+    if (template == null) {
+      throw new IllegalStateException("Template must be set before build()");
+    }
+    if (outputDirectoryPath == null || outputDirectoryPath.isEmpty()) {
+      throw new IllegalStateException("Output directory path must be set before build()");
+    }
+
+    List<Map<String, String>> events = collectEvents(openApi);
+    if (events.isEmpty()) {
+      LOGGER.log(Level.FINE, "No webhook events found in OpenAPI spec");
+      return fileOps;
+    }
+
+    String content = template.apply(Map.of("events", events));
+    fileOps.add(new FileOp.CreateDirectory(outputDirectoryPath, ""));
+    fileOps.add(
+        new FileOp.WriteString(
+            outputDirectoryPath, "WebhookEventRouter.java", JavaFormatter.formatSafely(content)));
+
+    LOGGER.log(Level.FINE, () -> "Generated WebhookEventRouter with " + events.size() + " routes");
+    return fileOps;
+  }
+
+  /** The routable webhook events, sorted by event type. */
+  private static List<Map<String, String>> collectEvents(OpenAPI openApi) {
+    Map<String, PathItem> webhooks = openApi.getWebhooks();
+    if (webhooks == null
+        || openApi.getComponents() == null
+        || openApi.getComponents().getSchemas() == null) {
+      return List.of();
+    }
+    Map<String, Schema> schemas = openApi.getComponents().getSchemas();
+    SortedMap<String, String> classesByType = new TreeMap<>();
+    for (var entry : webhooks.entrySet()) {
+      String className = payloadSchemaName(entry.getValue());
+      if (className == null
+          || !ModelBuilder.isWebhookEvent(className)
+          || !schemas.containsKey(className)) {
+        continue;
+      }
+      classesByType.put(entry.getKey(), className);
+    }
+
+    List<Map<String, String>> events = new ArrayList<>();
+    for (var entry : classesByType.entrySet()) {
+      events.add(
+          Map.of(
+              "type", entry.getKey(),
+              "handlerName", "on" + CaseFormatUtil.toUpperCamelSafe(entry.getKey()),
+              "className", entry.getValue()));
+    }
+    return events;
+  }
+
+  private static String payloadSchemaName(PathItem pathItem) {
+    if (pathItem == null
+        || pathItem.getPost() == null
+        || pathItem.getPost().getRequestBody() == null
+        || pathItem.getPost().getRequestBody().getContent() == null) {
+      return null;
+    }
+    MediaType mediaType = pathItem.getPost().getRequestBody().getContent().get("application/json");
+    if (mediaType == null || mediaType.getSchema() == null) {
+      return null;
+    }
+    String ref = mediaType.getSchema().get$ref();
+    return ref == null ? null : ref.substring(ref.lastIndexOf('/') + 1);
+  }
+}
@@ -208,6 +208,35 @@ public class Field {
     return false;
   }
 
+  /**
+   * The {@code ModelCodec.Kind} the table-codec model template declares this field with. Mirrors
+   * the branches of the unrolled {@code fromJson} in core.models.hbs, so both modes decode a field
+   * the same way.
+   */
+  public String getCodecKind() {
+    if (isMapType()) return "MAP";
+    if (isComplexObjectType()) return "MODEL";
+    if (isObjectType()) return isPlainObjectType() ? "OBJECT" : "MODEL";
+    if (isEnumType()) return "ENUM";
+    if (isListOfObjects()) return "MODELS";
+    if (isListType()) {
+      String elementType = getListElementType();
+      if ("Object".equals(elementType)) return "OBJECTS";
+      if ("java.util.Map<String, Object>".equals(elementType)) return "MAPS";
+      return "STRINGS";
+    }
+    return CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, type.display());
+  }
+
+  /** The class a MODEL, MODELS or ENUM field decodes into; null for the other kinds. */
+  public String getCodecType() {
+    return switch (getCodecKind()) {
+      case "ENUM", "MODEL" -> type.display();
+      case "MODELS" -> getListElementType();
+      default -> null;
+    };
+  }
+
   public String getGetterName() {
     if (name == null) return "get";
     // Replace dots with underscores to handle field names like "card.copy_billing_info"
@@ -0,0 +1,89 @@
+package com.chargebee.sdk.validator;
+
+import com.chargebee.openapi.Action;
+import com.chargebee.openapi.HttpRequestType;
+import com.chargebee.openapi.Resource;
+import com.chargebee.openapi.Spec;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decides which actions get a validator and which schema each one validates. Shared by every
+ * {@link ValidatorEmitter} so all targets cover the same actions.
+ */
+public final class ValidationTargets {
+
+  private ValidationTargets() {}
+
+  /** Actions of {@code resource} that are exposed through the SDK, in {@code sortOrder}. */
+  public static List<Action> actions(Resource resource) {
+    return resource.actions.stream()
+        .filter(Action::isNotHiddenFromSDK)
+        .filter(Action::isNotBulkOperation)
+        .filter(Action::isNotInternalOperation)
+        .sorted(Comparator.comparing(Action::sortOrder))
+        .toList();
+  }
+
+  /**
+   * The form-encoded POST body schema of {@code action}, or for GET actions a synthetic object
+   * schema built from its query parameters. {@code null} when there is nothing to validate.
+   */
+  public static Schema<?> requestSchema(Action action, Spec spec) {
+    if (action.httpRequestType == HttpRequestType.GET) {
+      return queryParamsSchema(action, spec);
+    }
+
+    if (action.requestBodyParameters().isEmpty()) return null;
+    if (spec.openAPI().getPaths() == null) return null;
+    var pathItem = spec.openAPI().getPaths().get(action.getUrl());
+    if (pathItem == null || pathItem.getPost() == null) return null;
+    var rb = pathItem.getPost().getRequestBody();
+    if (rb == null) return null;
+    var content = rb.getContent();
+    if (content == null) return null;
+    var mt = content.get("application/x-www-form-urlencoded");
+    return mt == null ? null : mt.getSchema();
+  }
+
+  private static Schema<?> queryParamsSchema(Action action, Spec spec) {
+    if (spec.openAPI().getPaths() == null) return null;
+    var pathItem = spec.openAPI().getPaths().get(action.getUrl());
+    if (pathItem == null || pathItem.getGet() == null) return null;
+    var operation = pathItem.getGet();
+    if (operation.getParameters() == null || operation.getParameters().isEmpty()) return null;
+
+    List<Parameter> queryParams =
+        operation.getParameters().stream()
+            .filter(p -> "query".equals(p.getIn()))
+            .filter(p -> p.getSchema() != null)
+            .toList();
+
+    if (queryParams.isEmpty()) return null;
+
+    // Construct an object schema from query parameters
+    ObjectSchema objectSchema = new ObjectSchema();
+    Map<String, Schema> properties = new LinkedHashMap<>();
+    List<String> requiredFields = new ArrayList<>();
+
+    for (Parameter param : queryParams) {
+      properties.put(param.getName(), param.getSchema());
+      if (param.getRequired() != null && param.getRequired()) {
+        requiredFields.add(param.getName());
+      }
+    }
+
+    objectSchema.setProperties(properties);
+    if (!requiredFields.isEmpty()) {
+      objectSchema.setRequired(requiredFields);
+    }
+
+    return objectSchema;
+  }
+}
@@ -0,0 +1,39 @@
+package com.chargebee.sdk.validator;
+
+import com.chargebee.openapi.Spec;
+import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.Language;
+import com.chargebee.sdk.validator.emitter.compiled.CompiledTsEmitter;
+import com.chargebee.sdk.validator.ir.SharedSchemaRegistry;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Language implementation that generates standalone compiled validators for chargebee-node, an
+ * alternative to {@link ValidatorZod} with no Zod dependency.
+ * Invoked via {@code -l VALIDATOR_COMPILED}.
+ */
+public class ValidatorCompiled extends Language {
+
+  @Override
+  protected List<FileOp> generateSDK(String outputDirectoryPath, Spec spec) {
+    SharedSchemaRegistry registry = new SharedSchemaRegistry();
+    return new CompiledTsEmitter().emit(spec, registry, outputDirectoryPath);
+  }
+
+  @Override
+  protected Map<String, String> templatesDefinition() {
+    return Map.of();
+  }
+
+  @Override
+  public String dataType(Schema<?> schema) {
+    return null;
+  }
+
+  @Override
+  public boolean cleanDirectoryBeforeGenerate() {
+    return true;
+  }
+}
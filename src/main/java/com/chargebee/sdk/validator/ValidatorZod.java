@@ -3,6 +3,7 @@ package com.chargebee.sdk.validator;
 import com.chargebee.openapi.Spec;
 import com.chargebee.sdk.FileOp;
 import com.chargebee.sdk.Language;
+import com.chargebee.sdk.validator.emitter.zod.ZodSchemaConstruction;
 import com.chargebee.sdk.validator.emitter.zod.ZodTsEmitter;
 import com.chargebee.sdk.validator.ir.SharedSchemaRegistry;
 import io.swagger.v3.oas.models.media.Schema;
@@ -11,14 +12,25 @@ import java.util.Map;
 
 /**
  * Language implementation that generates Zod validation files for chargebee-node.
- * Invoked via {@code -l VALIDATOR_ZOD}.
+ * Invoked via {@code -l VALIDATOR_ZOD}, or {@code -l VALIDATOR_ZOD_LAZY} for schemas built on
+ * first use.
  */
 public class ValidatorZod extends Language {
 
+  private final ZodSchemaConstruction construction;
+
+  public ValidatorZod() {
+    this(ZodSchemaConstruction.EAGER);
+  }
+
+  public ValidatorZod(ZodSchemaConstruction construction) {
+    this.construction = construction;
+  }
+
   @Override
   protected List<FileOp> generateSDK(String outputDirectoryPath, Spec spec) {
     SharedSchemaRegistry registry = new SharedSchemaRegistry();
-    return new ZodTsEmitter().emit(spec, registry, outputDirectoryPath);
+    return new ZodTsEmitter(construction).emit(spec, registry, outputDirectoryPath);
   }
 
   @Override
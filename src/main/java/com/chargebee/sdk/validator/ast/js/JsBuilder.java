@@ -78,4 +78,12 @@ public final class JsBuilder {
   public static JsNode.CallExpression callExpr(JsNode callee, JsNode... args) {
     return new JsNode.CallExpression(callee, Arrays.asList(args));
   }
+
+  public static JsNode.ArrowFunction arrow(JsNode body) {
+    return new JsNode.ArrowFunction(List.of(), body);
+  }
+
+  public static JsNode.ArrowFunction arrow(List<? extends JsNode> statements, JsNode body) {
+    return new JsNode.ArrowFunction(List.copyOf(statements), body);
+  }
 }
@@ -17,7 +17,8 @@ public sealed interface JsNode
         JsNode.Identifier,
         JsNode.Literal,
         JsNode.MemberAccess,
-        JsNode.CallExpression {
+        JsNode.CallExpression,
+        JsNode.ArrowFunction {
 
   /** Top-level file: a list of statements. */
   record Program(List<JsNode> body) implements JsNode {}
@@ -61,4 +62,7 @@ public sealed interface JsNode
 
   /** A plain function/method call: callee(args). */
   record CallExpression(JsNode callee, List<JsNode> args) implements JsNode {}
+
+  /** () =&gt; body, or () =&gt; { statements; return body; } when there are statements. */
+  record ArrowFunction(List<JsNode> statements, JsNode body) implements JsNode {}
 }
@@ -1,7 +1,7 @@
 package com.chargebee.sdk.validator.ast.js;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 
 /**
  * Converts a {@link JsNode} AST into formatted TypeScript source code.
@@ -10,50 +10,85 @@ import java.util.stream.Collectors;
  *   <li>{@link JsNode.RequireCall} → ES {@code import} statement</li>
  *   <li>{@link JsNode.ExportAssignment} → named {@code export const} or re-export</li>
  * </ul>
+ *
+ * <p>Every node appends straight into one {@link StringBuilder}, so printing cost is linear in the
+ * size of the AST regardless of how deeply chains and objects are nested.
  */
 public class TsPrinter {
 
   private static final String INDENT = "  ";
+  private static final String[] INDENTS = new String[32];
+  private static final Pattern IDENTIFIER = Pattern.compile("[a-zA-Z_$][a-zA-Z0-9_$]*");
 
-  public String print(JsNode node) {
-    return print(node, 0);
-  }
-
-  private String print(JsNode node, int depth) {
-    if (node instanceof JsNode.Program p) return printProgram(p, depth);
-    if (node instanceof JsNode.VariableDeclaration v) return printVarDecl(v, depth);
-    if (node instanceof JsNode.RequireCall r) return printImport(r);
-    if (node instanceof JsNode.ExportAssignment e) return printExport(e, depth);
-    if (node instanceof JsNode.TypeInferExport t) return printTypeInferExport(t, depth);
-    if (node instanceof JsNode.MethodChain m) return printMethodChain(m, depth);
-    if (node instanceof JsNode.ObjectExpression o) return printObject(o, depth);
-    if (node instanceof JsNode.ArrayExpression a) return printArray(a, depth);
-    if (node instanceof JsNode.Identifier i) return i.name();
-    if (node instanceof JsNode.Literal l) return printLiteral(l);
-    if (node instanceof JsNode.MemberAccess ma)
-      return print(ma.object(), depth) + "." + ma.property();
-    if (node instanceof JsNode.CallExpression ce) return printCallExpression(ce, depth);
-    throw new IllegalArgumentException("Unknown JsNode type: " + node.getClass());
+  static {
+    for (int depth = 0; depth < INDENTS.length; depth++) {
+      INDENTS[depth] = INDENT.repeat(depth);
+    }
   }
 
-  private String printProgram(JsNode.Program p, int depth) {
-    return p.body().stream().map(n -> print(n, depth)).collect(Collectors.joining("\n"));
+  public String print(JsNode node) {
+    StringBuilder out = new StringBuilder();
+    print(node, out);
+    return out.toString();
+  }
+
+  /** Appends the printed form of {@code node} to {@code out}. */
+  public void print(JsNode node, StringBuilder out) {
+    print(node, 0, out);
+  }
+
+  private void print(JsNode node, int depth, StringBuilder out) {
+    if (node instanceof JsNode.Program p) printProgram(p, depth, out);
+    else if (node instanceof JsNode.VariableDeclaration v) printVarDecl(v, depth, out);
+    else if (node instanceof JsNode.RequireCall r) printImport(r, out);
+    else if (node instanceof JsNode.ExportAssignment e) printExport(e, depth, out);
+    else if (node instanceof JsNode.TypeInferExport t) printTypeInferExport(t, depth, out);
+    else if (node instanceof JsNode.MethodChain m) printMethodChain(m, depth, out);
+    else if (node instanceof JsNode.ObjectExpression o) printObject(o, depth, out);
+    else if (node instanceof JsNode.ArrayExpression a) printArray(a, depth, out);
+    else if (node instanceof JsNode.Identifier i) out.append(i.name());
+    else if (node instanceof JsNode.Literal l) printLiteral(l, out);
+    else if (node instanceof JsNode.MemberAccess ma) {
+      print(ma.object(), depth, out);
+      out.append('.').append(ma.property());
+    } else if (node instanceof JsNode.CallExpression ce) printCallExpression(ce, depth, out);
+    else if (node instanceof JsNode.ArrowFunction af) printArrowFunction(af, depth, out);
+    else throw new IllegalArgumentException("Unknown JsNode type: " + node.getClass());
+  }
+
+  private void printProgram(JsNode.Program p, int depth, StringBuilder out) {
+    List<JsNode> body = p.body();
+    for (int i = 0; i < body.size(); i++) {
+      if (i > 0) out.append('\n');
+      print(body.get(i), depth, out);
+    }
   }
 
-  private String printVarDecl(JsNode.VariableDeclaration v, int depth) {
-    return indent(depth) + v.kind() + " " + v.name() + " = " + print(v.init(), depth) + ";";
+  private void printVarDecl(JsNode.VariableDeclaration v, int depth, StringBuilder out) {
+    out.append(indent(depth)).append(v.kind()).append(' ').append(v.name()).append(" = ");
+    print(v.init(), depth, out);
+    out.append(';');
   }
 
   /** Emit ES import. If destructured, emits `import { A, B } from 'module';` else namespace import. */
-  private String printImport(JsNode.RequireCall r) {
+  private void printImport(JsNode.RequireCall r, StringBuilder out) {
     if (r.destructured() != null && !r.destructured().isEmpty()) {
-      String names = String.join(", ", r.destructured());
-      return "import { " + names + " } from '" + r.module() + "';";
+      out.append("import { ");
+      appendJoined(r.destructured(), out);
+      out.append(" } from '").append(r.module()).append("';");
+      return;
     }
     // Use namespace import (import * as X) to be compatible with esModuleInterop: false
     // and CJS modules like joi that use `export = Joi`
     String alias = moduleAlias(r.module());
-    return "import * as " + alias + " from '" + r.module() + "';";
+    out.append("import * as ").append(alias).append(" from '").append(r.module()).append("';");
+  }
+
+  private static void appendJoined(List<String> names, StringBuilder out) {
+    for (int i = 0; i < names.size(); i++) {
+      if (i > 0) out.append(", ");
+      out.append(names.get(i));
+    }
   }
 
   private String moduleAlias(String module) {
@@ -61,87 +96,139 @@ public class TsPrinter {
     return Character.toUpperCase(base.charAt(0)) + base.substring(1);
   }
 
+  private void printTypeInferExport(JsNode.TypeInferExport t, int depth, StringBuilder out) {
+    out.append(indent(depth))
+        .append("export type ")
+        .append(t.typeName())
+        .append(" = z.infer<typeof ")
+        .append(t.schemaConstName())
+        .append(">;");
+  }
+
   /**
    * Named export. When value is an Identifier with the same name, emits `export { name };`
    * to avoid the self-referential `export const x = x` pattern.
    * Otherwise emits `export const name = value;`.
    */
-  private String printTypeInferExport(JsNode.TypeInferExport t, int depth) {
-    return indent(depth)
-        + "export type "
-        + t.typeName()
-        + " = z.infer<typeof "
-        + t.schemaConstName()
-        + ">;";
-  }
-
-  private String printExport(JsNode.ExportAssignment e, int depth) {
+  private void printExport(JsNode.ExportAssignment e, int depth, StringBuilder out) {
     if (e.name() == null || e.name().isBlank()) {
-      return "export default " + print(e.value(), depth) + ";";
+      out.append("export default ");
+      print(e.value(), depth, out);
+      out.append(';');
+      return;
     }
     if (e.value() instanceof JsNode.Identifier id && id.name().equals(e.name())) {
-      return "export { " + e.name() + " };";
+      out.append("export { ").append(e.name()).append(" };");
+      return;
     }
-    return "export const " + e.name() + " = " + print(e.value(), depth) + ";";
+    out.append("export const ").append(e.name()).append(" = ");
+    print(e.value(), depth, out);
+    out.append(';');
   }
 
-  private String printMethodChain(JsNode.MethodChain m, int depth) {
-    StringBuilder sb = new StringBuilder(print(m.receiver(), depth));
+  private void printMethodChain(JsNode.MethodChain m, int depth, StringBuilder out) {
+    print(m.receiver(), depth, out);
     for (JsNode.MethodChain.MethodCall call : m.calls()) {
-      sb.append(".").append(call.name()).append("(");
-      sb.append(printArgList(call.args(), depth));
-      sb.append(")");
+      out.append('.').append(call.name()).append('(');
+      printArgList(call.args(), depth, out);
+      out.append(')');
     }
-    return sb.toString();
   }
 
-  private String printObject(JsNode.ObjectExpression o, int depth) {
+  private void printObject(JsNode.ObjectExpression o, int depth, StringBuilder out) {
     if (o.entries().isEmpty()) {
-      return "{}";
+      out.append("{}");
+      return;
+    }
+    out.append("{\n");
+    String entryIndent = indent(depth + 1);
+    List<JsNode.ObjectExpression.ObjectProperty> entries = o.entries();
+    for (int i = 0; i < entries.size(); i++) {
+      if (i > 0) out.append(",\n");
+      JsNode.ObjectExpression.ObjectProperty p = entries.get(i);
+      out.append(entryIndent);
+      appendKey(p.key(), out);
+      out.append(": ");
+      print(p.value(), depth + 1, out);
     }
-    String inner =
-        o.entries().stream()
-            .map(p -> indent(depth + 1) + quoteKey(p.key()) + ": " + print(p.value(), depth + 1))
-            .collect(Collectors.joining(",\n"));
-    return "{\n" + inner + "\n" + indent(depth) + "}";
+    out.append('\n').append(indent(depth)).append('}');
   }
 
-  private String quoteKey(String key) {
-    if (key.matches("[a-zA-Z_$][a-zA-Z0-9_$]*")) return key;
-    return "'" + key + "'";
+  private void appendKey(String key, StringBuilder out) {
+    if (IDENTIFIER.matcher(key).matches()) {
+      out.append(key);
+    } else {
+      out.append('\'').append(key).append('\'');
+    }
   }
 
-  private String printArray(JsNode.ArrayExpression a, int depth) {
-    if (a.elements().isEmpty()) return "[]";
-    String inner =
-        a.elements().stream()
-            .map(e -> indent(depth + 1) + print(e, depth + 1))
-            .collect(Collectors.joining(",\n"));
-    return "[\n" + inner + "\n" + indent(depth) + "]";
+  private void printArray(JsNode.ArrayExpression a, int depth, StringBuilder out) {
+    if (a.elements().isEmpty()) {
+      out.append("[]");
+      return;
+    }
+    out.append("[\n");
+    String elementIndent = indent(depth + 1);
+    List<JsNode> elements = a.elements();
+    for (int i = 0; i < elements.size(); i++) {
+      if (i > 0) out.append(",\n");
+      out.append(elementIndent);
+      print(elements.get(i), depth + 1, out);
+    }
+    out.append('\n').append(indent(depth)).append(']');
   }
 
-  private String printLiteral(JsNode.Literal l) {
-    if (l.value() == null) return "null";
-    if (l.value() instanceof String s) {
+  private void printLiteral(JsNode.Literal l, StringBuilder out) {
+    Object value = l.value();
+    if (value == null) {
+      out.append("null");
+    } else if (value instanceof String s) {
       // Escape backslashes first, then single quotes. Without escaping backslashes a regex
       // pattern such as ^\d{10}$ would be emitted as RegExp('^\d{10}$'); in a JS string literal
       // `\d` collapses to `d`, silently corrupting the pattern (e.g. \[ -> [, \d -> d).
-      String escaped = s.replace("\\", "\\\\").replace("'", "\\'");
-      return "'" + escaped + "'";
+      out.append('\'');
+      for (int i = 0; i < s.length(); i++) {
+        char c = s.charAt(i);
+        if (c == '\\' || c == '\'') out.append('\\');
+        out.append(c);
+      }
+      out.append('\'');
+    } else {
+      out.append(value);
     }
-    if (l.value() instanceof Boolean b) return b.toString();
-    return l.value().toString();
   }
 
-  private String printCallExpression(JsNode.CallExpression ce, int depth) {
-    return print(ce.callee(), depth) + "(" + printArgList(ce.args(), depth) + ")";
+  private void printCallExpression(JsNode.CallExpression ce, int depth, StringBuilder out) {
+    print(ce.callee(), depth, out);
+    out.append('(');
+    printArgList(ce.args(), depth, out);
+    out.append(')');
   }
 
-  private String printArgList(List<JsNode> args, int depth) {
-    return args.stream().map(a -> print(a, depth)).collect(Collectors.joining(", "));
+  private void printArrowFunction(JsNode.ArrowFunction af, int depth, StringBuilder out) {
+    out.append("() => ");
+    if (af.statements().isEmpty()) {
+      print(af.body(), depth, out);
+      return;
+    }
+    out.append("{\n");
+    for (JsNode statement : af.statements()) {
+      print(statement, depth + 1, out);
+      out.append('\n');
+    }
+    out.append(indent(depth + 1)).append("return ");
+    print(af.body(), depth + 1, out);
+    out.append(";\n").append(indent(depth)).append('}');
+  }
+
+  private void printArgList(List<JsNode> args, int depth, StringBuilder out) {
+    for (int i = 0; i < args.size(); i++) {
+      if (i > 0) out.append(", ");
+      print(args.get(i), depth, out);
+    }
   }
 
   private static String indent(int depth) {
-    return INDENT.repeat(depth);
+    return depth < INDENTS.length ? INDENTS[depth] : INDENT.repeat(depth);
   }
 }
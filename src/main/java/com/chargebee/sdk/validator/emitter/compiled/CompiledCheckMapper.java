@@ -0,0 +1,315 @@
+package com.chargebee.sdk.validator.emitter.compiled;
+
+import com.chargebee.sdk.validator.ir.PropertyEntry;
+import com.chargebee.sdk.validator.ir.ValidationNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Maps IR ValidationNodes to straight-line TypeScript checks that push a {@code ValidationIssue}
+ * for every constraint the value breaks. Checks follow the Zod emitter's rules (see {@code
+ * ZodTypeMapper}) but only validate: unknown keys are kept and defaults are not filled in.
+ *
+ * <p>IR → check mapping:
+ * <ul>
+ *   <li>StringNode{max:50}         → typeof v !== 'string', v.length &gt; 50
+ *   <li>StringNode{enum:["a","b"]} → !ENUM_0.has(v) over a hoisted Set
+ *   <li>StringNode{pattern}        → !PATTERN_0.test(v) over a hoisted RegExp
+ *   <li>NumberNode{integer:true}   → !Number.isSafeInteger(v)
+ *   <li>BooleanNode                → typeof v !== 'boolean'
+ *   <li>ArrayNode{items}           → Array.isArray(v) and a for loop over the items
+ *   <li>ObjectNode{props}          → isObject(v) and one block per property, inlined
+ *   <li>MapNode{value}             → isObject(v) and a for-in loop over the values
+ *   <li>RefNode                    → checkRefNameBlock(v, path, issues)
+ * </ul>
+ *
+ * <p>Issue paths are only concatenated once a check fails, except where a value is handed to a
+ * shared validator, which needs its own path up front.
+ */
+class CompiledCheckMapper {
+
+  private final CompiledModule module;
+  private int variables;
+
+  CompiledCheckMapper(CompiledModule module) {
+    this.module = module;
+  }
+
+  /**
+   * Writes {@code function name(value, path, issues)} checking {@code node}. The caller deals
+   * with {@code value} being undefined.
+   */
+  void writeCheckFunction(String name, boolean exported, ValidationNode node) {
+    module.useRuntimeType("ValidationIssue");
+    variables = 0;
+    TsSourceWriter out = module.body();
+    out.open((exported ? "export " : "") + "function " + name + "(");
+    out.line("value: unknown,");
+    out.line("path: string,");
+    out.line("issues: ValidationIssue[],");
+    out.reopen("): void {");
+    writeCheck(out, "value", new PathExpr("path", ""), node);
+    out.close("}");
+  }
+
+  /**
+   * Writes the exported entry point: runs {@code checkFunction} and wraps the outcome in a {@code
+   * ValidationResult} typed as {@code typeName}.
+   */
+  void writeValidateFunction(String name, String checkFunction, String typeName) {
+    module.useRuntimeType("ValidationIssue");
+    module.useRuntimeType("ValidationResult");
+    module
+        .body()
+        .line("export function " + name + "(input: unknown): ValidationResult<" + typeName + "> {")
+        .line("  const issues: ValidationIssue[] = [];")
+        .line("  " + checkFunction + "(input, '', issues);")
+        .line("  return issues.length === 0")
+        .line("    ? { success: true, data: input as " + typeName + " }")
+        .line("    : { success: false, issues };")
+        .line("}");
+  }
+
+  private void writeCheck(TsSourceWriter out, String v, PathExpr path, ValidationNode node) {
+    if (node instanceof ValidationNode.StringNode sn) {
+      writeStringCheck(out, v, path, sn);
+    } else if (node instanceof ValidationNode.NumberNode nn) {
+      writeNumberCheck(out, v, path, nn);
+    } else if (node instanceof ValidationNode.BooleanNode) {
+      writeIssueIf(out, "typeof " + v + " !== 'boolean'", path, "Expected boolean");
+    } else if (node instanceof ValidationNode.ArrayNode an) {
+      writeArrayCheck(out, v, path, an);
+    } else if (node instanceof ValidationNode.ObjectNode on) {
+      writeObjectCheck(out, v, path, on);
+    } else if (node instanceof ValidationNode.MapNode mn) {
+      writeMapCheck(out, v, path, mn);
+    } else if (node instanceof ValidationNode.RefNode rn) {
+      module.useShared(rn.targetName());
+      String check =
+          CompiledNamingStrategy.checkFunctionName(
+              CompiledNamingStrategy.sharedTypeName(rn.targetName()));
+      out.line(check + "(" + v + ", " + path.render(module) + ", issues);");
+    } else {
+      throw new IllegalArgumentException("Unknown ValidationNode: " + node.getClass());
+    }
+  }
+
+  private void writeStringCheck(
+      TsSourceWriter out, String v, PathExpr path, ValidationNode.StringNode sn) {
+    if (sn.enumValues() != null && !sn.enumValues().isEmpty()) {
+      String values =
+          sn.enumValues().stream().map(CompiledModule::literal).collect(Collectors.joining(", "));
+      String set = module.constant("ENUM", "new Set([" + values + "])");
+      writeIssueIf(
+          out,
+          "typeof " + v + " !== 'string' || !" + set + ".has(" + v + ")",
+          path,
+          "Expected one of: " + String.join(", ", sn.enumValues()));
+      return;
+    }
+
+    List<Constraint> constraints = new ArrayList<>();
+    if ("email".equals(sn.format())) {
+      constraints.add(new Constraint(runtimeCall("isEmail", v), "Invalid email"));
+    } else if ("uri".equals(sn.format())) {
+      constraints.add(new Constraint(runtimeCall("isUrl", v), "Invalid URL"));
+    } else if ("date-time".equals(sn.format()) || "date".equals(sn.format())) {
+      constraints.add(new Constraint(runtimeCall("isDateTime", v), "Invalid date-time"));
+    }
+    if (sn.maxLength() != null) {
+      constraints.add(
+          new Constraint(
+              v + ".length > " + sn.maxLength(),
+              "Must be at most " + sn.maxLength() + " characters"));
+    }
+    if (sn.minLength() != null) {
+      constraints.add(
+          new Constraint(
+              v + ".length < " + sn.minLength(),
+              "Must be at least " + sn.minLength() + " characters"));
+    }
+    if (sn.pattern() != null) {
+      String regex =
+          module.constant("PATTERN", "new RegExp(" + CompiledModule.literal(sn.pattern()) + ")");
+      constraints.add(
+          new Constraint("!" + regex + ".test(" + v + ")", "Must match " + sn.pattern()));
+    }
+    writeTypedCheck(out, "typeof " + v + " !== 'string'", path, "Expected string", constraints);
+  }
+
+  private void writeNumberCheck(
+      TsSourceWriter out, String v, PathExpr path, ValidationNode.NumberNode nn) {
+    List<Constraint> constraints = new ArrayList<>();
+    if (nn.integer()) {
+      constraints.add(new Constraint("!Number.isSafeInteger(" + v + ")", "Expected integer"));
+    }
+    if (nn.minimum() != null) {
+      String min = CompiledModule.literal(nn.minimum());
+      constraints.add(new Constraint(v + " < " + min, "Must be at least " + min));
+    }
+    if (nn.maximum() != null) {
+      String max = CompiledModule.literal(nn.maximum());
+      constraints.add(new Constraint(v + " > " + max, "Must be at most " + max));
+    }
+    writeTypedCheck(
+        out,
+        "typeof " + v + " !== 'number' || !Number.isFinite(" + v + ")",
+        path,
+        "Expected number",
+        constraints);
+  }
+
+  private void writeArrayCheck(
+      TsSourceWriter out, String v, PathExpr path, ValidationNode.ArrayNode an) {
+    String i = "i" + variables++;
+    String item = "v" + variables++;
+    out.open("if (!Array.isArray(" + v + ")) {");
+    writeIssue(out, path, "Expected array");
+    out.reopen("} else {");
+    if (an.minItems() != null) {
+      writeIssueIf(
+          out,
+          v + ".length < " + an.minItems(),
+          path,
+          "Must contain at least " + an.minItems() + " items");
+    }
+    if (an.maxItems() != null) {
+      writeIssueIf(
+          out,
+          v + ".length > " + an.maxItems(),
+          path,
+          "Must contain at most " + an.maxItems() + " items");
+    }
+    // Items are optional in the Zod output too, so holes and undefined entries pass.
+    out.open("for (let " + i + " = 0; " + i + " < " + v + ".length; " + i + "++) {");
+    out.line("const " + item + " = " + v + "[" + i + "];");
+    out.open("if (" + item + " !== undefined) {");
+    writeCheck(out, item, path.index(i, module), an.items());
+    out.close("}");
+    out.close("}");
+    out.close("}");
+  }
+
+  private void writeObjectCheck(
+      TsSourceWriter out, String v, PathExpr path, ValidationNode.ObjectNode on) {
+    module.useRuntime("isObject");
+    if (on.properties().isEmpty()) {
+      writeIssueIf(out, "!isObject(" + v + ")", path, "Expected object");
+      return;
+    }
+    out.open("if (!isObject(" + v + ")) {");
+    writeIssue(out, path, "Expected object");
+    out.reopen("} else {");
+    for (Map.Entry<String, PropertyEntry> entry : on.properties().entrySet()) {
+      String key = entry.getKey();
+      PropertyEntry pe = entry.getValue();
+      String prop = "v" + variables++;
+      PathExpr propPath = path.child(key);
+      out.line("const " + prop + " = " + v + "[" + CompiledModule.literal(key) + "];");
+      if (pe.required()) {
+        out.open("if (" + prop + " === undefined) {");
+        writeIssue(out, propPath, "Required");
+        out.reopen("} else {");
+      } else {
+        out.open("if (" + prop + " !== undefined) {");
+      }
+      writeCheck(out, prop, propPath, pe.node());
+      out.close("}");
+    }
+    out.close("}");
+  }
+
+  private void writeMapCheck(
+      TsSourceWriter out, String v, PathExpr path, ValidationNode.MapNode mn) {
+    module.useRuntime("isObject");
+    String key = "k" + variables++;
+    String value = "v" + variables++;
+    out.open("if (!isObject(" + v + ")) {");
+    writeIssue(out, path, "Expected object");
+    out.reopen("} else {");
+    out.open("for (const " + key + " in " + v + ") {");
+    out.line("const " + value + " = " + v + "[" + key + "];");
+    out.open("if (" + value + " !== undefined) {");
+    writeCheck(out, value, path.dynamicChild(key, module), mn.valueSchema());
+    out.close("}");
+    out.close("}");
+    out.close("}");
+  }
+
+  private String runtimeCall(String helper, String v) {
+    module.useRuntime(helper);
+    return "!" + helper + "(" + v + ")";
+  }
+
+  private void writeIssueIf(TsSourceWriter out, String condition, PathExpr path, String message) {
+    out.open("if (" + condition + ") {");
+    writeIssue(out, path, message);
+    out.close("}");
+  }
+
+  /**
+   * Writes the type check and, in its else branch, every constraint – all of them run, as Zod's
+   * checks do, so one value can report several issues.
+   */
+  private void writeTypedCheck(
+      TsSourceWriter out,
+      String typeCondition,
+      PathExpr path,
+      String typeMessage,
+      List<Constraint> constraints) {
+    if (constraints.isEmpty()) {
+      writeIssueIf(out, typeCondition, path, typeMessage);
+      return;
+    }
+    out.open("if (" + typeCondition + ") {");
+    writeIssue(out, path, typeMessage);
+    out.reopen("} else {");
+    for (Constraint constraint : constraints) {
+      writeIssueIf(out, constraint.condition(), path, constraint.message());
+    }
+    out.close("}");
+  }
+
+  private void writeIssue(TsSourceWriter out, PathExpr path, String message) {
+    String rendered = path.render(module);
+    out.line(
+        "issues.push({ "
+            + (rendered.equals("path") ? "path" : "path: " + rendered)
+            + ", message: "
+            + CompiledModule.literal(message)
+            + " });");
+  }
+
+  /** A condition that, when true, means the value breaks the constraint. */
+  private record Constraint(String condition, String message) {}
+
+  /**
+   * A path expression split into a TypeScript expression evaluated at runtime and a static
+   * dotted suffix that is folded into a single {@code at(...)} call.
+   */
+  private record PathExpr(String base, String suffix) {
+
+    PathExpr child(String key) {
+      return new PathExpr(base, suffix.isEmpty() ? key : suffix + "." + key);
+    }
+
+    PathExpr index(String i, CompiledModule module) {
+      return new PathExpr(render(module) + " + '[' + " + i + " + ']'", "");
+    }
+
+    PathExpr dynamicChild(String key, CompiledModule module) {
+      module.useRuntime("at");
+      return new PathExpr("at(" + render(module) + ", " + key + ")", "");
+    }
+
+    String render(CompiledModule module) {
+      if (suffix.isEmpty()) {
+        return base;
+      }
+      module.useRuntime("at");
+      return "at(" + base + ", " + CompiledModule.literal(suffix) + ")";
+    }
+  }
+}
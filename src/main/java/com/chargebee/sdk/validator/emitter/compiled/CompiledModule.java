@@ -0,0 +1,101 @@
+package com.chargebee.sdk.validator.emitter.compiled;
+
+import com.chargebee.sdk.validator.ast.js.JsBuilder;
+import com.chargebee.sdk.validator.ast.js.TsPrinter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * One generated {@code .ts} file while it is being written: the module-level constants hoisted
+ * out of validator bodies, and the runtime helpers and shared validators those bodies use, so the
+ * imports can be written once the body is known.
+ */
+class CompiledModule {
+
+  private static final TsPrinter PRINTER = new TsPrinter();
+
+  private final TsSourceWriter body = new TsSourceWriter();
+  private final Map<String, String> constants = new LinkedHashMap<>();
+  private final Set<String> runtimeValues = new TreeSet<>();
+  private final Set<String> runtimeTypes = new TreeSet<>();
+  private final Set<String> sharedRefs = new TreeSet<>();
+
+  TsSourceWriter body() {
+    return body;
+  }
+
+  /** Quotes a string (or prints a number/boolean) exactly like the Zod emitter's literals. */
+  static String literal(Object value) {
+    return PRINTER.print(JsBuilder.lit(value));
+  }
+
+  /**
+   * Returns the name of a module-level constant initialised with {@code initializer}, declaring
+   * it on first use. Identical initializers share one constant.
+   */
+  String constant(String prefix, String initializer) {
+    return constants.computeIfAbsent(initializer, init -> prefix + "_" + constants.size());
+  }
+
+  void useRuntime(String helper) {
+    runtimeValues.add(helper);
+  }
+
+  void useRuntimeType(String type) {
+    runtimeTypes.add(type);
+  }
+
+  void useShared(String refName) {
+    sharedRefs.add(refName);
+  }
+
+  /** Assembles header, imports, constants and body into the final file content. */
+  String render(String header, boolean importShared) {
+    List<String> imports = new ArrayList<>();
+    String runtime = CompiledNamingStrategy.importPath(CompiledNamingStrategy.RUNTIME_FILE);
+    if (!runtimeValues.isEmpty()) {
+      imports.add(importLine("import", runtimeValues, runtime));
+    }
+    if (!runtimeTypes.isEmpty()) {
+      imports.add(importLine("import type", runtimeTypes, runtime));
+    }
+    if (importShared && !sharedRefs.isEmpty()) {
+      String shared =
+          CompiledNamingStrategy.importPath(CompiledNamingStrategy.SHARED_VALIDATOR_FILE);
+      imports.add(
+          importLine(
+              "import",
+              sharedRefs.stream()
+                  .map(CompiledNamingStrategy::sharedTypeName)
+                  .map(CompiledNamingStrategy::checkFunctionName)
+                  .toList(),
+              shared));
+      imports.add(
+          importLine(
+              "import type",
+              sharedRefs.stream().map(CompiledNamingStrategy::sharedTypeName).toList(),
+              shared));
+    }
+
+    StringBuilder out = new StringBuilder(header);
+    if (!imports.isEmpty()) {
+      out.append('\n');
+      imports.forEach(line -> out.append(line).append('\n'));
+    }
+    if (!constants.isEmpty()) {
+      out.append('\n');
+      constants.forEach(
+          (init, name) ->
+              out.append("const ").append(name).append(" = ").append(init).append(";\n"));
+    }
+    return out.append('\n').append(body).toString();
+  }
+
+  private static String importLine(String keyword, Iterable<String> names, String from) {
+    return keyword + " { " + String.join(", ", names) + " } from " + literal(from) + ";";
+  }
+}
@@ -0,0 +1,58 @@
+package com.chargebee.sdk.validator.emitter.compiled;
+
+import com.google.common.base.CaseFormat;
+
+/**
+ * Naming conventions for compiled validator artefacts. Body type names match the types the Zod
+ * emitter infers, so the two outputs can be swapped without touching call sites' types.
+ */
+public class CompiledNamingStrategy {
+
+  private CompiledNamingStrategy() {}
+
+  public static final String SHARED_VALIDATOR_FILE = "shared.validator.ts";
+
+  public static final String RUNTIME_FILE = "runtime.ts";
+
+  /** e.g. Customer → customer.validator.ts */
+  public static String resourceValidatorFileName(String resourceName) {
+    return toSnake(resourceName) + ".validator.ts";
+  }
+
+  /** e.g. customer.validator.ts → ./customer.validator.js */
+  public static String importPath(String fileName) {
+    return "./" + fileName.replace(".ts", ".js");
+  }
+
+  /** e.g. resource=Customer, action=create → CreateCustomerBody */
+  public static String bodyTypeName(String actionName, String resourceName) {
+    return toPascal(actionName) + toPascal(resourceName) + "Body";
+  }
+
+  /** e.g. CreateCustomerBody → validateCreateCustomerBody */
+  public static String validateFunctionName(String typeName) {
+    return "validate" + typeName;
+  }
+
+  /** e.g. CreateCustomerBody → checkCreateCustomerBody */
+  public static String checkFunctionName(String typeName) {
+    return "check" + typeName;
+  }
+
+  /** e.g. postal_address → PostalAddressBlock */
+  public static String sharedTypeName(String refName) {
+    return toPascal(refName) + "Block";
+  }
+
+  private static String toPascal(String name) {
+    if (name == null || name.isBlank()) return "";
+    if (name.contains("_")) return CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.UPPER_CAMEL, name);
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static String toSnake(String name) {
+    if (name == null || name.isBlank()) return "";
+    if (name.contains("_")) return name.toLowerCase();
+    return CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name);
+  }
+}
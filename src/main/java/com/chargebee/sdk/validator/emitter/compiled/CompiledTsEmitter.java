@@ -0,0 +1,206 @@
+package com.chargebee.sdk.validator.emitter.compiled;
+
+import com.chargebee.openapi.Action;
+import com.chargebee.openapi.Resource;
+import com.chargebee.openapi.Spec;
+import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.validator.ValidationTargets;
+import com.chargebee.sdk.validator.ValidatorEmitter;
+import com.chargebee.sdk.validator.ir.SharedSchemaRegistry;
+import com.chargebee.sdk.validator.ir.ValidationIRBuilder;
+import com.chargebee.sdk.validator.ir.ValidationNode;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Emits standalone TypeScript validators ({@code .validator.ts}) for POST bodies and GET query
+ * parameters. Each schema becomes a plain function of {@code if} checks, so importing a module
+ * builds nothing and validating does not go through a schema interpreter. The output has no
+ * runtime dependency; the few helpers it needs are written to {@code runtime.ts}.
+ *
+ * <p>Output layout (mirrors {@code ZodTsEmitter}):
+ *
+ * <pre>
+ * {outputDir}/
+ *   runtime.ts                    ← ValidationIssue/ValidationResult and format helpers
+ *   shared.validator.ts           ← shared $ref validators
+ *   {resource_snake}.validator.ts ← validate…Body function and …Body type per action
+ *   index.ts                      ← barrel re-export
+ * </pre>
+ */
+public class CompiledTsEmitter implements ValidatorEmitter {
+
+  private static final String DO_NOT_EDIT =
+      "// Do not edit manually – regenerate via sdk-generator\n";
+
+  private static final String RUNTIME =
+      """
+      // Runtime helpers for compiled validators
+      // Do not edit manually – regenerate via sdk-generator
+
+      export interface ValidationIssue {
+        path: string;
+        message: string;
+      }
+
+      export type ValidationResult<T> =
+        | { success: true; data: T }
+        | { success: false; issues: ValidationIssue[] };
+
+      const EMAIL =
+        /^(?!\\.)(?!.*\\.\\.)([A-Za-z0-9_'+\\-\\.]*)[A-Za-z0-9_+-]@([A-Za-z0-9][A-Za-z0-9\\-]*\\.)+[A-Za-z]{2,}$/;
+
+      const DATE_TIME =
+        /^(?:(?:\\d\\d[2468][048]|\\d\\d[13579][26]|\\d\\d0[48]|[02468][048]00|[13579][26]00)-02-29|\\d{4}-(?:(?:0[13578]|1[02])-(?:0[1-9]|[12]\\d|3[01])|(?:0[469]|11)-(?:0[1-9]|[12]\\d|30)|(?:02)-(?:0[1-9]|1\\d|2[0-8])))T(?:[01]\\d|2[0-3]):[0-5]\\d(?::[0-5]\\d(?:\\.\\d+)?)?Z$/;
+
+      export function at(path: string, key: string): string {
+        return path === '' ? key : path + '.' + key;
+      }
+
+      export function isObject(value: unknown): value is Record<string, unknown> {
+        return typeof value === 'object' && value !== null && !Array.isArray(value);
+      }
+
+      export function isEmail(value: string): boolean {
+        return EMAIL.test(value);
+      }
+
+      export function isUrl(value: string): boolean {
+        try {
+          new URL(value);
+          return true;
+        } catch {
+          return false;
+        }
+      }
+
+      export function isDateTime(value: string): boolean {
+        return DATE_TIME.test(value);
+      }
+      """;
+
+  @Override
+  public List<FileOp> emit(Spec spec, SharedSchemaRegistry registry, String outputDir) {
+    List<FileOp> ops = new ArrayList<>();
+    ValidationIRBuilder irBuilder = new ValidationIRBuilder(spec.openAPI(), registry);
+
+    ops.add(new FileOp.CreateDirectory(outputDir, ""));
+    ops.add(new FileOp.WriteString(outputDir, CompiledNamingStrategy.RUNTIME_FILE, RUNTIME));
+
+    List<String> indexExports = new ArrayList<>();
+    List<ValidationNode> roots = new ArrayList<>();
+    for (Resource resource : spec.resources()) {
+      List<ActionUnit> units = buildUnits(resource, spec, irBuilder);
+      if (units.isEmpty()) {
+        continue;
+      }
+      String fileName = CompiledNamingStrategy.resourceValidatorFileName(resource.name);
+      ops.add(new FileOp.WriteString(outputDir, fileName, buildResourceFile(resource, units)));
+      indexExports.add(CompiledNamingStrategy.importPath(fileName));
+      units.forEach(unit -> roots.add(unit.root()));
+    }
+
+    registry.orderByFirstUse(roots);
+    if (!registry.all().isEmpty()) {
+      ops.add(
+          new FileOp.WriteString(
+              outputDir, CompiledNamingStrategy.SHARED_VALIDATOR_FILE, buildSharedFile(registry)));
+    }
+
+    ops.add(new FileOp.WriteString(outputDir, "index.ts", buildIndex(indexExports, registry)));
+    return ops;
+  }
+
+  private record ActionUnit(Action action, ValidationNode.ObjectNode root) {}
+
+  private List<ActionUnit> buildUnits(Resource resource, Spec spec, ValidationIRBuilder irBuilder) {
+    List<ActionUnit> units = new ArrayList<>();
+    for (Action action : ValidationTargets.actions(resource)) {
+      Schema<?> bodySchema = ValidationTargets.requestSchema(action, spec);
+      if (bodySchema == null) continue;
+
+      if (irBuilder.buildRootNode(bodySchema, new HashSet<>())
+          instanceof ValidationNode.ObjectNode rootObj) {
+        units.add(
+            new ActionUnit(
+                action, new ValidationNode.ObjectNode(rootObj.properties(), true, rootObj.ref())));
+      }
+    }
+    return units;
+  }
+
+  private String buildResourceFile(Resource resource, List<ActionUnit> units) {
+    CompiledModule module = new CompiledModule();
+    CompiledTypeMapper types = new CompiledTypeMapper(module);
+    CompiledCheckMapper checks = new CompiledCheckMapper(module);
+
+    for (int i = 0; i < units.size(); i++) {
+      ActionUnit unit = units.get(i);
+      String typeName = CompiledNamingStrategy.bodyTypeName(unit.action().name, resource.name);
+      String checkName = CompiledNamingStrategy.checkFunctionName(typeName);
+
+      if (i > 0) {
+        module.body().blank();
+      }
+      module.body().line("// " + resource.name + "." + unit.action().name).blank();
+      types.writeTypeAlias(typeName, unit.root());
+      module.body().blank();
+      checks.writeCheckFunction(checkName, false, unit.root());
+      module.body().blank();
+      checks.writeValidateFunction(
+          CompiledNamingStrategy.validateFunctionName(typeName), checkName, typeName);
+    }
+
+    String actions = String.join(", ", units.stream().map(u -> u.action().name).toList());
+    return module.render(
+        "// Generated compiled validators: "
+            + resource.name
+            + "\n// Actions: "
+            + actions
+            + "\n"
+            + DO_NOT_EDIT,
+        true);
+  }
+
+  private String buildSharedFile(SharedSchemaRegistry registry) {
+    CompiledModule module = new CompiledModule();
+    CompiledTypeMapper types = new CompiledTypeMapper(module);
+    CompiledCheckMapper checks = new CompiledCheckMapper(module);
+
+    boolean first = true;
+    for (Map.Entry<String, ValidationNode> entry : registry.all().entrySet()) {
+      String typeName = CompiledNamingStrategy.sharedTypeName(entry.getKey());
+      if (!first) {
+        module.body().blank();
+      }
+      first = false;
+      types.writeTypeAlias(typeName, entry.getValue());
+      module.body().blank();
+      checks.writeCheckFunction(
+          CompiledNamingStrategy.checkFunctionName(typeName), true, entry.getValue());
+    }
+
+    // Shared validators call each other directly; function declarations are hoisted.
+    return module.render("// Shared compiled validators\n" + DO_NOT_EDIT, false);
+  }
+
+  private String buildIndex(List<String> resourceFiles, SharedSchemaRegistry registry) {
+    StringBuilder sb =
+        new StringBuilder("// Auto-generated barrel export for compiled validators\n");
+    sb.append("export * from '")
+        .append(CompiledNamingStrategy.importPath(CompiledNamingStrategy.RUNTIME_FILE))
+        .append("';\n");
+    if (!registry.all().isEmpty()) {
+      sb.append("export * from '")
+          .append(CompiledNamingStrategy.importPath(CompiledNamingStrategy.SHARED_VALIDATOR_FILE))
+          .append("';\n");
+    }
+    for (String f : resourceFiles) {
+      sb.append("export * from '").append(f).append("';\n");
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,81 @@
+package com.chargebee.sdk.validator.emitter.compiled;
+
+import com.chargebee.sdk.validator.ir.PropertyEntry;
+import com.chargebee.sdk.validator.ir.ValidationNode;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Maps IR ValidationNodes to TypeScript type aliases describing what a passing value looks like,
+ * i.e. what {@code z.infer} yields for the equivalent Zod schema.
+ */
+class CompiledTypeMapper {
+
+  private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+  private final CompiledModule module;
+
+  CompiledTypeMapper(CompiledModule module) {
+    this.module = module;
+  }
+
+  /** Writes {@code export type name = ...;}. */
+  void writeTypeAlias(String name, ValidationNode node) {
+    writeType(module.body(), "export type " + name + " = ", node, ";");
+  }
+
+  /**
+   * Writes {@code prefix + type + suffix}, spreading object types over several lines. Wrappers
+   * such as {@code Array<...>} are threaded through the prefix and suffix so a nested object still
+   * opens on the same line.
+   */
+  private void writeType(TsSourceWriter out, String prefix, ValidationNode node, String suffix) {
+    if (node instanceof ValidationNode.ArrayNode an) {
+      writeType(out, prefix + "Array<", an.items(), ">" + suffix);
+    } else if (node instanceof ValidationNode.MapNode mn) {
+      writeType(out, prefix + "Record<string, ", mn.valueSchema(), ">" + suffix);
+    } else if (node instanceof ValidationNode.ObjectNode on && !on.properties().isEmpty()) {
+      out.open(prefix + "{");
+      for (Map.Entry<String, PropertyEntry> entry : on.properties().entrySet()) {
+        String key = propertyKey(entry.getKey()) + (entry.getValue().required() ? ": " : "?: ");
+        writeType(out, key, entry.getValue().node(), ";");
+      }
+      if (on.allowUnknown()) {
+        out.line("[key: string]: unknown;");
+      }
+      out.close("}" + suffix);
+    } else {
+      out.line(prefix + inlineType(node) + suffix);
+    }
+  }
+
+  private String inlineType(ValidationNode node) {
+    if (node instanceof ValidationNode.StringNode sn) {
+      if (sn.enumValues() != null && !sn.enumValues().isEmpty()) {
+        return sn.enumValues().stream()
+            .map(CompiledModule::literal)
+            .collect(Collectors.joining(" | "));
+      }
+      return "string";
+    }
+    if (node instanceof ValidationNode.NumberNode) {
+      return "number";
+    }
+    if (node instanceof ValidationNode.BooleanNode) {
+      return "boolean";
+    }
+    if (node instanceof ValidationNode.ObjectNode) {
+      return "Record<string, unknown>";
+    }
+    if (node instanceof ValidationNode.RefNode rn) {
+      module.useShared(rn.targetName());
+      return CompiledNamingStrategy.sharedTypeName(rn.targetName());
+    }
+    throw new IllegalArgumentException("Unknown ValidationNode: " + node.getClass());
+  }
+
+  private static String propertyKey(String name) {
+    return IDENTIFIER.matcher(name).matches() ? name : CompiledModule.literal(name);
+  }
+}
@@ -0,0 +1,55 @@
+package com.chargebee.sdk.validator.emitter.compiled;
+
+/**
+ * Line-oriented TypeScript writer with 2-space indentation. Compiled validators are statement
+ * code (ifs, loops, functions) rather than the expression trees {@code JsNode} models, so they
+ * are written out directly.
+ */
+class TsSourceWriter {
+
+  private static final String INDENT = "  ";
+
+  private final StringBuilder out = new StringBuilder();
+  private int depth;
+
+  /** Writes one line at the current indentation. */
+  TsSourceWriter line(String text) {
+    out.append(INDENT.repeat(depth)).append(text).append('\n');
+    return this;
+  }
+
+  /** Writes {@code text} and indents the lines that follow, e.g. <code>if (x) {</code>. */
+  TsSourceWriter open(String text) {
+    line(text);
+    depth++;
+    return this;
+  }
+
+  /** Outdents and writes {@code text}, e.g. <code>}</code>. */
+  TsSourceWriter close(String text) {
+    depth--;
+    return line(text);
+  }
+
+  /** Outdents, writes {@code text} and indents again, e.g. <code>} else {</code>. */
+  TsSourceWriter reopen(String text) {
+    depth--;
+    line(text);
+    depth++;
+    return this;
+  }
+
+  TsSourceWriter blank() {
+    out.append('\n');
+    return this;
+  }
+
+  boolean isEmpty() {
+    return out.length() == 0;
+  }
+
+  @Override
+  public String toString() {
+    return out.toString();
+  }
+}
@@ -0,0 +1,13 @@
+package com.chargebee.sdk.validator.emitter.zod;
+
+/** When the schemas in generated {@code .schema.ts} files are constructed. */
+public enum ZodSchemaConstruction {
+  /** Every schema is a plain {@code z.object(...)} built when its module is imported. */
+  EAGER,
+  /**
+   * Every exported and shared schema is wrapped in {@code z.lazy(() => ...)}: importing a module
+   * creates one lightweight wrapper per schema and the schema itself, along with its nested
+   * sub-schemas, is built and memoized by Zod on first use.
+   */
+  LAZY
+}
@@ -1,10 +1,10 @@
 package com.chargebee.sdk.validator.emitter.zod;
 
 import com.chargebee.openapi.Action;
-import com.chargebee.openapi.HttpRequestType;
 import com.chargebee.openapi.Resource;
 import com.chargebee.openapi.Spec;
 import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.validator.ValidationTargets;
 import com.chargebee.sdk.validator.ValidatorEmitter;
 import com.chargebee.sdk.validator.ast.js.JsBuilder;
 import com.chargebee.sdk.validator.ast.js.JsNode;
@@ -13,10 +13,12 @@ import com.chargebee.sdk.validator.ir.PropertyEntry;
 import com.chargebee.sdk.validator.ir.SharedSchemaRegistry;
 import com.chargebee.sdk.validator.ir.ValidationIRBuilder;
 import com.chargebee.sdk.validator.ir.ValidationNode;
-import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.oas.models.parameters.Parameter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Emits Zod schema files ({@code .schema.ts}) for POST bodies and GET query parameters.
@@ -29,9 +31,25 @@ import java.util.*;
  *   {resource_snake}.schema.ts ← all actions for that resource + z.infer type exports
  *   index.ts                   ← barrel re-export
  * </pre>
+ *
+ * <p>With {@link ZodSchemaConstruction#LAZY} every exported body schema and shared schema is
+ * wrapped in {@code z.lazy}, with its nested sub-schemas declared inside the thunk, so importing
+ * the barrel does not build schemas the application never validates against. Lazy schemas still
+ * support {@code parse}/{@code safeParse} and {@code z.infer}, but not object helpers such as
+ * {@code .shape} or {@code .extend}.
  */
 public class ZodTsEmitter implements ValidatorEmitter {
 
+  private final ZodSchemaConstruction construction;
+
+  public ZodTsEmitter() {
+    this(ZodSchemaConstruction.EAGER);
+  }
+
+  public ZodTsEmitter(ZodSchemaConstruction construction) {
+    this.construction = construction;
+  }
+
   @Override
   public List<FileOp> emit(Spec spec, SharedSchemaRegistry registry, String outputDir) {
     List<FileOp> ops = new ArrayList<>();
@@ -41,85 +59,22 @@ public class ZodTsEmitter implements ValidatorEmitter {
     ops.add(new FileOp.CreateDirectory(outputDir, ""));
 
     List<String> indexExports = new ArrayList<>();
+    List<ValidationNode> roots = new ArrayList<>();
 
-    for (Resource resource : spec.resources()) {
-      List<Action> actions =
-          resource.actions.stream()
-              .filter(Action::isNotHiddenFromSDK)
-              .filter(Action::isNotBulkOperation)
-              .filter(Action::isNotInternalOperation)
-              .sorted(Comparator.comparing(Action::sortOrder))
-              .toList();
-
-      List<ActionSchemaUnit> units = new ArrayList<>();
-      for (Action action : actions) {
-        Schema<?> bodySchema = resolveBodySchema(action, spec);
-        if (bodySchema == null) continue;
-
-        ValidationNode irNode = irBuilder.buildRootNode(bodySchema, new HashSet<>());
-        ValidationNode.ObjectNode rootObj = ensureObject(irNode);
-        if (rootObj == null) continue;
-
-        rootObj = new ValidationNode.ObjectNode(rootObj.properties(), true, rootObj.ref());
-        units.add(new ActionSchemaUnit(action, irNode, rootObj));
-      }
-
-      if (units.isEmpty()) {
+    for (ResourceFile file : emitResources(spec, registry, irBuilder, printer)) {
+      if (file == null) {
         continue;
       }
-
-      Set<String> usedRefs = new LinkedHashSet<>();
-      for (ActionSchemaUnit unit : units) {
-        collectRefsInto(unit.irNode, usedRefs);
-      }
-
-      List<JsNode> body = new ArrayList<>();
-      body.add(resourceFileHeader(resource.name, units.stream().map(u -> u.action.name).toList()));
-      body.add(new JsNode.RequireCall("zod", List.of("z")));
-
-      if (!usedRefs.isEmpty()) {
-        List<String> importNames =
-            usedRefs.stream().map(ZodNamingStrategy::sharedSchemaName).sorted().toList();
-        body.add(
-            new JsNode.RequireCall(
-                "./" + ZodNamingStrategy.SHARED_SCHEMA_FILE.replace(".ts", ".js"), importNames));
-      }
-
-      for (int i = 0; i < units.size(); i++) {
-        ActionSchemaUnit unit = units.get(i);
-        List<JsNode.VariableDeclaration> nestedDecls = new ArrayList<>();
-        ZodTypeMapper mapper =
-            new ZodTypeMapper(unit.action.name, resource.name, registry, nestedDecls);
-        JsNode bodyExpr = mapper.buildZodObjectExpr(unit.rootObj, "");
-        String bodyConst = ZodNamingStrategy.bodySchemaName(unit.action.name, resource.name);
-
-        if (i > 0) {
-          body.add(new JsNode.Identifier(""));
-        }
-        body.add(new JsNode.Identifier("\n//" + resource.name + "." + unit.action.name + "\n"));
-        body.add(new JsNode.Identifier(""));
-        body.addAll(nestedDecls);
-        body.add(JsBuilder.constDecl(bodyConst, bodyExpr));
-        body.add(JsBuilder.exportNamed(bodyConst, JsBuilder.id(bodyConst)));
-        body.add(
-            new JsNode.TypeInferExport(
-                ZodNamingStrategy.bodyInferredTypeName(unit.action.name, resource.name),
-                bodyConst));
-      }
-
-      String fileName = ZodNamingStrategy.resourceSchemaFileName(resource.name);
-      ops.add(
-          new FileOp.WriteString(
-              outputDir, fileName, printer.print(JsBuilder.program(body)) + "\n"));
-      indexExports.add("./" + fileName.replace(".ts", ".js"));
+      ops.add(new FileOp.WriteString(outputDir, file.fileName, file.content));
+      indexExports.add("./" + file.fileName.replace(".ts", ".js"));
+      roots.addAll(file.roots);
     }
 
+    registry.orderByFirstUse(roots);
     if (!registry.all().isEmpty()) {
       ops.add(
           new FileOp.WriteString(
-              outputDir,
-              ZodNamingStrategy.SHARED_SCHEMA_FILE,
-              buildSharedFile(registry, printer) + "\n"));
+              outputDir, ZodNamingStrategy.SHARED_SCHEMA_FILE, buildSharedFile(registry, printer)));
     }
 
     ops.add(
@@ -128,63 +83,121 @@ public class ZodTsEmitter implements ValidatorEmitter {
     return ops;
   }
 
-  private record ActionSchemaUnit(
-      Action action, ValidationNode irNode, ValidationNode.ObjectNode rootObj) {}
+  /**
+   * Builds every resource file in parallel. The result keeps the order of {@code
+   * spec.resources()}, with {@code null} for resources that have nothing to validate.
+   */
+  private List<ResourceFile> emitResources(
+      Spec spec, SharedSchemaRegistry registry, ValidationIRBuilder irBuilder, TsPrinter printer) {
+    List<Resource> resources = spec.resources();
+    if (resources.isEmpty()) {
+      return List.of();
+    }
+    int threads = Math.min(resources.size(), Runtime.getRuntime().availableProcessors());
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<ResourceFile>> pending = new ArrayList<>();
+      for (Resource resource : resources) {
+        pending.add(
+            executor.submit(() -> emitResource(resource, spec, registry, irBuilder, printer)));
+      }
+      List<ResourceFile> files = new ArrayList<>();
+      for (Future<ResourceFile> file : pending) {
+        files.add(await(file));
+      }
+      return files;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 
-  // ---- helpers ----
+  private ResourceFile emitResource(
+      Resource resource,
+      Spec spec,
+      SharedSchemaRegistry registry,
+      ValidationIRBuilder irBuilder,
+      TsPrinter printer) {
+    List<ActionSchemaUnit> units = new ArrayList<>();
+    for (Action action : ValidationTargets.actions(resource)) {
+      Schema<?> bodySchema = ValidationTargets.requestSchema(action, spec);
+      if (bodySchema == null) continue;
+
+      ValidationNode irNode = irBuilder.buildRootNode(bodySchema, new HashSet<>());
+      ValidationNode.ObjectNode rootObj = ensureObject(irNode);
+      if (rootObj == null) continue;
+
+      rootObj = new ValidationNode.ObjectNode(rootObj.properties(), true, rootObj.ref());
+      units.add(new ActionSchemaUnit(action, irNode, rootObj));
+    }
 
-  private Schema<?> resolveBodySchema(Action action, Spec spec) {
-    if (action.httpRequestType == HttpRequestType.GET) {
-      return resolveQueryParamsSchema(action, spec);
+    if (units.isEmpty()) {
+      return null;
     }
 
-    if (action.requestBodyParameters().isEmpty()) return null;
-    if (spec.openAPI().getPaths() == null) return null;
-    var pathItem = spec.openAPI().getPaths().get(action.getUrl());
-    if (pathItem == null || pathItem.getPost() == null) return null;
-    var rb = pathItem.getPost().getRequestBody();
-    if (rb == null) return null;
-    var content = rb.getContent();
-    if (content == null) return null;
-    var mt = content.get("application/x-www-form-urlencoded");
-    return mt == null ? null : mt.getSchema();
-  }
+    Set<String> usedRefs = new LinkedHashSet<>();
+    for (ActionSchemaUnit unit : units) {
+      collectRefsInto(unit.irNode, usedRefs);
+    }
 
-  private Schema<?> resolveQueryParamsSchema(Action action, Spec spec) {
-    if (spec.openAPI().getPaths() == null) return null;
-    var pathItem = spec.openAPI().getPaths().get(action.getUrl());
-    if (pathItem == null || pathItem.getGet() == null) return null;
-    var operation = pathItem.getGet();
-    if (operation.getParameters() == null || operation.getParameters().isEmpty()) return null;
-
-    List<Parameter> queryParams =
-        operation.getParameters().stream()
-            .filter(p -> "query".equals(p.getIn()))
-            .filter(p -> p.getSchema() != null)
-            .toList();
-
-    if (queryParams.isEmpty()) return null;
-
-    // Construct an object schema from query parameters
-    ObjectSchema objectSchema = new ObjectSchema();
-    Map<String, Schema> properties = new LinkedHashMap<>();
-    List<String> requiredFields = new ArrayList<>();
-
-    for (Parameter param : queryParams) {
-      properties.put(param.getName(), param.getSchema());
-      if (param.getRequired() != null && param.getRequired()) {
-        requiredFields.add(param.getName());
-      }
+    List<JsNode> body = new ArrayList<>();
+    body.add(resourceFileHeader(resource.name, units.stream().map(u -> u.action.name).toList()));
+    body.add(new JsNode.RequireCall("zod", List.of("z")));
+
+    if (!usedRefs.isEmpty()) {
+      List<String> importNames =
+          usedRefs.stream().map(ZodNamingStrategy::sharedSchemaName).sorted().toList();
+      body.add(
+          new JsNode.RequireCall(
+              "./" + ZodNamingStrategy.SHARED_SCHEMA_FILE.replace(".ts", ".js"), importNames));
     }
 
-    objectSchema.setProperties(properties);
-    if (!requiredFields.isEmpty()) {
-      objectSchema.setRequired(requiredFields);
+    for (int i = 0; i < units.size(); i++) {
+      ActionSchemaUnit unit = units.get(i);
+      List<JsNode.VariableDeclaration> nestedDecls = new ArrayList<>();
+      ZodTypeMapper mapper =
+          new ZodTypeMapper(unit.action.name, resource.name, registry, nestedDecls);
+      JsNode bodyExpr = mapper.buildZodObjectExpr(unit.rootObj, "");
+      String bodyConst = ZodNamingStrategy.bodySchemaName(unit.action.name, resource.name);
+
+      if (i > 0) {
+        body.add(new JsNode.Identifier(""));
+      }
+      body.add(new JsNode.Identifier("\n//" + resource.name + "." + unit.action.name + "\n"));
+      body.add(new JsNode.Identifier(""));
+      body.addAll(schemaDecl(bodyConst, nestedDecls, bodyExpr));
+      body.add(JsBuilder.exportNamed(bodyConst, JsBuilder.id(bodyConst)));
+      body.add(
+          new JsNode.TypeInferExport(
+              ZodNamingStrategy.bodyInferredTypeName(unit.action.name, resource.name), bodyConst));
     }
 
-    return objectSchema;
+    return new ResourceFile(
+        ZodNamingStrategy.resourceSchemaFileName(resource.name),
+        printFile(printer, body),
+        units.stream().map(ActionSchemaUnit::irNode).toList());
+  }
+
+  private static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while emitting Zod schemas", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Failed to emit Zod schemas", e.getCause());
+    }
   }
 
+  private record ResourceFile(String fileName, String content, List<ValidationNode> roots) {}
+
+  private record ActionSchemaUnit(
+      Action action, ValidationNode irNode, ValidationNode.ObjectNode rootObj) {}
+
+  // ---- helpers ----
+
   private ValidationNode.ObjectNode ensureObject(ValidationNode node) {
     return node instanceof ValidationNode.ObjectNode on ? on : null;
   }
@@ -231,12 +244,33 @@ public class ZodTsEmitter implements ValidatorEmitter {
               ? mapper.buildZodObjectExpr(on, refName)
               : mapper.toZod(refNode, refName, false);
 
-      body.addAll(nestedDecls);
-      body.add(JsBuilder.constDecl(constName, expr));
+      body.addAll(schemaDecl(constName, nestedDecls, expr));
       body.add(JsBuilder.exportNamed(constName, JsBuilder.id(constName)));
     }
 
-    return printer.print(JsBuilder.program(body));
+    return printFile(printer, body);
+  }
+
+  /**
+   * Declares schema {@code name}: after its hoisted nested schemas when eager, or as a {@code
+   * z.lazy} thunk that declares them itself when lazy.
+   */
+  private List<JsNode> schemaDecl(
+      String name, List<JsNode.VariableDeclaration> nestedDecls, JsNode expr) {
+    if (construction == ZodSchemaConstruction.EAGER) {
+      List<JsNode> decls = new ArrayList<>(nestedDecls);
+      decls.add(JsBuilder.constDecl(name, expr));
+      return decls;
+    }
+    JsNode lazy =
+        JsBuilder.callExpr(JsBuilder.member("z", "lazy"), JsBuilder.arrow(nestedDecls, expr));
+    return List.of(JsBuilder.constDecl(name, lazy));
+  }
+
+  private static String printFile(TsPrinter printer, List<JsNode> body) {
+    StringBuilder source = new StringBuilder();
+    printer.print(JsBuilder.program(body), source);
+    return source.append('\n').toString();
   }
 
   private String buildIndex(List<String> resourceSchemaFiles, SharedSchemaRegistry registry) {
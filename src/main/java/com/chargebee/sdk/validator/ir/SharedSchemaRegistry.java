@@ -1,20 +1,54 @@
 package com.chargebee.sdk.validator.ir;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
 
 /**
  * Tracks shared schemas that should be extracted into a common file.
  * Per the plan, every $ref becomes a shared schema.
+ *
+ * <p>Safe for concurrent use: IR for several resources may be built in parallel against one
+ * registry. {@link #all()} iterates in registration order until {@link #orderByFirstUse} fixes
+ * an order that does not depend on thread scheduling.
  */
 public class SharedSchemaRegistry {
 
-  private final Map<String, ValidationNode> schemas = new LinkedHashMap<>();
+  private final Map<String, ValidationNode> schemas = new ConcurrentHashMap<>();
+  private final Set<String> claimed = ConcurrentHashMap.newKeySet();
+  private final Queue<String> registrationOrder = new ConcurrentLinkedQueue<>();
+  private volatile List<String> firstUseOrder;
 
   /** Register a named shared schema (idempotent – first registration wins). */
   public void register(String name, ValidationNode node) {
-    schemas.putIfAbsent(name, node);
+    claimed.add(name);
+    if (schemas.putIfAbsent(name, node) == null) {
+      registrationOrder.add(name);
+    }
+  }
+
+  /**
+   * Builds and registers {@code name} unless some caller already started building it. The builder
+   * runs at most once per name across all threads; callers that lose the race return immediately
+   * instead of waiting, since a shared schema is only ever referenced through a {@link
+   * ValidationNode.RefNode}. A {@code null} result leaves the name unregistered.
+   */
+  public void computeIfAbsent(String name, Function<String, ValidationNode> builder) {
+    if (!claimed.add(name)) {
+      return;
+    }
+    ValidationNode node = builder.apply(name);
+    if (node != null && schemas.putIfAbsent(name, node) == null) {
+      registrationOrder.add(name);
+    }
   }
 
   public boolean contains(String name) {
@@ -26,6 +60,49 @@ public class SharedSchemaRegistry {
   }
 
   public Map<String, ValidationNode> all() {
-    return Collections.unmodifiableMap(schemas);
+    Map<String, ValidationNode> ordered = new LinkedHashMap<>();
+    List<String> order = firstUseOrder;
+    if (order != null) {
+      for (String name : order) {
+        ordered.put(name, schemas.get(name));
+      }
+    }
+    for (String name : registrationOrder) {
+      ordered.putIfAbsent(name, schemas.get(name));
+    }
+    return Collections.unmodifiableMap(ordered);
+  }
+
+  /**
+   * Fixes the iteration order of {@link #all()} to the order in which a sequential, depth-first
+   * build of {@code roots} registers schemas: a schema follows every schema it references, and
+   * otherwise schemas appear in the order the roots first reference them.
+   */
+  public void orderByFirstUse(List<ValidationNode> roots) {
+    List<String> order = new ArrayList<>();
+    Set<String> seen = new HashSet<>();
+    for (ValidationNode root : roots) {
+      visit(root, seen, order);
+    }
+    firstUseOrder = List.copyOf(order);
+  }
+
+  private void visit(ValidationNode node, Set<String> seen, List<String> order) {
+    if (node instanceof ValidationNode.RefNode ref) {
+      String name = ref.targetName();
+      ValidationNode target = schemas.get(name);
+      if (target != null && seen.add(name)) {
+        visit(target, seen, order);
+        order.add(name);
+      }
+    } else if (node instanceof ValidationNode.ObjectNode object) {
+      for (PropertyEntry property : object.properties().values()) {
+        visit(property.node(), seen, order);
+      }
+    } else if (node instanceof ValidationNode.ArrayNode array) {
+      visit(array.items(), seen, order);
+    } else if (node instanceof ValidationNode.MapNode map) {
+      visit(map.valueSchema(), seen, order);
+    }
   }
 }
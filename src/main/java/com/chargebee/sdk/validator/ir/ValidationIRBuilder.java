@@ -9,6 +9,7 @@ import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -19,18 +20,26 @@ import java.util.Set;
  * Recursively converts an OpenAPI Schema into a ValidationNode IR tree.
  *
  * <p>Shared $ref schemas are registered in the {@link SharedSchemaRegistry} so the emitter can
- * extract them into a shared file.
+ * extract them into a shared file. Component schemas are resolved once, when the builder is
+ * created, into a table keyed by the {@code $ref} string. A builder holds no per-call state, so one
+ * instance may build several roots concurrently as long as each call gets its own {@code visiting}
+ * set.
  */
 public class ValidationIRBuilder {
 
-  private final OpenAPI openAPI;
+  private static final String COMPONENT_SCHEMA_REF_PREFIX = "#/components/schemas/";
+
   private final SharedSchemaRegistry registry;
+  private final Map<String, ResolvedRef> refTable;
 
   public ValidationIRBuilder(OpenAPI openAPI, SharedSchemaRegistry registry) {
-    this.openAPI = openAPI;
     this.registry = registry;
+    this.refTable = buildRefTable(openAPI);
   }
 
+  /** A component schema looked up ahead of time; {@code schema} is null for dangling refs. */
+  private record ResolvedRef(String name, Schema<?> schema) {}
+
   /**
    * Build the IR node for the <em>top-level</em> schema of an action's request body or GET query
    * parameters.
@@ -56,7 +65,9 @@ public class ValidationIRBuilder {
 
   /**
    * Build an IR node from an OpenAPI schema. Resolves $refs, handles objects, arrays, and
-   * primitives. Uses {@code visiting} to break circular references.
+   * primitives. Uses {@code visiting} to break circular references: the name of each $ref being
+   * expanded is pushed onto it on the way down and popped on the way back, so the set is left as
+   * it was passed in.
    */
   public ValidationNode buildNode(Schema<?> schema, Set<String> visiting) {
     if (schema == null) {
@@ -65,21 +76,24 @@ public class ValidationIRBuilder {
 
     // Resolve $ref
     if (schema.get$ref() != null) {
-      String refName = extractRefName(schema.get$ref());
-      if (visiting.contains(refName)) {
+      ResolvedRef ref = resolveRef(schema.get$ref());
+      if (visiting.contains(ref.name())) {
         // Circular reference – emit a RefNode pointer
-        return new ValidationNode.RefNode(refName);
+        return new ValidationNode.RefNode(ref.name());
       }
-      if (!registry.contains(refName)) {
-        Schema<?> resolved = resolveRef(refName);
-        if (resolved != null) {
-          visiting = new HashSet<>(visiting);
-          visiting.add(refName);
-          ValidationNode resolvedNode = buildNode(resolved, visiting);
-          registry.register(refName, resolvedNode);
-        }
+      if (ref.schema() != null) {
+        registry.computeIfAbsent(
+            ref.name(),
+            name -> {
+              visiting.add(name);
+              try {
+                return buildNode(ref.schema(), visiting);
+              } finally {
+                visiting.remove(name);
+              }
+            });
       }
-      return new ValidationNode.RefNode(refName);
+      return new ValidationNode.RefNode(ref.name());
     }
 
     String type = schema.getType();
@@ -218,11 +232,29 @@ public class ValidationIRBuilder {
         enumValues);
   }
 
-  private Schema<?> resolveRef(String refName) {
+  private ResolvedRef resolveRef(String ref) {
+    ResolvedRef resolved = refTable.get(ref);
+    if (resolved == null) {
+      // Not in canonical "#/components/schemas/<name>" form – fall back to the trailing segment
+      String refName = extractRefName(ref);
+      resolved = refTable.get(COMPONENT_SCHEMA_REF_PREFIX + refName);
+      if (resolved == null) {
+        resolved = new ResolvedRef(refName, null);
+      }
+    }
+    return resolved;
+  }
+
+  private static Map<String, ResolvedRef> buildRefTable(OpenAPI openAPI) {
     if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
-      return null;
+      return Map.of();
+    }
+    Map<String, ResolvedRef> table = new HashMap<>();
+    for (Map.Entry<String, Schema> entry : openAPI.getComponents().getSchemas().entrySet()) {
+      String name = entry.getKey();
+      table.put(COMPONENT_SCHEMA_REF_PREFIX + name, new ResolvedRef(name, entry.getValue()));
     }
-    return openAPI.getComponents().getSchemas().get(refName);
+    return table;
   }
 
   private static String extractRefName(String ref) {
@@ -0,0 +1,114 @@
+package com.chargebee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpecIngestionTest {
+
+  private static final String ETAG = "\"v1\"";
+
+  private HttpServer server;
+  private final AtomicInteger fullResponses = new AtomicInteger();
+  private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/latest.yml", exchange -> serveSpec(exchange, "latest"));
+    server.createContext("/released.yml", exchange -> serveSpec(exchange, "released"));
+    server.createContext("/missing.yml", exchange -> respond(exchange, 404, ""));
+    server.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  void ingestsSpecsInRequestedOrder() throws IOException {
+    SpecIngestion ingestion = new SpecIngestion(HttpClient.newHttpClient(), null);
+
+    List<OpenAPI> specs = ingestion.ingest(List.of(url("/released.yml"), url("/latest.yml")));
+
+    assertThat(specs)
+        .extracting(spec -> spec.getInfo().getTitle())
+        .containsExactly("released", "latest");
+  }
+
+  @Test
+  void revalidatesCachedBodyWithEtag(@TempDir Path cacheDir) throws IOException {
+    SpecIngestion ingestion = new SpecIngestion(HttpClient.newHttpClient(), cacheDir);
+
+    String first = ingestion.fetch(URI.create(url("/latest.yml")));
+    String second = ingestion.fetch(URI.create(url("/latest.yml")));
+
+    assertThat(second).isEqualTo(first);
+    assertThat(fullResponses).hasValue(1);
+    assertThat(notModifiedResponses).hasValue(1);
+  }
+
+  @Test
+  void downloadsEveryTimeWithoutCacheDirectory() throws IOException {
+    SpecIngestion ingestion = new SpecIngestion(HttpClient.newHttpClient(), null);
+
+    ingestion.fetch(URI.create(url("/latest.yml")));
+    ingestion.fetch(URI.create(url("/latest.yml")));
+
+    assertThat(fullResponses).hasValue(2);
+    assertThat(notModifiedResponses).hasValue(0);
+  }
+
+  @Test
+  void failsOnHttpError() {
+    SpecIngestion ingestion = new SpecIngestion(HttpClient.newHttpClient(), null);
+
+    assertThatThrownBy(() -> ingestion.ingest(List.of(url("/latest.yml"), url("/missing.yml"))))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("404");
+  }
+
+  private String url(String path) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+  }
+
+  private void serveSpec(HttpExchange exchange, String title) throws IOException {
+    if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+      notModifiedResponses.incrementAndGet();
+      exchange.sendResponseHeaders(304, -1);
+      exchange.close();
+      return;
+    }
+    fullResponses.incrementAndGet();
+    exchange.getResponseHeaders().add("ETag", ETAG);
+    respond(
+        exchange,
+        200,
+        "openapi: 3.0.1\ninfo:\n  title: " + title + "\n  version: '1'\npaths: {}\n");
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.chargebee.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ShardMergerTest {
+
+  @TempDir Path tempDir;
+
+  private Path shard(String name, Shard shard, String... pathsAndContents) throws IOException {
+    Path directory = tempDir.resolve(name);
+    List<FileOp> fileOps = new ArrayList<>();
+    fileOps.add(new FileOp.CreateDirectory(directory.toString(), ""));
+    fileOps.add(ShardMerger.marker(directory.toString(), shard));
+    for (int i = 0; i < pathsAndContents.length; i += 2) {
+      Path file = directory.resolve(pathsAndContents[i]);
+      Files.createDirectories(file.getParent());
+      fileOps.add(
+          new FileOp.WriteString(
+              file.getParent().toString(), file.getFileName().toString(), pathsAndContents[i + 1]));
+    }
+    new FileOp.Composite(fileOps).exec();
+    return directory;
+  }
+
+  @Test
+  void copiesEveryShardIntoTheOutputTree() throws Exception {
+    Path first =
+        shard("s1", new Shard(1, 2), "services/CustomerService.java", "a", "Registry.java", "r");
+    Path second = shard("s2", new Shard(2, 2), "services/InvoiceService.java", "b");
+    Path out = tempDir.resolve("out");
+
+    int files = new ShardMerger().merge(List.of(second, first), out);
+
+    assertThat(files).isEqualTo(3);
+    assertThat(out.resolve("services/CustomerService.java")).hasContent("a");
+    assertThat(out.resolve("services/InvoiceService.java")).hasContent("b");
+    assertThat(out.resolve("Registry.java")).hasContent("r");
+    assertThat(out.resolve(ShardMerger.MARKER_FILE)).doesNotExist();
+  }
+
+  @Test
+  void refusesAnIncompleteRun() throws IOException {
+    Path first = shard("s1", new Shard(1, 3), "A.java", "a");
+    Path third = shard("s3", new Shard(3, 3), "C.java", "c");
+
+    assertThatThrownBy(() -> new ShardMerger().merge(List.of(first, third), tempDir.resolve("out")))
+        .isInstanceOf(ShardMerger.MergeException.class)
+        .hasMessage("Missing shards 2/3");
+    assertThat(tempDir.resolve("out")).doesNotExist();
+  }
+
+  @Test
+  void refusesDuplicateAndMismatchedShards() throws IOException {
+    Path first = shard("s1", new Shard(1, 2), "A.java", "a");
+    Path again = shard("again", new Shard(1, 2), "B.java", "b");
+    Path other = shard("other", new Shard(2, 3), "C.java", "c");
+    Path out = tempDir.resolve("out");
+
+    assertThatThrownBy(() -> new ShardMerger().merge(List.of(first, again), out))
+        .isInstanceOf(ShardMerger.MergeException.class)
+        .hasMessageContaining("given twice");
+    assertThatThrownBy(() -> new ShardMerger().merge(List.of(first, other), out))
+        .isInstanceOf(ShardMerger.MergeException.class)
+        .hasMessageContaining("other shards are of 2");
+    assertThatThrownBy(() -> new ShardMerger().merge(List.of(tempDir), out))
+        .isInstanceOf(ShardMerger.MergeException.class)
+        .hasMessageContaining("is not a shard output");
+  }
+
+  @Test
+  void refusesFilesTwoShardsWroteDifferently() throws IOException {
+    Path first = shard("s1", new Shard(1, 2), "Same.java", "x", "Clash.java", "one");
+    Path second = shard("s2", new Shard(2, 2), "Same.java", "x", "Clash.java", "two");
+
+    assertThatThrownBy(
+            () -> new ShardMerger().merge(List.of(first, second), tempDir.resolve("out")))
+        .isInstanceOf(ShardMerger.MergeException.class)
+        .hasMessageContaining("Clash.java")
+        .hasMessageNotContaining("Same.java");
+  }
+}
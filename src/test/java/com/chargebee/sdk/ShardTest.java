@@ -0,0 +1,55 @@
+package com.chargebee.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ShardTest {
+
+  @Test
+  void parsesOneBasedSlices() {
+    assertThat(Shard.parse("2/4")).isEqualTo(new Shard(2, 4));
+    assertThat(Shard.parse(" 1/1\n")).isEqualTo(Shard.ALL);
+    assertThat(new Shard(3, 8)).hasToString("3/8");
+  }
+
+  @Test
+  void rejectsMalformedSlices() {
+    for (String value : List.of("0/4", "5/4", "1/0", "1", "a/b", "1/2/3")) {
+      assertThatThrownBy(() -> Shard.parse(value))
+          .as(value)
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  void everyResourceHasExactlyOneOwnerWhateverItsSpelling() {
+    for (String resource :
+        List.of("customer", "payment_source", "PaymentSource", "paymentSource", "credit-note")) {
+      int owners = 0;
+      int ownerOfPascalCase = -1;
+      for (int i = 1; i <= 5; i++) {
+        Shard shard = new Shard(i, 5);
+        if (shard.owns(resource)) {
+          owners++;
+        }
+        if (shard.owns("PaymentSource")) {
+          ownerOfPascalCase = i;
+        }
+      }
+      assertThat(owners).as(resource).isEqualTo(1);
+      if (resource.toLowerCase().replace("_", "").equals("paymentsource")) {
+        assertThat(new Shard(ownerOfPascalCase, 5).owns(resource)).isTrue();
+      }
+    }
+  }
+
+  @Test
+  void onlyTheFirstShardOwnsGlobalFiles() {
+    assertThat(Shard.ALL.ownsGlobalFiles()).isTrue();
+    assertThat(new Shard(1, 3).ownsGlobalFiles()).isTrue();
+    assertThat(new Shard(2, 3).ownsGlobalFiles()).isFalse();
+  }
+}
@@ -0,0 +1,141 @@
+package com.chargebee.sdk.changelog.diff;
+
+import static com.chargebee.sdk.changelog.diff.SpecDiff.ParameterLocation.BODY;
+import static com.chargebee.sdk.changelog.diff.SpecDiff.ParameterLocation.QUERY;
+import static com.chargebee.sdk.test_data.OperationBuilder.buildListOperation;
+import static com.chargebee.sdk.test_data.ResourceBuilder.buildResource;
+import static com.chargebee.sdk.test_data.SpecBuilder.buildSpec;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chargebee.openapi.Spec;
+import io.swagger.v3.oas.models.Operation;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SpecDiffTest {
+
+  private static Operation listCustomers(boolean limitRequired, String... extraParams) {
+    var builder =
+        buildListOperation("list").forResource("customer").withQueryParam("limit", limitRequired);
+    for (String param : extraParams) {
+      builder.withQueryParam(param);
+    }
+    return builder.done();
+  }
+
+  @Test
+  void detectsAddedAndRemovedResources() {
+    Spec oldSpec =
+        buildSpec()
+            .withResource(buildResource("customer").withAttribute("id", true).done())
+            .withResource(buildResource("coupon").withAttribute("id", true).done())
+            .done();
+    Spec newSpec =
+        buildSpec()
+            .withResource(buildResource("customer").withAttribute("id", true).done())
+            .withResource(buildResource("invoice").withAttribute("id", true).done())
+            .done();
+
+    SpecDiff diff = SpecDiff.compute(oldSpec, newSpec, List.of());
+
+    assertThat(diff.addedResources()).extracting(c -> c.resource().id).containsExactly("invoice");
+    assertThat(diff.removedResources()).extracting(c -> c.resource().id).containsExactly("coupon");
+    assertThat(diff.removedAttributes())
+        .singleElement()
+        .satisfies(change -> assertThat(change.resourceRemoved()).isTrue());
+  }
+
+  @Test
+  void ignoresHiddenResources() {
+    Spec oldSpec = buildSpec().done();
+    Spec newSpec =
+        buildSpec().withResource(buildResource("media").withAttribute("id", true).done()).done();
+
+    SpecDiff diff = SpecDiff.compute(oldSpec, newSpec, List.of("media"));
+
+    assertThat(diff.addedResources()).isEmpty();
+    assertThat(diff.addedAttributes()).isEmpty();
+  }
+
+  @Test
+  void detectsAttributeChangesOnExistingResource() {
+    Spec oldSpec =
+        buildSpec()
+            .withResource(
+                buildResource("customer").withAttribute("id", true).withAttribute("email").done())
+            .done();
+    Spec newSpec =
+        buildSpec()
+            .withResource(
+                buildResource("customer").withAttribute("id", true).withAttribute("phone").done())
+            .done();
+
+    SpecDiff diff = SpecDiff.compute(oldSpec, newSpec, List.of());
+
+    assertThat(diff.addedAttributes()).extracting(c -> c.attribute().name).containsExactly("phone");
+    assertThat(diff.removedAttributes())
+        .extracting(c -> c.attribute().name)
+        .containsExactly("email");
+    assertThat(diff.removedAttributes().get(0).resourceRemoved()).isFalse();
+  }
+
+  @Test
+  void detectsQueryParameterAdditionsAndRequirementChanges() {
+    var customer = buildResource("customer").withAttribute("id", true).done();
+    Spec oldSpec =
+        buildSpec().withResource(customer).withOperation("/customers", listCustomers(false)).done();
+    Spec newSpec =
+        buildSpec()
+            .withResource(customer)
+            .withOperation("/customers", listCustomers(true, "offset"))
+            .done();
+
+    SpecDiff diff = SpecDiff.compute(oldSpec, newSpec, List.of());
+
+    assertThat(diff.addedParameters(QUERY))
+        .extracting(c -> c.parameter().getName())
+        .containsExactly("offset");
+    assertThat(diff.addedParameters(BODY)).isEmpty();
+    assertThat(diff.requirementChanges())
+        .singleElement()
+        .satisfies(
+            change -> {
+              assertThat(change.parameter().getName()).isEqualTo("limit");
+              assertThat(change.parameter().isRequired).isTrue();
+              assertThat(change.location()).isEqualTo(QUERY);
+            });
+  }
+
+  @Test
+  void detectsAddedAndRemovedAttributeEnumValues() {
+    Spec oldSpec =
+        buildSpec()
+            .withResource(
+                buildResource("customer")
+                    .withAttribute("id", true)
+                    .withEnumAttribute("status", List.of("active", "archived"))
+                    .done())
+            .done();
+    Spec newSpec =
+        buildSpec()
+            .withResource(
+                buildResource("customer")
+                    .withAttribute("id", true)
+                    .withEnumAttribute("status", List.of("active", "cancelled"))
+                    .done())
+            .done();
+
+    SpecDiff diff = SpecDiff.compute(oldSpec, newSpec, List.of());
+
+    assertThat(diff.addedAttributeEnumValues())
+        .singleElement()
+        .satisfies(
+            change -> {
+              assertThat(change.path()).isEqualTo("status");
+              assertThat(change.values()).containsExactly("cancelled");
+            });
+    assertThat(diff.removedAttributeEnumValues())
+        .singleElement()
+        .satisfies(change -> assertThat(change.values()).containsExactly("archived"));
+  }
+}
@@ -0,0 +1,64 @@
+package com.chargebee.sdk.changelog.generators;
+
+import static com.chargebee.sdk.test_data.ResourceBuilder.buildResource;
+import static com.chargebee.sdk.test_data.SpecBuilder.buildSpec;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chargebee.openapi.Spec;
+import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.changelog.ChangeLog;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ChangeLogGeneratorTest {
+
+  private static Spec specWith(String... resourceIds) {
+    var builder = buildSpec();
+    for (String resourceId : resourceIds) {
+      builder.withResource(buildResource(resourceId).withAttribute("id", true).done());
+    }
+    return builder.done();
+  }
+
+  @Test
+  void rangeWritesOneSectionPerVersionNewestFirst() throws IOException {
+    List<Spec> versions =
+        List.of(
+            specWith("customer"),
+            specWith("customer", "coupon"),
+            specWith("customer", "coupon", "invoice"));
+
+    var fileOp =
+        (FileOp.WriteString) new ChangeLog().generate("out/", List.of("v1", "v2", "v3"), versions);
+
+    String content = fileOp.fileContent;
+    assertThat(fileOp.fileName).isEqualTo("out/CHANGELOG.md");
+    assertThat(content).startsWith("## v3").doesNotContain("## v1");
+    int v2Section = content.indexOf("## v2");
+    assertThat(v2Section).isPositive();
+    assertThat(content.substring(0, v2Section)).contains("`Invoice`").doesNotContain("`Coupon`");
+    assertThat(content.substring(v2Section)).contains("`Coupon`").doesNotContain("`Invoice`");
+  }
+
+  @Test
+  void rangeMatchesPairwiseGeneration() throws IOException {
+    Spec older = specWith("customer", "coupon");
+    Spec newer = specWith("customer", "invoice");
+
+    var pairwise = (FileOp.WriteString) new ChangeLog().generate("out/", older, newer);
+    var range =
+        (FileOp.WriteString)
+            new ChangeLog().generate("out/", List.of("old", "new"), List.of(older, newer));
+
+    assertThat(range.fileContent).isEqualTo("## new\n\n" + pairwise.fileContent.strip() + "\n\n");
+  }
+
+  @Test
+  void rangeRequiresAtLeastTwoVersions() {
+    assertThatThrownBy(
+            () -> new ChangeLog().generate("out/", List.of("v1"), List.of(specWith("customer"))))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,91 @@
+package com.chargebee.sdk.changelog.generators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DocsSlugIndexTest {
+
+  @Test
+  void indexesResourceDirectoriesSlugsAndToc(@TempDir Path workDir) throws IOException {
+    Path docsRoot = workDir.resolve("docs");
+    writeFile(docsRoot.resolve("TOC.yaml"), "- href: /docs/api/customers\n");
+    writeSlugs(docsRoot.resolve("customer").resolve("resource.yaml"), "id", "email");
+    writeSlugs(docsRoot.resolve("customer").resolve("list_customers.yaml"), "limit");
+
+    DocsSlugIndex index = DocsSlugIndex.build(docsRoot);
+
+    assertThat(index.publishedResourcePaths()).containsExactly("customers");
+    assertThat(index.isDirectory(docsRoot.resolve("customer"))).isTrue();
+    assertThat(index.isDirectory(docsRoot.resolve("invoice"))).isFalse();
+    assertThat(index.isFile(docsRoot.resolve("customer").resolve("list_customers.yaml"))).isTrue();
+    assertThat(index.slugs(docsRoot.resolve("customer").resolve("resource.yaml")))
+        .containsExactly("id", "email");
+    assertThat(index.covers(docsRoot.resolve("customer").resolve("a").resolve("b.yaml"))).isFalse();
+  }
+
+  @Test
+  void persistedIndexIsReusedUntilAFileChanges(@TempDir Path workDir) throws IOException {
+    Path docsRoot = workDir.resolve("docs");
+    Path indexFile = workDir.resolve("docs.slug-index");
+    Path resourceYaml = docsRoot.resolve("customer").resolve("resource.yaml");
+    writeSlugs(resourceYaml, "id");
+
+    DocsSlugIndex.loadOrBuild(docsRoot, indexFile);
+    DocsSlugIndex persisted = DocsSlugIndex.load(docsRoot, indexFile);
+    assertThat(persisted).isNotNull();
+    assertThat(persisted.isFresh()).isTrue();
+    assertThat(persisted.slugs(resourceYaml)).containsExactly("id");
+
+    writeSlugs(resourceYaml, "id", "email");
+    Files.setLastModifiedTime(resourceYaml, FileTime.fromMillis(System.currentTimeMillis() + 5000));
+
+    assertThat(DocsSlugIndex.load(docsRoot, indexFile).isFresh()).isFalse();
+    assertThat(DocsSlugIndex.loadOrBuild(docsRoot, indexFile).slugs(resourceYaml))
+        .containsExactly("id", "email");
+  }
+
+  @Test
+  void persistedIndexIsInvalidatedWhenAnActionFileIsAdded(@TempDir Path workDir)
+      throws IOException {
+    Path docsRoot = workDir.resolve("docs");
+    Path indexFile = workDir.resolve("docs.slug-index");
+    Path resourceDir = docsRoot.resolve("customer");
+    writeSlugs(resourceDir.resolve("resource.yaml"), "id");
+    DocsSlugIndex.loadOrBuild(docsRoot, indexFile);
+
+    writeSlugs(resourceDir.resolve("create_a_customer.yaml"), "email");
+    Files.setLastModifiedTime(resourceDir, FileTime.fromMillis(System.currentTimeMillis() + 5000));
+
+    DocsSlugIndex index = DocsSlugIndex.loadOrBuild(docsRoot, indexFile);
+    assertThat(index.isFile(resourceDir.resolve("create_a_customer.yaml"))).isTrue();
+  }
+
+  @Test
+  void indexForAnotherDocsRootIsIgnored(@TempDir Path workDir) throws IOException {
+    Path indexFile = workDir.resolve("shared.slug-index");
+    writeSlugs(workDir.resolve("a").resolve("customer").resolve("resource.yaml"), "id");
+    Files.createDirectories(workDir.resolve("b"));
+    DocsSlugIndex.loadOrBuild(workDir.resolve("a"), indexFile);
+
+    assertThat(DocsSlugIndex.load(workDir.resolve("b"), indexFile)).isNull();
+  }
+
+  private static void writeSlugs(Path file, String... slugs) throws IOException {
+    writeFile(
+        file,
+        Arrays.stream(slugs).map(slug -> "slugId: " + slug + "\n").collect(Collectors.joining()));
+  }
+
+  private static void writeFile(Path file, String content) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content);
+  }
+}
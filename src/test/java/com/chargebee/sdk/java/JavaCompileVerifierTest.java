@@ -0,0 +1,108 @@
+package com.chargebee.sdk.java;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chargebee.sdk.FileOp;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JavaCompileVerifierTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void compilesGeneratedSourcesAcrossPackagesWithoutWritingAnything() throws IOException {
+    Path out = tempDir.resolve("out");
+    List<FileOp> fileOps =
+        List.of(
+            new FileOp.CreateDirectory(out.toString(), "models"),
+            new FileOp.Composite(
+                List.of(
+                    new FileOp.WriteString(
+                        out.resolve("models").toString(),
+                        "Customer.java",
+                        "package com.acme.models;\n"
+                            + "public class Customer { public Address address; }\n"),
+                    new FileOp.WriteString(
+                        out.resolve("models").toString(),
+                        "Address.java",
+                        "package com.acme.models;\npublic class Address {}\n"))),
+            new FileOp.WriteString(
+                out.resolve("services").toString(),
+                "CustomerService.java",
+                "package com.acme.services;\n"
+                    + "import com.acme.models.Customer;\n"
+                    + "public class CustomerService { Customer retrieve() { return null; } }\n"),
+            new FileOp.WriteString(out.toString(), "README.md", "not java"));
+
+    JavaCompileVerifier.Report report = new JavaCompileVerifier().verify(fileOps);
+
+    assertThat(report.ok()).isTrue();
+    assertThat(report.filesChecked()).isEqualTo(3);
+    assertThat(report.packagesChecked()).isEqualTo(2);
+    assertThat(out).doesNotExist();
+  }
+
+  @Test
+  void reportsErrorsPerGeneratedFile() throws IOException {
+    List<FileOp> fileOps =
+        List.of(
+            new FileOp.WriteString(
+                tempDir.toString(),
+                "Broken.java",
+                "package com.acme;\n\npublic class Broken {\n  Missing field;\n}\n"),
+            new FileOp.WriteString(
+                tempDir.toString(), "Fine.java", "package com.acme;\npublic class Fine {}\n"));
+
+    JavaCompileVerifier.Report report = new JavaCompileVerifier().verify(fileOps);
+
+    assertThat(report.ok()).isFalse();
+    assertThat(report.errorCount()).isEqualTo(1);
+    assertThat(report.errors())
+        .containsOnlyKeys(tempDir.resolve("Broken.java").toAbsolutePath().toString());
+    assertThat(report.errors().values().iterator().next())
+        .singleElement()
+        .asString()
+        .startsWith("4:3: ")
+        .contains("Missing");
+  }
+
+  @Test
+  void resolvesHandWrittenCodeFromTheSourcepathAndShadowsRegeneratedFiles() throws IOException {
+    Path sdk = tempDir.resolve("sdk");
+    Files.createDirectories(sdk.resolve("com/acme/internal"));
+    Files.writeString(
+        sdk.resolve("com/acme/internal/Resource.java"),
+        "package com.acme.internal;\npublic abstract class Resource {}\n");
+    Files.createDirectories(sdk.resolve("com/acme/models"));
+    Files.writeString(
+        sdk.resolve("com/acme/models/Customer.java"),
+        "package com.acme.models;\npublic class Customer { does not compile }\n");
+
+    List<FileOp> fileOps =
+        List.of(
+            new FileOp.WriteString(
+                tempDir.resolve("out").toString(),
+                "Customer.java",
+                "package com.acme.models;\n"
+                    + "public class Customer extends com.acme.internal.Resource {}\n"));
+
+    assertThat(new JavaCompileVerifier().verify(fileOps).ok()).isFalse();
+    assertThat(new JavaCompileVerifier().withSourcepath(List.of(sdk)).verify(fileOps).ok())
+        .isTrue();
+  }
+
+  @Test
+  void returnsAnEmptyReportWhenThereIsNoJava() throws IOException {
+    JavaCompileVerifier.Report report =
+        new JavaCompileVerifier()
+            .verify(List.of(new FileOp.WriteString(tempDir.toString(), "index.ts", "")));
+
+    assertThat(report.filesChecked()).isZero();
+    assertThat(report.ok()).isTrue();
+  }
+}
@@ -0,0 +1,124 @@
+package com.chargebee.sdk.java;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chargebee.sdk.FileOp;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JavaJarWriterTest {
+
+  @TempDir Path tempDir;
+
+  private List<FileOp> generated() {
+    String out = tempDir.resolve("out").toString();
+    return List.of(
+        new FileOp.CreateDirectory(out, "models"),
+        new FileOp.Composite(
+            List.of(
+                new FileOp.WriteString(
+                    out + "/models",
+                    "Customer.java",
+                    "package com.acme.models;\n"
+                        + "public class Customer { public String id() { return \"cus_1\"; } }\n"),
+                new FileOp.WriteString(
+                    out + "/models/enums",
+                    "Channel.java",
+                    "package com.acme.models.enums;\npublic enum Channel { WEB }\n"))),
+        new FileOp.WriteString(out + "/config", "sdk.properties", "version=1\n"));
+  }
+
+  @Test
+  void writesSourcesUnderTheirPackageAndOtherFilesRelativeToTheOutputDirectory()
+      throws IOException {
+    Path jar = tempDir.resolve("dist/sdk-sources.jar");
+
+    int entries =
+        new JavaJarWriter().writeSources(generated(), tempDir.resolve("out").toString(), jar);
+
+    assertThat(entries).isEqualTo(3);
+    assertThat(tempDir.resolve("out")).doesNotExist();
+    try (JarFile jarFile = new JarFile(jar.toFile())) {
+      assertThat(Collections.list(jarFile.entries()).stream().map(ZipEntry::getName))
+          .containsExactly(
+              "META-INF/MANIFEST.MF",
+              "com/acme/models/Customer.java",
+              "com/acme/models/enums/Channel.java",
+              "config/sdk.properties");
+      assertThat(
+              new String(
+                  jarFile
+                      .getInputStream(jarFile.getEntry("com/acme/models/enums/Channel.java"))
+                      .readAllBytes(),
+                  StandardCharsets.UTF_8))
+          .isEqualTo("package com.acme.models.enums;\npublic enum Channel { WEB }\n");
+    }
+  }
+
+  @Test
+  void writesLoadableClassesAndIsReproducible() throws Exception {
+    Path first = tempDir.resolve("first.jar");
+    Path second = tempDir.resolve("second.jar");
+    String out = tempDir.resolve("out").toString();
+
+    JavaCompileVerifier.Report report = new JavaJarWriter().writeClasses(generated(), out, first);
+    new JavaJarWriter().writeClasses(generated(), out, second);
+
+    assertThat(report.ok()).isTrue();
+    assertThat(Files.readAllBytes(first)).isEqualTo(Files.readAllBytes(second));
+    try (JarFile jarFile = new JarFile(first.toFile())) {
+      assertThat(Collections.list(jarFile.entries()).stream().map(ZipEntry::getName))
+          .containsExactly(
+              "META-INF/MANIFEST.MF",
+              "com/acme/models/Customer.class",
+              "com/acme/models/enums/Channel.class",
+              "config/sdk.properties");
+    }
+    try (URLClassLoader loader = new URLClassLoader(new URL[] {first.toUri().toURL()}, null)) {
+      Class<?> customer = loader.loadClass("com.acme.models.Customer");
+      Object id = customer.getMethod("id").invoke(customer.getConstructor().newInstance());
+      assertThat(id).isEqualTo("cus_1");
+    }
+  }
+
+  @Test
+  void writesNoClassesJarWhenCompilationFails() throws IOException {
+    Path jar = tempDir.resolve("classes.jar");
+    List<FileOp> fileOps =
+        List.of(
+            new FileOp.WriteString(
+                tempDir.toString(),
+                "Broken.java",
+                "package com.acme;\nclass Broken { int x = }\n"));
+
+    JavaCompileVerifier.Report report =
+        new JavaJarWriter().writeClasses(fileOps, tempDir.toString(), jar);
+
+    assertThat(report.ok()).isFalse();
+    assertThat(jar).doesNotExist();
+  }
+
+  @Test
+  void rejectsPrependOperations() {
+    List<FileOp> fileOps =
+        List.of(new FileOp.PrependString(tempDir.toString(), "CHANGELOG.md", "## v2\n"));
+
+    assertThatThrownBy(
+            () ->
+                new JavaJarWriter()
+                    .writeSources(fileOps, tempDir.toString(), tempDir.resolve("s.jar")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("CHANGELOG.md");
+  }
+}
@@ -316,4 +316,286 @@ class JavaV4InternalTest {
       assertThat(writeOp.fileContent).contains("this(uri, pathParamName, null, client)");
     }
   }
+
+  @Nested
+  @DisplayName("BatchRequest Chunking")
+  class BatchRequestChunkingTests {
+
+    @Test
+    @DisplayName("Should expose chunk size and concurrency settings")
+    void shouldExposeChunkingSettings() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "BatchRequest.java");
+
+      assertThat(writeOp.fileContent)
+          .contains("public BatchRequest maxEntriesPerRequest(int maxEntriesPerRequest)");
+      assertThat(writeOp.fileContent).contains("public BatchRequest concurrency(int concurrency)");
+    }
+
+    @Test
+    @DisplayName("Should merge chunk results in entry order")
+    void shouldMergeChunkResults() throws IOException {
+      List<FileOp> fileOps = generate();
+      String request = findWriteOp(fileOps, "BatchRequest.java").fileContent;
+      String result = findWriteOp(fileOps, "BatchResult.java").fileContent;
+
+      assertThat(request)
+          .contains("entries.subList(from, Math.min(from + maxEntriesPerRequest, entries.size()))");
+      assertThat(request).contains("return BatchResult.merge(succeeded);");
+      assertThat(result).contains("public static BatchResult merge(List<BatchResult> parts)");
+      assertThat(result).contains("public List<BatchResult> getParts()");
+    }
+
+    @Test
+    @DisplayName("Should send every chunk and report the succeeded and failed ones")
+    void shouldReportPartialFailure() throws IOException {
+      List<FileOp> fileOps = generate();
+      String request = findWriteOp(fileOps, "BatchRequest.java").fileContent;
+
+      assertThat(request)
+          .contains("public static final class ChunkFailureException extends ChargebeeException");
+      assertThat(request).contains("public BatchResult getSucceeded()");
+      assertThat(request).contains("public List<ChunkFailure> getFailures()");
+      assertThat(request).contains("failures.add(new ChunkFailure(from, to, cause));");
+    }
+
+    @Test
+    @DisplayName("Should run split calls on a shared or caller-supplied executor")
+    void shouldUseSharedOrSuppliedExecutor() throws IOException {
+      List<FileOp> fileOps = generate();
+      String request = findWriteOp(fileOps, "BatchRequest.java").fileContent;
+
+      assertThat(request).contains("public BatchRequest executor(Executor executor)");
+      assertThat(request).contains("AsyncExecutor.forClient(client)");
+      assertThat(request).contains("SharedPool.EXECUTOR");
+      assertThat(request).doesNotContain("newFixedThreadPool");
+    }
+  }
+
+  @Nested
+  @DisplayName("Rate Limiting")
+  class RateLimitingTests {
+
+    @Test
+    @DisplayName("Should enable the site's rate limiter from the builder")
+    void shouldEnableRateLimiterFromBuilder() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "InternalChargebeeClient.java");
+
+      assertThat(writeOp.fileContent)
+          .contains("public Builder rateLimit(double requestsPerSecond, int burst)");
+      assertThat(writeOp.fileContent)
+          .contains("public Builder rateLimitTelemetry(TelemetryAdapter telemetryAdapter)");
+      assertThat(writeOp.fileContent)
+          .contains("RateLimiter.enable(siteName, rateLimitPerSecond, rateLimitBurst)");
+    }
+
+    @Test
+    @DisplayName("Should send batch calls through the rate limiter")
+    void shouldSendBatchCallsThroughRateLimiter() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "BatchRequest.java");
+
+      assertThat(writeOp.fileContent)
+          .contains(
+              "RateLimiter.execute(client, () -> client.executeWithInterceptor(httpRequest))");
+    }
+
+    @Test
+    @DisplayName("Should report rate limiter waits through the telemetry adapter")
+    void shouldReportWaitsThroughTelemetryAdapter() throws IOException {
+      List<FileOp> fileOps = generate();
+
+      assertThat(findWriteOp(fileOps, "RateLimiter.java").fileContent)
+          .contains("adapter.onRateLimitWait(");
+      assertThat(findWriteOp(fileOps, "TelemetryAdapter.java").fileContent)
+          .contains("default void onRateLimitWait(RateLimitTelemetry telemetry) {}");
+      assertThat(hasWriteOp(fileOps, "RateLimitTelemetry.java")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should wake queued async calls on the limiter's scheduler, not the common pool")
+    void shouldWakeQueuedAsyncCallsOnScheduler() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "RateLimiter.java");
+
+      assertThat(writeOp.fileContent)
+          .contains("Scheduler.EXECUTOR.schedule(wakeUp, waitNanos, TimeUnit.NANOSECONDS);")
+          .contains("waitAsync(generation, waitNanos, AsyncExecutor.forClient(client))")
+          .doesNotContain("delayedExecutor")
+          .doesNotContain("runAsync(");
+    }
+  }
+
+  @Nested
+  @DisplayName("Request Coalescing")
+  class RequestCoalescingTests {
+
+    @Test
+    @DisplayName("Should generate the per-site request coalescer")
+    void shouldGenerateSingleFlight() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "SingleFlight.java");
+
+      assertThat(writeOp.fileContent)
+          .contains("public static SingleFlight enable(String siteName)");
+      assertThat(writeOp.fileContent).contains("inFlight.putIfAbsent(key, flight)");
+    }
+
+    @Test
+    @DisplayName("Should coalesce cache misses and plain GETs alike")
+    void shouldRouteGetsThroughSingleFlight() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "ResponseCache.java");
+
+      assertThat(writeOp.fileContent)
+          .contains(
+              "SingleFlight flight = options != null ? null :"
+                  + " SingleFlight.forSite(client.getSiteName());");
+      assertThat(writeOp.fileContent)
+          .contains("return flight != null ? flight.execute(key, fetch) : fetch.call();");
+      assertThat(writeOp.fileContent)
+          .contains("return flight != null ? flight.executeAsync(key, fetch) : fetch.get();");
+    }
+
+    @Test
+    @DisplayName("Should send calls with per-request options past the cache")
+    void shouldBypassCacheForRequestOptions() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "ResponseCache.java");
+
+      assertThat(writeOp.fileContent)
+          .contains("options != null || CACHES.isEmpty() ? null : forSite(client.getSiteName());")
+          .doesNotContain("supplyAsync")
+          .doesNotContain("executeWithInterceptor");
+    }
+  }
+
+  @Nested
+  @DisplayName("Async Executor")
+  class AsyncExecutorTests {
+
+    @Test
+    @DisplayName("Should set the built client's async executor from the builder")
+    void shouldSetAsyncExecutorFromBuilder() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "InternalChargebeeClient.java");
+
+      assertThat(writeOp.fileContent).contains("public Builder asyncExecutor(Executor executor)");
+      assertThat(writeOp.fileContent).contains("public Builder virtualThreads()");
+      assertThat(writeOp.fileContent).contains("AsyncExecutor.enableVirtualThreads(client);");
+      assertThat(writeOp.fileContent).contains("AsyncExecutor.enable(client, asyncExecutor);");
+      assertThat(writeOp.fileContent).doesNotContain("AsyncExecutor.enable(siteName");
+    }
+
+    @Test
+    @DisplayName("Should reject a second, different executor for the same site")
+    void shouldRejectConflictingSiteExecutor() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "AsyncExecutor.java");
+
+      assertThat(writeOp.fileContent)
+          .contains("Executor existing = EXECUTORS.putIfAbsent(siteName, executor);")
+          .contains("if (existing != null && existing != executor) {")
+          .contains("public static Executor forClient(ChargebeeClient client)");
+    }
+
+    @Test
+    @DisplayName("Should look up virtual threads without a compile-time Java 21 dependency")
+    void shouldLookUpVirtualThreadsReflectively() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "AsyncExecutor.java");
+
+      assertThat(writeOp.fileContent)
+          .contains("Executors.class.getMethod(\"newVirtualThreadPerTaskExecutor\")");
+    }
+  }
+
+  @Nested
+  @DisplayName("Lazy List Items")
+  class LazyListItemsTests {
+
+    @Test
+    @DisplayName("Should turn on lazy list items for the built client from the builder")
+    void shouldEnableLazyListItemsFromBuilder() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "InternalChargebeeClient.java");
+
+      assertThat(writeOp.fileContent).contains("public Builder lazyListItems()");
+      assertThat(writeOp.fileContent).contains("LazyListItems.enable(client);");
+      assertThat(writeOp.fileContent).doesNotContain("LazyListItems.enable(siteName);");
+      assertThat(hasWriteOp(fileOps, "LazyListItems.java")).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("Lean Responses")
+  class LeanResponsesTests {
+
+    @Test
+    @DisplayName("Should turn on lean responses for the built client from the builder")
+    void shouldEnableLeanResponsesFromBuilder() throws IOException {
+      List<FileOp> fileOps = generate();
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "InternalChargebeeClient.java");
+
+      assertThat(writeOp.fileContent).contains("public Builder leanResponses()");
+      assertThat(writeOp.fileContent).contains("LeanResponses.enable(client);");
+      assertThat(writeOp.fileContent).doesNotContain("LeanResponses.enable(siteName);");
+    }
+
+    @Test
+    @DisplayName("Should let a client's own setting win over its site's")
+    void shouldPreferClientSettingOverSite() throws IOException {
+      FileOp.WriteString writeOp = findWriteOp(generate(), "LeanResponses.java");
+
+      assertThat(writeOp.fileContent)
+          .contains("public static void enable(ChargebeeClient client)")
+          .contains("Boolean lean = clientsRegistered ? CLIENTS.get(client) : null;");
+    }
+
+    @Test
+    @DisplayName("Should keep full responses by default")
+    void shouldKeepFullResponsesByDefault() throws IOException {
+      FileOp.WriteString writeOp = findWriteOp(generate(), "LeanResponses.java");
+
+      assertThat(writeOp.fileContent)
+          .contains("private static final boolean LEAN_BY_DEFAULT = false;");
+    }
+
+    @Test
+    @DisplayName("Should make every site lean when generated with lean responses")
+    void shouldMakeSitesLeanWhenGeneratedLean() throws IOException {
+      generator.withLeanResponses(true);
+      FileOp.WriteString writeOp = findWriteOp(generate(), "LeanResponses.java");
+
+      assertThat(writeOp.fileContent)
+          .contains("private static final boolean LEAN_BY_DEFAULT = true;");
+    }
+  }
+
+  @Nested
+  @DisplayName("Table Codec")
+  class TableCodecTests {
+
+    @Test
+    @DisplayName("Should not generate the model codec by default")
+    void shouldNotGenerateModelCodecByDefault() throws IOException {
+      List<FileOp> fileOps = generate();
+
+      assertThat(hasWriteOp(fileOps, "ModelCodec.java")).isFalse();
+      assertThat(findWriteOp(fileOps, "Customer.java").fileContent).doesNotContain("ModelCodec");
+    }
+
+    @Test
+    @DisplayName("Should generate table-codec models and the shared codec when enabled")
+    void shouldGenerateTableCodecModelsWhenEnabled() throws IOException {
+      generator.withTableCodec(true);
+      List<FileOp> fileOps = generate();
+
+      assertThat(findWriteOp(fileOps, "ModelCodec.java").fileContent)
+          .contains("public final class ModelCodec");
+      assertThat(findWriteOp(fileOps, "Customer.java").fileContent)
+          .contains("ModelCodec.table(MethodHandles.lookup(), Customer.class)");
+    }
+  }
 }
@@ -0,0 +1,117 @@
+package com.chargebee.sdk.java.v4;
+
+import static com.chargebee.sdk.test_data.OperationBuilder.buildOperation;
+import static com.chargebee.sdk.test_data.OperationBuilder.buildPostOperation;
+import static com.chargebee.sdk.test_data.ResourceBuilder.buildResource;
+import static com.chargebee.sdk.test_data.ResourceResponseParam.resourceResponseParam;
+import static com.chargebee.sdk.test_data.SpecBuilder.buildSpec;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chargebee.openapi.Spec;
+import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.Shard;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@code --shard} support in {@link JavaV4}. */
+@DisplayName("JavaV4 sharded generation")
+class JavaV4ShardingTest {
+
+  private static final String OUTPUT_PATH = "/test/output";
+  private static final List<String> RESOURCES =
+      List.of("customer", "subscription", "invoice", "payment_source", "credit_note", "coupon");
+
+  private Spec spec() {
+    var spec = buildSpec();
+    for (String resource : RESOURCES) {
+      var schema = buildResource(resource).withAttribute("id", true).done();
+      String path = "/" + resource + "s";
+      spec.withResource(schema)
+          .withOperation(
+              path + "/{id}",
+              buildOperation("retrieve")
+                  .forResource(resource)
+                  .withPathParam("id")
+                  .withResponse(resourceResponseParam(resource, schema))
+                  .done())
+          .withPostOperation(
+              path,
+              buildPostOperation("create")
+                  .forResource(resource)
+                  .withRequestBody("name", new StringSchema())
+                  .withResponse(resourceResponseParam(resource, schema))
+                  .done());
+    }
+    return spec.done();
+  }
+
+  private static Map<String, String> files(List<FileOp> fileOps) {
+    Map<String, String> files = new TreeMap<>();
+    for (FileOp fileOp : fileOps) {
+      if (fileOp instanceof FileOp.WriteString write) {
+        files.put(write.baseFilePath + "/" + write.fileName, write.fileContent);
+      }
+    }
+    return files;
+  }
+
+  @Test
+  @DisplayName("Shards together produce exactly the unsharded output, each file once")
+  void shardsPartitionTheUnshardedOutput() throws IOException {
+    Map<String, String> unsharded = files(new JavaV4().generate(OUTPUT_PATH, spec()));
+
+    Map<String, String> merged = new TreeMap<>();
+    Map<String, Integer> producedBy = new HashMap<>();
+    for (int i = 1; i <= 3; i++) {
+      Map<String, String> shardFiles =
+          files(new JavaV4().withShard(new Shard(i, 3)).generate(OUTPUT_PATH, spec()));
+      for (var file : shardFiles.entrySet()) {
+        Integer previous = producedBy.put(file.getKey(), i);
+        assertThat(previous).as("%s produced by two shards", file.getKey()).isNull();
+        merged.put(file.getKey(), file.getValue());
+      }
+    }
+
+    assertThat(merged).isEqualTo(unsharded);
+    assertThat(producedBy.values()).contains(1, 2, 3);
+  }
+
+  @Test
+  @DisplayName("Only shard 1 writes the files that span all resources")
+  void globalFilesComeFromTheFirstShard() throws IOException {
+    Map<String, String> first =
+        files(new JavaV4Internal().withShard(new Shard(1, 2)).generate(OUTPUT_PATH, spec()));
+    Map<String, String> second =
+        files(new JavaV4Internal().withShard(new Shard(2, 2)).generate(OUTPUT_PATH, spec()));
+
+    assertThat(first.keySet())
+        .anyMatch(path -> path.endsWith("/ServiceRegistry.java"))
+        .anyMatch(path -> path.endsWith("/BaseResponse.java"))
+        .anyMatch(path -> path.endsWith("/internal/JsonStreams.java"))
+        .anyMatch(path -> path.endsWith("/internal/RateLimiter.java"))
+        .anyMatch(path -> path.endsWith("/internal/ResponseCache.java"))
+        .anyMatch(path -> path.endsWith("/internal/SingleFlight.java"))
+        .anyMatch(path -> path.endsWith("/internal/AsyncExecutor.java"))
+        .anyMatch(path -> path.endsWith("/internal/LazyListItems.java"))
+        .anyMatch(path -> path.endsWith("/internal/LeanResponses.java"))
+        .anyMatch(path -> path.endsWith("/InternalChargebeeClient.java"));
+    assertThat(second.keySet())
+        .noneMatch(path -> path.endsWith("/ServiceRegistry.java"))
+        .noneMatch(path -> path.endsWith("/BaseResponse.java"))
+        .noneMatch(path -> path.endsWith("/internal/JsonStreams.java"))
+        .noneMatch(path -> path.endsWith("/internal/RateLimiter.java"))
+        .noneMatch(path -> path.endsWith("/internal/ResponseCache.java"))
+        .noneMatch(path -> path.endsWith("/internal/SingleFlight.java"))
+        .noneMatch(path -> path.endsWith("/internal/AsyncExecutor.java"))
+        .noneMatch(path -> path.endsWith("/internal/LazyListItems.java"))
+        .noneMatch(path -> path.endsWith("/internal/LeanResponses.java"))
+        .noneMatch(path -> path.endsWith("/InternalChargebeeClient.java"))
+        .anyMatch(path -> path.contains("/services/"));
+  }
+}
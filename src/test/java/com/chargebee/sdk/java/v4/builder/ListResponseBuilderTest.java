@@ -146,6 +146,130 @@ class ListResponseBuilderTest {
       assertFileExists(fileOps, "CustomerListResponse.java");
     }
 
+    @Test
+    @DisplayName("Should decode list entries straight from the reader")
+    void shouldDecodeListEntriesFromReader() throws IOException {
+      addPaginatedListOperation("customer", "list");
+
+      listResponseBuilder.withOutputDirectoryPath(outputPath).withTemplate(template);
+
+      String content =
+          findWriteOp(listResponseBuilder.build(openAPI), "CustomerListResponse.java").fileContent;
+
+      assertThat(content)
+          .contains(
+              "return fromJson(JsonStreams.reader(json), service, originalParams, httpResponse,"
+                  + " rawItems, leanResponse);")
+          .contains("JsonStreams.readList(reader, CustomerListItem::fromJson)")
+          .contains("nextOffset = JsonStreams.readString(reader);")
+          .contains("public static CustomerListItem fromJson(JsonReader reader) throws IOException")
+          .doesNotContain("JsonObject jsonObj = JsonUtil.parse(json);");
+    }
+
+    @Test
+    @DisplayName("Should keep list entries as JSON text until first read when asked to")
+    void shouldDecodeListEntriesLazily() throws IOException {
+      addPaginatedListOperation("customer", "list");
+
+      listResponseBuilder.withOutputDirectoryPath(outputPath).withTemplate(template);
+
+      String content =
+          findWriteOp(listResponseBuilder.build(openAPI), "CustomerListResponse.java").fileContent;
+
+      assertThat(content)
+          .contains(
+              "List<String> rawItems = lazyItems ? JsonStreams.rawObjects(json, \"list\") : null;")
+          .contains("__listList.add(CustomerListItem.lazy(raw));")
+          .contains("public static CustomerListItem lazy(String json) {")
+          .contains("return fromJson(JsonStreams.reader(json));");
+    }
+
+    @Test
+    @DisplayName("Should decode only the member a lazy item's getter reads")
+    void shouldDecodeOnlyTheMemberReadFromLazyItem() throws IOException {
+      ObjectSchema customerSchema = new ObjectSchema();
+      customerSchema.addProperty("id", new StringSchema());
+      openAPI.getComponents().getSchemas().put("Customer", customerSchema);
+      ObjectSchema itemSchema = new ObjectSchema();
+      itemSchema.addProperty("id", new StringSchema());
+      itemSchema.addProperty("customer", new Schema<>().$ref("#/components/schemas/Customer"));
+      ObjectSchema listSchema = new ObjectSchema();
+      listSchema.addProperty("list", new ArraySchema().items(itemSchema));
+      listSchema.addProperty("next_offset", new StringSchema());
+      addGetOperation("customer", "list", listSchema);
+
+      listResponseBuilder.withOutputDirectoryPath(outputPath).withTemplate(template);
+
+      String content =
+          findWriteOp(listResponseBuilder.build(openAPI), "CustomerListResponse.java").fileContent;
+      int getter = content.indexOf("public String getId() {");
+      String getterBody = content.substring(getter, content.indexOf("return id;", getter));
+      int load = content.indexOf("case \"id\":");
+      String loadCase = content.substring(load, content.indexOf("break;", load));
+
+      assertThat(getterBody).contains("load(\"id\");").doesNotContain("materialize()");
+      assertThat(loadCase)
+          .contains("this.id = decode(JsonStreams.memberOnly(json, member)).id;")
+          .doesNotContain("customer");
+    }
+
+    @Test
+    @DisplayName("Should decode referenced list items eagerly")
+    void shouldDecodeReferencedListItemsEagerly() throws IOException {
+      openAPI.getComponents().getSchemas().put("Customer", new ObjectSchema());
+      ObjectSchema listSchema = new ObjectSchema();
+      Schema<?> itemSchema = new Schema<>();
+      itemSchema.set$ref("#/components/schemas/Customer");
+      listSchema.addProperty("list", new ArraySchema().items(itemSchema));
+      listSchema.addProperty("next_offset", new StringSchema());
+      addGetOperation("customer", "list", listSchema);
+
+      listResponseBuilder.withOutputDirectoryPath(outputPath).withTemplate(template);
+
+      String content =
+          findWriteOp(listResponseBuilder.build(openAPI), "CustomerListResponse.java").fileContent;
+
+      assertThat(content).doesNotContain(".lazy(raw)");
+    }
+
+    @Test
+    @DisplayName("Should generate iterateAll() and stream() over every page")
+    void shouldGenerateAutoPaginatingIteration() throws IOException {
+      addPaginatedListOperation("customer", "list");
+
+      listResponseBuilder.withOutputDirectoryPath(outputPath).withTemplate(template);
+
+      String content =
+          findWriteOp(listResponseBuilder.build(openAPI), "CustomerListResponse.java").fileContent;
+
+      assertThat(content)
+          .contains("public Iterable<CustomerListItem> iterateAll() {")
+          .contains("public Iterable<CustomerListItem> iterateAll(int prefetchPages) {")
+          .contains("public Stream<CustomerListItem> stream() {")
+          .contains("public Stream<CustomerListItem> stream(int prefetchPages) {")
+          .contains("implements Iterator<CustomerListItem>")
+          .contains("page = page.nextPage();")
+          .contains("return service.listAsync(nextPageParams());");
+    }
+
+    @Test
+    @DisplayName("Should prefetch pages with the path parameter through the async method")
+    void shouldPrefetchPagesWithPathParameter() throws IOException {
+      addPaginatedListOperation(
+          "subscription", "subscriptionsForCustomer", "/customers/{customer-id}/subscriptions");
+
+      listResponseBuilder.withOutputDirectoryPath(outputPath).withTemplate(template);
+
+      String content =
+          findWriteOp(listResponseBuilder.build(openAPI), "SubscriptionsForCustomerResponse.java")
+              .fileContent;
+
+      assertThat(content)
+          .contains("return service.subscriptionsForCustomerAsync(customerId, nextPageParams());")
+          .contains("p.nextPageAsync()")
+          .contains("while (ahead.size() < prefetchPages)");
+    }
+
     @Test
     @DisplayName("Should include list and next_offset fields in response")
     void shouldIncludeListAndNextOffsetFields() throws IOException {
@@ -126,6 +126,53 @@ class ModelBuilderTest {
       assertThat(writeOp.fileContent).contains("return fromJson(JsonUtil.toJson(map));");
     }
 
+    @Test
+    void shouldGenerateStreamingDecoder() throws IOException {
+      openAPI
+          .getComponents()
+          .addSchemas(
+              "Customer",
+              new ObjectSchema()
+                  .addProperty("first_name", new StringSchema())
+                  .addProperty("net_term_days", new IntegerSchema())
+                  .addProperty(
+                      "billing_address",
+                      new ObjectSchema().addProperty("line1", new StringSchema())));
+      modelBuilder.withOutputDirectoryPath(outputPath).withTemplate(mockTemplate);
+
+      List<FileOp> fileOps = modelBuilder.build(openAPI);
+
+      String content = findWriteOp(fileOps, "Customer.java").fileContent;
+      assertThat(content)
+          .contains("public static Customer fromJson(JsonReader reader) throws IOException")
+          .contains("public static BillingAddress fromJson(JsonReader reader) throws IOException")
+          .contains("case \"first_name\":")
+          .contains("obj.firstName = JsonStreams.readString(reader);")
+          .contains("obj.netTermDays = JsonStreams.readInteger(reader);")
+          .contains(
+              "obj.billingAddress = JsonStreams.readObject(reader, BillingAddress::fromJson);")
+          .contains("reader.skipValue();");
+    }
+
+    @Test
+    void shouldComputeHashCodeWithoutVarargs() throws IOException {
+      openAPI
+          .getComponents()
+          .addSchemas(
+              "Customer",
+              new ObjectSchema()
+                  .addProperty("id", new StringSchema())
+                  .addProperty("net_term_days", new IntegerSchema()));
+      modelBuilder.withOutputDirectoryPath(outputPath).withTemplate(mockTemplate);
+
+      String content = findWriteOp(modelBuilder.build(openAPI), "Customer.java").fileContent;
+
+      assertThat(content)
+          .contains("result = 31 * result + java.util.Objects.hashCode(this.id);")
+          .contains("result = 31 * result + java.util.Objects.hashCode(this.netTermDays);")
+          .doesNotContain("java.util.Objects.hash(");
+    }
+
     @Test
     void shouldGenerateMultipleModels() throws IOException {
       openAPI
@@ -215,6 +262,24 @@ class ModelBuilderTest {
       assertThat(writeOp.fileContent).contains("CANCELLED");
     }
 
+    @Test
+    void shouldLookUpEnumValuesWithoutScanningValues() throws IOException {
+      Schema<?> customerSchema =
+          new ObjectSchema()
+              .addProperty("status", new StringSchema()._enum(List.of("active", "cancelled")));
+
+      openAPI.getComponents().addSchemas("Customer", customerSchema);
+      modelBuilder.withOutputDirectoryPath(outputPath).withTemplate(mockTemplate);
+
+      String content = findWriteOp(modelBuilder.build(openAPI), "Customer.java").fileContent;
+
+      assertThat(content)
+          .contains("private static final java.util.Map<String, Status> _BY_VALUE")
+          .contains("_BY_VALUE.putIfAbsent(enumValue.value, enumValue);")
+          .contains("return _BY_VALUE.getOrDefault(value, _UNKNOWN);")
+          .doesNotContain("Status.values()");
+    }
+
     @Test
     void shouldHandleMultipleEnumFields() throws IOException {
       Schema<?> subscriptionSchema =
@@ -987,7 +1052,7 @@ class ModelBuilderTest {
 
       FileOp.WriteString writeOp = findWriteOp(fileOps, "Invoice.java");
       assertThat(writeOp.fileContent)
-          .contains("obj.customFields = JsonUtil.extractCustomFields(jsonObj, knownFields)");
+          .contains("obj.customFields = JsonUtil.extractCustomFields(jsonObj, KNOWN_FIELDS)");
     }
 
     @Test
@@ -1057,10 +1122,10 @@ class ModelBuilderTest {
       List<FileOp> fileOps = modelBuilder.build(openAPI);
 
       FileOp.WriteString writeOp = findWriteOp(fileOps, "Subscription.java");
-      assertThat(writeOp.fileContent).contains("java.util.Set<String> knownFields");
-      assertThat(writeOp.fileContent).contains("knownFields.add(\"id\")");
-      assertThat(writeOp.fileContent).contains("knownFields.add(\"plan_id\")");
-      assertThat(writeOp.fileContent).contains("knownFields.add(\"status\")");
+      assertThat(writeOp.fileContent)
+          .contains("private static final java.util.Set<String> KNOWN_FIELDS")
+          .contains("java.util.Arrays.asList(\"id\", \"plan_id\", \"status\")")
+          .doesNotContain("java.util.Set<String> knownFields");
     }
   }
 
@@ -1320,7 +1385,7 @@ class ModelBuilderTest {
 
       FileOp.WriteString writeOp = findWriteOp(fileOps, "Invoice.java");
       assertThat(writeOp.fileContent)
-          .contains("obj.consentFields = JsonUtil.extractConsentFields(jsonObj, knownFields)");
+          .contains("obj.consentFields = JsonUtil.extractConsentFields(jsonObj, KNOWN_FIELDS)");
     }
 
     @Test
@@ -1337,10 +1402,10 @@ class ModelBuilderTest {
       List<FileOp> fileOps = modelBuilder.build(openAPI);
 
       FileOp.WriteString writeOp = findWriteOp(fileOps, "Plan.java");
-      assertThat(writeOp.fileContent).contains("java.util.Set<String> knownFields");
-      assertThat(writeOp.fileContent).contains("knownFields.add(\"id\")");
-      assertThat(writeOp.fileContent).contains("knownFields.add(\"name\")");
-      assertThat(writeOp.fileContent).contains("knownFields.add(\"price\")");
+      assertThat(writeOp.fileContent)
+          .contains("private static final java.util.Set<String> KNOWN_FIELDS")
+          .contains("java.util.Arrays.asList(\"id\", \"name\", \"price\")")
+          .doesNotContain("java.util.Set<String> knownFields");
     }
 
     @Test
@@ -1434,6 +1499,110 @@ class ModelBuilderTest {
     }
   }
 
+  @Nested
+  @DisplayName("Table Codec")
+  class TableCodecTests {
+
+    private Template tableTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+      Handlebars handlebars =
+          new Handlebars(
+              new com.github.jknack.handlebars.io.ClassPathTemplateLoader(
+                  "/templates/java/next", ""));
+      HandlebarsUtil.registerAllHelpers(handlebars);
+      tableTemplate = handlebars.compile("core.models.table.hbs");
+    }
+
+    private String generate(String modelName, Schema<?> schema) throws IOException {
+      openAPI.getComponents().addSchemas(modelName, schema);
+      modelBuilder.withOutputDirectoryPath(outputPath).withTemplate(tableTemplate);
+      return findWriteOp(modelBuilder.build(openAPI), modelName + ".java").fileContent;
+    }
+
+    @Test
+    void shouldDescribeFieldsInTableInsteadOfUnrollingFromJson() throws IOException {
+      Schema<?> customerSchema =
+          new ObjectSchema()
+              .addProperty("id", new StringSchema())
+              .addProperty("net_term_days", new IntegerSchema())
+              .addProperty("created_at", new IntegerSchema().format("unix-time"));
+
+      String content = generate("Customer", customerSchema);
+
+      assertThat(content).contains("private static final ModelCodec.Table<Customer> TABLE");
+      assertThat(content).contains("ModelCodec.table(MethodHandles.lookup(), Customer.class)");
+      assertThat(content).contains(".field(\"id\", \"id\", ModelCodec.Kind.STRING)");
+      assertThat(content)
+          .contains(".field(\"net_term_days\", \"netTermDays\", ModelCodec.Kind.INTEGER)");
+      assertThat(content)
+          .contains(".field(\"created_at\", \"createdAt\", ModelCodec.Kind.TIMESTAMP)");
+      assertThat(content).contains("return (String) values[0];");
+      assertThat(content).contains("return (Integer) values[1];");
+      assertThat(content).contains("return TABLE.decode(jsonObj);");
+      assertThat(content).contains("return TABLE.decode(reader);");
+      assertThat(content).contains("return TABLE.equals(values, ((Customer) o).values);");
+      assertThat(content).doesNotContain("JsonUtil.getString");
+      assertThat(content).doesNotContain("switch (field)");
+    }
+
+    @Test
+    void shouldDeclareEnumFieldsByConstantsAndMarkEnumsAsWireEnums() throws IOException {
+      Schema<?> subscriptionSchema =
+          new ObjectSchema()
+              .addProperty("status", new StringSchema()._enum(List.of("active", "cancelled")));
+
+      String content = generate("Subscription", subscriptionSchema);
+
+      assertThat(content).contains(".field(\"status\", \"status\", Status.values())");
+      assertThat(content).contains("public enum Status implements ModelCodec.WireEnum");
+    }
+
+    @Test
+    void shouldDeclareNestedModelsByClassAndGiveThemTheirOwnTable() throws IOException {
+      Schema<?> addressSchema =
+          new ObjectSchema()
+              .addProperty("line1", new StringSchema())
+              .addProperty("city", new StringSchema());
+      Schema<?> itemSchema = new ObjectSchema().addProperty("item_id", new StringSchema());
+      Schema<?> invoiceSchema =
+          new ObjectSchema()
+              .addProperty("billing_address", addressSchema)
+              .addProperty("line_items", new ArraySchema().items(itemSchema))
+              .addProperty("customer", new Schema<>().$ref("#/components/schemas/Customer"));
+
+      String content = generate("Invoice", invoiceSchema);
+
+      assertThat(content)
+          .contains(
+              ".field(\"billing_address\", \"billingAddress\", ModelCodec.Kind.MODEL,"
+                  + " BillingAddress.class)");
+      assertThat(content)
+          .contains(
+              ".field(\"line_items\", \"lineItems\", ModelCodec.Kind.MODELS,"
+                  + " LineItems.class)");
+      assertThat(content)
+          .contains(".field(\"customer\", \"customer\", ModelCodec.Kind.MODEL, Customer.class)");
+      assertThat(content).contains("ModelCodec.Table<BillingAddress> TABLE");
+      assertThat(content).contains("private BillingAddress(Object[] values)");
+    }
+
+    @Test
+    void shouldKeepCustomFieldsInTable() throws IOException {
+      ObjectSchema customerSchema = new ObjectSchema();
+      customerSchema.addProperty("id", new StringSchema());
+      customerSchema.setAdditionalProperties(true);
+      customerSchema.addExtension("x-cb-is-custom-fields-supported", true);
+
+      String content = generate("Customer", customerSchema);
+
+      assertThat(content).contains(".customFields()");
+      assertThat(content).contains("return TABLE.customFields(values);");
+      assertThat(content).doesNotContain("KNOWN_FIELDS");
+    }
+  }
+
   @Nested
   @DisplayName("Complex Scenarios")
   class ComplexScenariosTests {
@@ -762,7 +762,7 @@ class ServiceBuilderTest {
       assertThat(writeOp.fileContent)
           .contains(
               ".thenApply(response -> CustomerCreateResponse.fromJson(response.getBodyAsString(),"
-                  + " response))");
+                  + " response, LeanResponses.isEnabled(client)))");
     }
 
     @Test
@@ -893,6 +893,114 @@ class ServiceBuilderTest {
           .contains(
               "getWithSubDomainAsync(\"offerEvent\", \"retrieve\", path, SubDomain.GROW.getValue(),");
     }
+
+    @Test
+    @DisplayName("Should send sync and async calls through the site's rate limiter")
+    void shouldSendCallsThroughRateLimiter() throws IOException {
+      Operation createOp = createPostOperationWithRequestBody("customer", "create");
+      addPathWithOperation("/customers", PathItem.HttpMethod.POST, createOp);
+      serviceBuilder.withOutputDirectoryPath(outputPath).withTemplate(mockTemplate);
+
+      List<FileOp> fileOps = serviceBuilder.build(openAPI);
+
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "CustomerService.java");
+      assertThat(writeOp.fileContent).contains("import com.chargebee.v4.internal.RateLimiter;");
+      assertThat(writeOp.fileContent)
+          .contains(
+              "return RateLimiter.execute(client, () -> post(\"customer\", \"create\","
+                  + " \"/customers\", params != null ? params.toFormData() : null));");
+      assertThat(writeOp.fileContent)
+          .contains(
+              "return RateLimiter.executeAsync(client, () -> postAsync(\"customer\", \"create\",");
+    }
+
+    @Test
+    @DisplayName("Should run async calls on the site's executor when one is set")
+    void shouldRunAsyncCallsOnSiteExecutor() throws IOException {
+      Operation createOp = createPostOperationWithRequestBody("customer", "create");
+      addPathWithOperation("/customers", PathItem.HttpMethod.POST, createOp);
+      serviceBuilder.withOutputDirectoryPath(outputPath).withTemplate(mockTemplate);
+
+      List<FileOp> fileOps = serviceBuilder.build(openAPI);
+
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "CustomerService.java");
+      assertThat(writeOp.fileContent)
+          .contains("import com.chargebee.v4.internal.AsyncExecutor;")
+          .contains("Executor executor = AsyncExecutor.forClient(client);")
+          .contains("return AsyncExecutor.supply(executor, () -> create(params));");
+    }
+
+    @Test
+    @DisplayName("Should tell responses whether the site keeps them lean")
+    void shouldPassLeanSettingToResponses() throws IOException {
+      Operation createOp = createPostOperationWithRequestBody("customer", "create");
+      addPathWithOperation("/customers", PathItem.HttpMethod.POST, createOp);
+      serviceBuilder.withOutputDirectoryPath(outputPath).withTemplate(mockTemplate);
+
+      List<FileOp> fileOps = serviceBuilder.build(openAPI);
+
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "CustomerService.java");
+      assertThat(writeOp.fileContent)
+          .contains("import com.chargebee.v4.internal.LeanResponses;")
+          .contains(
+              "CustomerCreateResponse.fromJson(response.getBodyAsString(), response,"
+                  + " LeanResponses.isEnabled(client));");
+    }
+
+    @Test
+    @DisplayName("Should answer GET operations through the response cache")
+    void shouldSendGetCallsThroughResponseCache() throws IOException {
+      Operation retrieveOp = createGetOperationWithQueryParams("invoice", "retrieve");
+      addPathWithOperation("/invoices/{invoice-id}", PathItem.HttpMethod.GET, retrieveOp);
+      serviceBuilder.withOutputDirectoryPath(outputPath).withTemplate(mockTemplate);
+
+      List<FileOp> fileOps = serviceBuilder.build(openAPI);
+
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "InvoiceService.java");
+      assertThat(writeOp.fileContent).contains("import com.chargebee.v4.internal.ResponseCache;");
+      assertThat(writeOp.fileContent)
+          .contains(
+              "return ResponseCache.execute(client, requestOptions, \"invoice\", \"retrieve\", path,"
+                  + " params != null ? params.toQueryParams() : null, (query, etag) ->"
+                  + " conditional(etag).get(\"invoice\", \"retrieve\", path, query));");
+      assertThat(writeOp.fileContent)
+          .contains(
+              "return ResponseCache.executeAsync(client, requestOptions, \"invoice\", \"retrieve\","
+                  + " path, null, (query, etag) -> conditional(etag).getAsync(\"invoice\","
+                  + " \"retrieve\", path, null))");
+    }
+
+    @Test
+    @DisplayName("Should revalidate cached responses through the service with If-None-Match")
+    void shouldRevalidateThroughService() throws IOException {
+      Operation retrieveOp = createGetOperationWithQueryParams("invoice", "retrieve");
+      addPathWithOperation("/invoices/{invoice-id}", PathItem.HttpMethod.GET, retrieveOp);
+      serviceBuilder.withOutputDirectoryPath(outputPath).withTemplate(mockTemplate);
+
+      List<FileOp> fileOps = serviceBuilder.build(openAPI);
+
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "InvoiceService.java");
+      assertThat(writeOp.fileContent)
+          .contains("private InvoiceService conditional(String etag) {")
+          .contains("RequestOptions.builder().header(\"If-None-Match\", etag).build()")
+          .contains("this.requestOptions = options;");
+    }
+
+    @Test
+    @DisplayName("Should send subdomain GET operations to their subdomain")
+    void shouldPassSubDomainToResponseCache() throws IOException {
+      Operation retrieveOp = createGetOperationWithSubDomain("offer_event", "retrieve", "grow");
+      addPathWithOperation("/offer_events/{offer-event-id}", PathItem.HttpMethod.GET, retrieveOp);
+      serviceBuilder.withOutputDirectoryPath(outputPath).withTemplate(mockTemplate);
+
+      List<FileOp> fileOps = serviceBuilder.build(openAPI);
+
+      FileOp.WriteString writeOp = findWriteOp(fileOps, "OfferEventService.java");
+      assertThat(writeOp.fileContent)
+          .contains(
+              "(query, etag) -> conditional(etag).getWithSubDomain(\"offerEvent\", \"retrieve\","
+                  + " path, SubDomain.GROW.getValue(), null)");
+    }
   }
 
   // HELPER METHODS
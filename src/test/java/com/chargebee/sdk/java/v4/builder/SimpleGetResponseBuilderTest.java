@@ -144,6 +144,30 @@ class SimpleGetResponseBuilderTest {
       assertThat(responseFile.fileContent).startsWith("package com.chargebee.v4.models.");
     }
 
+    @Test
+    @DisplayName("Should parse the response body through the streaming decoder")
+    void shouldParseThroughStreamingDecoder() throws IOException {
+      ObjectSchema responseSchema = new ObjectSchema();
+      responseSchema.addProperty("id", new StringSchema());
+      responseSchema.addProperty("created_at", new IntegerSchema());
+
+      addGetOperation("customer", "retrieve", responseSchema);
+
+      responseBuilder.withOutputDirectoryPath(outputPath).withTemplate(template);
+
+      String content =
+          findWriteOp(responseBuilder.build(openAPI), "CustomerRetrieveResponse.java").fileContent;
+
+      assertThat(content)
+          .contains("return fromJson(JsonStreams.reader(json), httpResponse);")
+          .contains(
+              "public static CustomerRetrieveResponse fromJson(JsonReader reader, Response"
+                  + " httpResponse) throws IOException")
+          .contains("case \"id\":")
+          .contains("builder.id(JsonStreams.readString(reader));")
+          .doesNotContain("JsonUtil.parse(json)");
+    }
+
     @Test
     @DisplayName("Should skip paginated list operations")
     void shouldSkipPaginatedListOperations() throws IOException {
@@ -0,0 +1,143 @@
+package com.chargebee.sdk.java.v4.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chargebee.sdk.FileOp;
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import org.junit.jupiter.api.*;
+
+@DisplayName("Webhook Event Router Builder")
+class WebhookEventRouterBuilderTest {
+
+  private WebhookEventRouterBuilder builder;
+  private Template template;
+  private OpenAPI openAPI;
+  private String outputPath;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    builder = new WebhookEventRouterBuilder();
+    outputPath = "/test/output";
+    openAPI = new OpenAPI().components(new Components().schemas(new HashMap<>()));
+
+    Handlebars handlebars =
+        new Handlebars(
+            new com.github.jknack.handlebars.io.ClassPathTemplateLoader(
+                "/templates/java/next", ""));
+    HandlebarsUtil.registerAllHelpers(handlebars);
+    template = handlebars.compile("webhook.event.router.hbs");
+  }
+
+  private void addWebhook(String eventType, String schemaName) {
+    openAPI
+        .getComponents()
+        .addSchemas(
+            schemaName,
+            new ObjectSchema()
+                .addProperty("id", new StringSchema())
+                .addProperty("event_type", new StringSchema()));
+    Operation post =
+        new Operation()
+            .requestBody(
+                new RequestBody()
+                    .content(
+                        new Content()
+                            .addMediaType(
+                                "application/json",
+                                new MediaType()
+                                    .schema(
+                                        new Schema<>()
+                                            .$ref("#/components/schemas/" + schemaName)))));
+    openAPI.addWebhooks(eventType, new PathItem().post(post));
+  }
+
+  @Test
+  @DisplayName("Should not generate the router when the spec has no webhooks")
+  void shouldNotGenerateWithoutWebhooks() throws IOException {
+    assertThat(build()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should generate a typed handler per webhook event in the event package")
+  void shouldGenerateHandlerPerEvent() throws IOException {
+    addWebhook("customer_created", "CustomerCreatedEvent");
+    addWebhook("subscription_renewed", "SubscriptionRenewedEvent");
+
+    FileOp.WriteString writeOp = findWriteOp(build(), "WebhookEventRouter.java");
+    assertThat(writeOp.baseFilePath).endsWith("/com/chargebee/v4/models/event");
+    assertThat(writeOp.fileContent).contains("package com.chargebee.v4.models.event;");
+    assertThat(writeOp.fileContent)
+        .contains("public Builder onCustomerCreated(Handler<CustomerCreatedEvent> handler)");
+    assertThat(writeOp.fileContent)
+        .contains("return route(\"customer_created\", CustomerCreatedEvent::fromJson, handler);");
+    assertThat(writeOp.fileContent)
+        .contains(
+            "public Builder onSubscriptionRenewed(Handler<SubscriptionRenewedEvent> handler)");
+  }
+
+  @Test
+  @DisplayName("Should order handlers by event type")
+  void shouldOrderHandlersByEventType() throws IOException {
+    addWebhook("subscription_renewed", "SubscriptionRenewedEvent");
+    addWebhook("customer_created", "CustomerCreatedEvent");
+
+    String content = findWriteOp(build(), "WebhookEventRouter.java").fileContent;
+
+    assertThat(content.indexOf("onCustomerCreated("))
+        .isLessThan(content.indexOf("onSubscriptionRenewed("));
+  }
+
+  @Test
+  @DisplayName("Should skip webhooks whose payload is not a generated event class")
+  void shouldSkipWebhooksWithoutEventClass() throws IOException {
+    addWebhook("customer_created", "CustomerCreatedEvent");
+    addWebhook("usage_recorded", "UsageEvent");
+    openAPI.addWebhooks("orphan_event", new PathItem().post(new Operation()));
+
+    String content = findWriteOp(build(), "WebhookEventRouter.java").fileContent;
+
+    assertThat(content).contains("onCustomerCreated(");
+    assertThat(content).doesNotContain("onUsageRecorded(");
+    assertThat(content).doesNotContain("onOrphanEvent(");
+  }
+
+  @Test
+  @DisplayName("Should read event_type with a streaming peek before decoding")
+  void shouldPeekEventTypeBeforeDecoding() throws IOException {
+    addWebhook("customer_created", "CustomerCreatedEvent");
+
+    String content = findWriteOp(build(), "WebhookEventRouter.java").fileContent;
+
+    assertThat(content).contains("public static String peekEventType(String body)");
+    assertThat(content).contains("reader.skipValue();");
+    assertThat(content).doesNotContain("JsonParser");
+  }
+
+  private List<FileOp> build() throws IOException {
+    return builder.withOutputDirectoryPath(outputPath).withTemplate(template).build(openAPI);
+  }
+
+  private FileOp.WriteString findWriteOp(List<FileOp> fileOps, String fileName) {
+    return fileOps.stream()
+        .filter(op -> op instanceof FileOp.WriteString)
+        .map(op -> (FileOp.WriteString) op)
+        .filter(op -> op.fileName.equals(fileName))
+        .findFirst()
+        .orElseThrow(
+            () -> new AssertionError("WriteString operation not found for file: " + fileName));
+  }
+}
@@ -0,0 +1,202 @@
+package com.chargebee.sdk.validator;
+
+import static com.chargebee.sdk.test_data.OperationBuilder.*;
+import static com.chargebee.sdk.test_data.ResourceBuilder.buildResource;
+import static com.chargebee.sdk.test_data.ResourceResponseParam.resourceResponseParam;
+import static com.chargebee.sdk.test_data.SpecBuilder.buildSpec;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.MapEntry.entry;
+
+import com.chargebee.sdk.FileOp;
+import com.chargebee.sdk.LanguageTests;
+import io.swagger.v3.oas.models.media.*;
+import java.io.IOException;
+import java.util.List;
+import org.assertj.core.data.MapEntry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link ValidatorCompiled} (standalone compiled validators for chargebee-node). */
+public class ValidatorCompiledTests extends LanguageTests {
+
+  @SuppressWarnings("unchecked")
+  private static final MapEntry<String, Schema<?>> CUSTOMER =
+      (MapEntry<String, Schema<?>>)
+          (MapEntry<?, ?>) buildResource("customer").withAttribute("id", true).done();
+
+  @SuppressWarnings("unchecked")
+  private static final MapEntry<String, Schema<?>> SUBSCRIPTION =
+      (MapEntry<String, Schema<?>>)
+          (MapEntry<?, ?>) buildResource("subscription").withAttribute("id", true).done();
+
+  private static ValidatorCompiled validatorCompiled;
+
+  @BeforeAll
+  static void beforeAll() {
+    validatorCompiled = new ValidatorCompiled();
+  }
+
+  @Test
+  void shouldEmitRuntimeAndIndexWhenThereAreNoResources() throws IOException {
+    var spec = buildSpec().done();
+
+    List<FileOp> fileOps = validatorCompiled.generate("/validators", spec);
+
+    assertThat(fileOps).hasSize(3);
+    assertCreateDirectoryFileOp(fileOps.get(0), "/validators", "");
+    assertWriteStringFileOp(fileOps.get(1), "/validators", "runtime.ts");
+    assertThat(((FileOp.WriteString) fileOps.get(1)).fileContent)
+        .contains("export interface ValidationIssue {")
+        .contains("export function isObject(value: unknown): value is Record<string, unknown> {")
+        .doesNotContain("zod");
+    assertWriteStringFileOp(
+        fileOps.get(2),
+        "/validators",
+        "index.ts",
+        """
+        // Auto-generated barrel export for compiled validators
+        export * from './runtime.js';
+        """);
+  }
+
+  @Test
+  void shouldEmitStraightLineChecksForRequiredAndOptionalFields() throws IOException {
+    var createOp =
+        buildPostOperation("create")
+            .forResource("customer")
+            .withResponse(resourceResponseParam("customer", CUSTOMER))
+            .withRequestBody("email", new StringSchema().format("email").maxLength(70), true)
+            .withRequestBody("first_name", new StringSchema())
+            .withRequestBody("net_term_days", new IntegerSchema())
+            .withSortOrder(0)
+            .done();
+
+    var spec = buildSpec().withResource(CUSTOMER).withPostOperation("/customers", createOp).done();
+
+    String src =
+        findFileContent(validatorCompiled.generate("/validators", spec), "customer.validator.ts");
+
+    assertThat(src)
+        .contains("// Generated compiled validators: Customer")
+        .contains("import { at, isEmail, isObject } from './runtime.js';")
+        .contains("import type { ValidationIssue, ValidationResult } from './runtime.js';")
+        .contains("export type CreateCustomerBody = {")
+        .contains("  email: string;")
+        .contains("  first_name?: string;")
+        .contains("  net_term_days?: number;")
+        .contains("  [key: string]: unknown;")
+        .contains(
+            """
+                const v0 = value['email'];
+                if (v0 === undefined) {
+                  issues.push({ path: at(path, 'email'), message: 'Required' });
+                } else {
+                  if (typeof v0 !== 'string') {
+                    issues.push({ path: at(path, 'email'), message: 'Expected string' });
+                  } else {
+                    if (!isEmail(v0)) {
+                      issues.push({ path: at(path, 'email'), message: 'Invalid email' });
+                    }
+                    if (v0.length > 70) {
+            """)
+        .contains("if (!Number.isSafeInteger(v2)) {")
+        .contains(
+            """
+            export function validateCreateCustomerBody(input: unknown): ValidationResult<CreateCustomerBody> {
+              const issues: ValidationIssue[] = [];
+              checkCreateCustomerBody(input, '', issues);
+            """)
+        .doesNotContain("zod")
+        .doesNotContain("z.");
+  }
+
+  @Test
+  void shouldHoistEnumSetsAndPatternsToModuleConstants() throws IOException {
+    var createOp =
+        buildPostOperation("create")
+            .forResource("customer")
+            .withResponse(resourceResponseParam("customer", CUSTOMER))
+            .withRequestBody("auto_collection", new StringSchema()._enum(List.of("on", "off")))
+            .withRequestBody("phone", new StringSchema().pattern("^\\d{10}$"))
+            .withRequestBody(
+                "tags", new ArraySchema().items(new StringSchema()._enum(List.of("on", "off"))))
+            .withSortOrder(0)
+            .done();
+
+    var spec = buildSpec().withResource(CUSTOMER).withPostOperation("/customers", createOp).done();
+
+    String src =
+        findFileContent(validatorCompiled.generate("/validators", spec), "customer.validator.ts");
+
+    assertThat(src)
+        .contains("const ENUM_0 = new Set(['on', 'off']);")
+        .contains("const PATTERN_1 = new RegExp('^\\\\d{10}$');")
+        .contains("  auto_collection?: 'on' | 'off';")
+        .contains("  tags?: Array<'on' | 'off'>;")
+        .contains("if (typeof v0 !== 'string' || !ENUM_0.has(v0)) {")
+        .contains("if (!PATTERN_1.test(v1)) {")
+        .contains(
+            "issues.push({ path: at(path, 'tags') + '[' + i3 + ']', message: 'Expected one of:"
+                + " on, off' });")
+        .doesNotContain("ENUM_2");
+  }
+
+  @Test
+  void shouldInlineNestedObjectsAndCallSharedValidatorsForRefs() throws IOException {
+    var countrySchema = new ObjectSchema().addProperty("code", new StringSchema());
+    var addressSchema =
+        new ObjectSchema()
+            .addProperty("line1", new StringSchema())
+            .addProperty("country", new Schema<>().$ref("#/components/schemas/Country"));
+    var cardSchema = new ObjectSchema().addProperty("number", new StringSchema());
+    cardSchema.setRequired(List.of("number"));
+    var createOp =
+        buildPostOperation("create")
+            .forResource("subscription")
+            .withResponse(resourceResponseParam("subscription", SUBSCRIPTION))
+            .withRequestBody("card", cardSchema)
+            .withRequestBody("billing_address", new Schema<>().$ref("#/components/schemas/Address"))
+            .withSortOrder(0)
+            .done();
+
+    var spec =
+        buildSpec()
+            .withResource(SUBSCRIPTION)
+            .withResource(entry("Address", addressSchema))
+            .withResource(entry("Country", countrySchema))
+            .withPostOperation("/subscriptions", createOp)
+            .done();
+
+    List<FileOp> fileOps = validatorCompiled.generate("/validators", spec);
+    String action = findFileContent(fileOps, "subscription.validator.ts");
+    String shared = findFileContent(fileOps, "shared.validator.ts");
+
+    assertThat(action)
+        .contains("import { checkAddressBlock } from './shared.validator.js';")
+        .contains("import type { AddressBlock } from './shared.validator.js';")
+        .contains("  card?: {")
+        .contains("    number: string;")
+        .contains("  billing_address?: AddressBlock;")
+        .contains("issues.push({ path: at(path, 'card.number'), message: 'Required' });")
+        .contains("checkAddressBlock(v2, at(path, 'billing_address'), issues);");
+    assertThat(shared)
+        .doesNotContain("from './shared.validator.js'")
+        .contains("export function checkCountryBlock(")
+        .contains("checkCountryBlock(v1, at(path, 'country'), issues);")
+        .contains("  country?: CountryBlock;");
+    assertThat(shared.indexOf("export type CountryBlock = "))
+        .isPositive()
+        .isLessThan(shared.indexOf("export type AddressBlock = "));
+    assertThat(findFileContent(fileOps, "index.ts"))
+        .contains("export * from './shared.validator.js';")
+        .contains("export * from './subscription.validator.js';");
+  }
+
+  private static String findFileContent(List<FileOp> fileOps, String fileName) {
+    return fileOps.stream()
+        .filter(op -> op instanceof FileOp.WriteString ws && ws.fileName.equals(fileName))
+        .map(op -> ((FileOp.WriteString) op).fileContent)
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("No file written: " + fileName));
+  }
+}
@@ -10,6 +10,7 @@ import static org.assertj.core.data.MapEntry.entry;
 import com.chargebee.openapi.Extension;
 import com.chargebee.sdk.FileOp;
 import com.chargebee.sdk.LanguageTests;
+import com.chargebee.sdk.validator.emitter.zod.ZodSchemaConstruction;
 import io.swagger.v3.oas.models.media.*;
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -317,6 +318,50 @@ public class ValidatorZodTests extends LanguageTests {
         .contains("export * from './customer.schema.js';");
   }
 
+  @Test
+  void shouldDeclareSharedSchemasAfterTheSchemasTheyReference() throws IOException {
+    var countrySchema = new ObjectSchema().addProperty("code", new StringSchema());
+    var addressSchema =
+        new ObjectSchema()
+            .addProperty("line1", new StringSchema())
+            .addProperty("country", new Schema<>().$ref("#/components/schemas/Country"));
+    var createCustomer =
+        buildPostOperation("create")
+            .forResource("customer")
+            .withResponse(resourceResponseParam("customer", CUSTOMER))
+            .withRequestBody("billing_address", new Schema<>().$ref("#/components/schemas/Address"))
+            .withSortOrder(0)
+            .done();
+    var createSubscription =
+        buildPostOperation("create")
+            .forResource("subscription")
+            .withResponse(resourceResponseParam("subscription", SUBSCRIPTION))
+            .withRequestBody(
+                "shipping_address", new Schema<>().$ref("#/components/schemas/Address"))
+            .withSortOrder(0)
+            .done();
+
+    var spec =
+        buildSpec()
+            .withResource(CUSTOMER)
+            .withResource(SUBSCRIPTION)
+            .withResource(entry("Address", addressSchema))
+            .withResource(entry("Country", countrySchema))
+            .withPostOperation("/customers", createCustomer)
+            .withPostOperation("/subscriptions", createSubscription)
+            .done();
+
+    String shared = findFileContent(validatorZod.generate("/validators", spec), "shared.schema.ts");
+
+    assertThat(shared.indexOf("const countryBlockSchema = "))
+        .isPositive()
+        .isLessThan(shared.indexOf("const addressBlockSchema = "));
+    for (int i = 0; i < 5; i++) {
+      assertThat(findFileContent(validatorZod.generate("/validators", spec), "shared.schema.ts"))
+          .isEqualTo(shared);
+    }
+  }
+
   // =========================================================================
   // String type constraints
   // =========================================================================
@@ -510,6 +555,56 @@ public class ValidatorZodTests extends LanguageTests {
         .isLessThan(customerSchema.indexOf("export type UpdateCustomerBody"));
   }
 
+  // =========================================================================
+  // Lazy schema construction
+  // =========================================================================
+
+  @Test
+  void shouldWrapBodyAndSharedSchemasInZodLazyWhenLazy() throws IOException {
+    var addressSchema = new ObjectSchema().addProperty("line1", new StringSchema());
+    var createOp =
+        buildPostOperation("create")
+            .forResource("customer")
+            .withResponse(resourceResponseParam("customer", CUSTOMER))
+            .withRequestBody("card", new ObjectSchema().addProperty("number", new StringSchema()))
+            .withRequestBody("billing_address", new Schema<>().$ref("#/components/schemas/Address"))
+            .withSortOrder(0)
+            .done();
+
+    var spec =
+        buildSpec()
+            .withResource(CUSTOMER)
+            .withResource(entry("Address", addressSchema))
+            .withPostOperation("/customers", createOp)
+            .done();
+
+    List<FileOp> fileOps =
+        new ValidatorZod(ZodSchemaConstruction.LAZY).generate("/validators", spec);
+    String action = findFileContent(fileOps, "customer.schema.ts");
+    String shared = findFileContent(fileOps, "shared.schema.ts");
+
+    assertThat(action)
+        .contains(
+            """
+            const CreateCustomerBodySchema = z.lazy(() => {
+              const CreateCustomerCardSchema = z.object({
+                number: z.string().optional()
+              });
+              return z.looseObject({
+                card: CreateCustomerCardSchema.optional(),
+                billing_address: addressBlockSchema.optional()
+              });
+            });
+            export { CreateCustomerBodySchema };
+            export type CreateCustomerBody = z.infer<typeof CreateCustomerBodySchema>;""");
+    assertThat(shared)
+        .contains(
+            """
+            const addressBlockSchema = z.lazy(() => z.object({
+              line1: z.string().optional()
+            }));""");
+  }
+
   // =========================================================================
   // Helpers
   // =========================================================================
@@ -0,0 +1,76 @@
+package com.chargebee.sdk.validator.ast.js;
+
+import static com.chargebee.sdk.validator.ast.js.JsBuilder.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TsPrinterTest {
+
+  private final TsPrinter printer = new TsPrinter();
+
+  private static JsNode optionalObject(String key, JsNode value) {
+    return chain(obj(List.of(prop(key, value))), call("optional"));
+  }
+
+  @Test
+  void printsNestedObjectsWithIndentation() {
+    JsNode node =
+        constDecl(
+            "schema", obj(List.of(prop("billing-address", optionalObject("line1", id("z"))))));
+
+    assertThat(printer.print(node))
+        .isEqualTo(
+            "const schema = {\n"
+                + "  'billing-address': {\n"
+                + "    line1: z\n"
+                + "  }.optional()\n"
+                + "};");
+  }
+
+  @Test
+  void appendsToTheGivenBuilder() {
+    StringBuilder out = new StringBuilder("// header\n");
+
+    printer.print(lit("it's \\d"), out);
+
+    assertThat(out).hasToString("// header\n'it\\'s \\\\d'");
+  }
+
+  @Test
+  void printsDeeplyNestedObjectsBeyondCachedIndents() {
+    int depth = 200;
+    JsNode node = id("z");
+    for (int i = 0; i < depth; i++) {
+      node = optionalObject("k", node);
+    }
+
+    String printed = printer.print(node);
+
+    assertThat(printed.lines().filter(line -> line.strip().equals("k: z")))
+        .singleElement()
+        .satisfies(line -> assertThat(line).isEqualTo("  ".repeat(depth) + "k: z"));
+    assertThat(printed).endsWith("}.optional()");
+  }
+
+  @Test
+  void printsArrowFunctionStatementsBeforeTheReturnedExpression() {
+    JsNode node =
+        constDecl(
+            "schema",
+            callExpr(
+                member("z", "lazy"),
+                arrow(
+                    List.of(constDecl("inner", callExpr(member("z", "string")))),
+                    chain(id("inner"), call("optional")))));
+
+    assertThat(printer.print(node))
+        .isEqualTo(
+            "const schema = z.lazy(() => {\n"
+                + "  const inner = z.string();\n"
+                + "  return inner.optional();\n"
+                + "});");
+    assertThat(printer.print(arrow(id("x")))).isEqualTo("() => x");
+  }
+}
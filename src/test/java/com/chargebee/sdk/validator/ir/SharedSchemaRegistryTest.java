@@ -0,0 +1,98 @@
+package com.chargebee.sdk.validator.ir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SharedSchemaRegistryTest {
+
+  private static ValidationNode object(Map<String, ValidationNode> properties) {
+    Map<String, PropertyEntry> entries = new LinkedHashMap<>();
+    properties.forEach(
+        (name, node) -> entries.put(name, new PropertyEntry(node, false, true, null, null)));
+    return new ValidationNode.ObjectNode(entries, false, null);
+  }
+
+  private static ValidationNode ref(String name) {
+    return new ValidationNode.RefNode(name);
+  }
+
+  @Test
+  void computesEachSchemaOnceAcrossThreads() throws Exception {
+    SharedSchemaRegistry registry = new SharedSchemaRegistry();
+    AtomicInteger builds = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> tasks = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        tasks.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  registry.computeIfAbsent(
+                      "Address",
+                      name -> {
+                        builds.incrementAndGet();
+                        return object(Map.of());
+                      });
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(builds).hasValue(1);
+    assertThat(registry.all()).containsOnlyKeys("Address");
+  }
+
+  @Test
+  void orderByFirstUsePlacesDependenciesFirstRegardlessOfRegistrationOrder() {
+    SharedSchemaRegistry registry = new SharedSchemaRegistry();
+    registry.register("Address", object(Map.of("country", ref("Country"))));
+    registry.register("Card", object(Map.of()));
+    registry.register("Country", object(Map.of()));
+
+    registry.orderByFirstUse(
+        List.of(
+            object(Map.of("billing_address", ref("Address"))),
+            object(Map.of("card", ref("Card")))));
+
+    assertThat(registry.all().keySet()).containsExactly("Country", "Address", "Card");
+  }
+
+  @Test
+  void orderByFirstUseToleratesCycles() {
+    SharedSchemaRegistry registry = new SharedSchemaRegistry();
+    registry.register("Parent", object(Map.of("child", ref("Child"))));
+    registry.register("Child", object(Map.of("parent", ref("Parent"))));
+
+    registry.orderByFirstUse(List.of(ref("Parent")));
+
+    assertThat(registry.all().keySet()).containsExactly("Child", "Parent");
+  }
+
+  @Test
+  void unresolvedSchemaIsNotRegistered() {
+    SharedSchemaRegistry registry = new SharedSchemaRegistry();
+
+    registry.computeIfAbsent("Missing", name -> null);
+
+    assertThat(registry.contains("Missing")).isFalse();
+    assertThat(registry.all()).isEmpty();
+  }
+}
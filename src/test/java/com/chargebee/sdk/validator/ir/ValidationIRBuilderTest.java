@@ -0,0 +1,75 @@
+package com.chargebee.sdk.validator.ir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ValidationIRBuilderTest {
+
+  private static Schema<?> ref(String name) {
+    return new Schema<>().$ref("#/components/schemas/" + name);
+  }
+
+  private static OpenAPI specWith(Map<String, Schema> schemas) {
+    return new OpenAPI().components(new Components().schemas(schemas));
+  }
+
+  @Test
+  void circularRefsBecomeRefNodesAndVisitingIsRestored() {
+    Schema<?> parent = new ObjectSchema().addProperty("child", ref("Child"));
+    Schema<?> child = new ObjectSchema().addProperty("parent", ref("Parent"));
+    SharedSchemaRegistry registry = new SharedSchemaRegistry();
+    ValidationIRBuilder builder =
+        new ValidationIRBuilder(specWith(Map.of("Parent", parent, "Child", child)), registry);
+    Set<String> visiting = new HashSet<>();
+
+    ValidationNode root = builder.buildNode(ref("Parent"), visiting);
+
+    assertThat(root).isEqualTo(new ValidationNode.RefNode("Parent"));
+    assertThat(visiting).isEmpty();
+    assertThat(registry.all()).containsOnlyKeys("Parent", "Child");
+    ValidationNode.ObjectNode childNode = (ValidationNode.ObjectNode) registry.get("Child");
+    assertThat(childNode.properties().get("parent").node())
+        .isEqualTo(new ValidationNode.RefNode("Parent"));
+  }
+
+  @Test
+  void siblingPropertiesReferencingTheSameSchemaAreBothRefs() {
+    Schema<?> body =
+        new ObjectSchema()
+            .addProperty("billing_address", ref("Address"))
+            .addProperty("shipping_address", ref("Address"));
+    SharedSchemaRegistry registry = new SharedSchemaRegistry();
+    ValidationIRBuilder builder =
+        new ValidationIRBuilder(
+            specWith(Map.of("Address", new ObjectSchema().addProperty("city", new StringSchema()))),
+            registry);
+
+    ValidationNode.ObjectNode root =
+        (ValidationNode.ObjectNode) builder.buildRootNode(body, new HashSet<>());
+
+    assertThat(root.properties().values())
+        .extracting(PropertyEntry::node)
+        .containsOnly(new ValidationNode.RefNode("Address"));
+    assertThat(registry.all()).containsOnlyKeys("Address");
+  }
+
+  @Test
+  void danglingRefIsNotRegistered() {
+    SharedSchemaRegistry registry = new SharedSchemaRegistry();
+    ValidationIRBuilder builder = new ValidationIRBuilder(new OpenAPI(), registry);
+
+    ValidationNode node = builder.buildNode(ref("Missing"), new HashSet<>());
+
+    assertThat(node).isEqualTo(new ValidationNode.RefNode("Missing"));
+    assertThat(registry.contains("Missing")).isFalse();
+  }
+}